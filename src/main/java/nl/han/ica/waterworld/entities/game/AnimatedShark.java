@@ -15,6 +15,11 @@ public class AnimatedShark extends UpdatableSpriteEntity implements Collider {
         setAutoCycle(25);
     }
 
+    @Override
+    public int getCollisionCategory() {
+        return CollisionCategories.SHARK;
+    }
+
     @Override
     public void notifyBoundaryCrossing(SceneBorder border) {
         if (border.equals(SceneBorder.LEFT)) {
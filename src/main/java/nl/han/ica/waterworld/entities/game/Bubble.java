@@ -3,6 +3,7 @@ package nl.han.ica.waterworld.entities.game;
 import nl.han.ica.waterworld.scenes.levels.Level;
 import nl.han.ica.yaeger.engine.entities.collisions.Collider;
 import nl.han.ica.yaeger.engine.entities.collisions.CollisionSide;
+import nl.han.ica.yaeger.engine.entities.entity.Poolable;
 import nl.han.ica.yaeger.engine.entities.entity.Position;
 import nl.han.ica.yaeger.engine.entities.entity.sprites.Size;
 import nl.han.ica.yaeger.engine.entities.entity.sprites.Movement;
@@ -11,14 +12,41 @@ import nl.han.ica.yaeger.engine.scenes.SceneBorder;
 import nl.han.ica.yaeger.engine.entities.collisions.Collided;
 import nl.han.ica.yaeger.engine.entities.entity.sprites.UpdatableSpriteEntity;
 
-public abstract class Bubble extends UpdatableSpriteEntity implements Collided {
+public abstract class Bubble extends UpdatableSpriteEntity implements Collided, Poolable {
 
     private static final String AUDIO_POP_MP3 = "audio/pop.mp3";
     private final Level level;
+    private final Position initialPosition;
+    private final double initialSpeed;
 
     Bubble(final Position position, final String resource, final double speed, final Level game) {
         super(resource, position, new Size(20, 20), 0, new Movement(Movement.Direction.UP, speed));
         this.level = game;
+        this.initialPosition = position;
+        this.initialSpeed = speed;
+    }
+
+    /**
+     * Restore the image, {@link Position} and {@link Movement} this {@code Bubble} was created with, so it is in the
+     * same state as a new {@code Bubble}.
+     */
+    @Override
+    public void reset() {
+        restoreImage();
+        setPosition(initialPosition);
+        setDirection(Movement.Direction.UP);
+        setSpeed(initialSpeed);
+    }
+
+    /**
+     * Place this {@code Bubble} at the bottom of the screen again, with a new speed.
+     *
+     * @param position the new {@link Position}
+     * @param speed    the new speed
+     */
+    public void launch(final Position position, final double speed) {
+        setPosition(position);
+        setSpeed(speed);
     }
 
     @Override
@@ -28,6 +56,11 @@ public abstract class Bubble extends UpdatableSpriteEntity implements Collided {
         }
     }
 
+    @Override
+    public int getCollisionMask() {
+        return CollisionCategories.PLAYER | CollisionCategories.SHARK;
+    }
+
     @Override
     public void onCollision(Collider collidingObject, CollisionSide collisionSide) {
         if (collidingObject instanceof AnimatedShark) {
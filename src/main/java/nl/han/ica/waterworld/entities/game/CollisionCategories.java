@@ -0,0 +1,14 @@
+package nl.han.ica.waterworld.entities.game;
+
+/**
+ * The collision categories of the entities of Waterworld.
+ */
+final class CollisionCategories {
+
+    static final int PLAYER = 1;
+    static final int SHARK = 1 << 1;
+    static final int SWORDFISH = 1 << 2;
+
+    private CollisionCategories() {
+    }
+}
@@ -56,6 +56,16 @@ public class Player extends UpdatableSpriteEntity implements KeyListener, Collid
         }
     }
 
+    @Override
+    public int getCollisionCategory() {
+        return CollisionCategories.PLAYER;
+    }
+
+    @Override
+    public int getCollisionMask() {
+        return CollisionCategories.SHARK | CollisionCategories.SWORDFISH;
+    }
+
     @Override
     public void onCollision(Collider collidingObject, CollisionSide collisionSide) {
         if (collidingObject instanceof Swordfish || collidingObject instanceof AnimatedShark) {
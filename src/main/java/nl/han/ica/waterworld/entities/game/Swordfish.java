@@ -15,6 +15,11 @@ public class Swordfish extends UpdatableSpriteEntity implements Collider {
         super(IMAGES_SWORDFISH_PNG, position, new Size(300, 108), 1, new Movement(Movement.Direction.LEFT, 2));
     }
 
+    @Override
+    public int getCollisionCategory() {
+        return CollisionCategories.SWORDFISH;
+    }
+
     @Override
     public void notifyBoundaryCrossing(SceneBorder border) {
         if (border.equals(SceneBorder.LEFT)) {
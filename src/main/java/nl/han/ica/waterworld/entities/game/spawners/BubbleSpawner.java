@@ -23,13 +23,19 @@ public class BubbleSpawner extends EntitySpawner {
     }
 
     private void createAir() {
-        var air = new Air(generateRandomPosition(), generateRandomSpeed(), waterworld);
+        var position = generateRandomPosition();
+        var speed = generateRandomSpeed();
+        var air = acquire(Air.class, () -> new Air(position, speed, waterworld));
+        air.launch(position, speed);
 
         spawn(air);
     }
 
     private void createPoison() {
-        var poison = new Poison(generateRandomPosition(), generateRandomSpeed(), waterworld);
+        var position = generateRandomPosition();
+        var speed = generateRandomSpeed();
+        var poison = acquire(Poison.class, () -> new Poison(position, speed, waterworld));
+        poison.launch(position, speed);
 
         spawn(poison);
     }
@@ -6,6 +6,7 @@ import nl.han.ica.waterworld.Waterworld;
 import nl.han.ica.waterworld.entities.game.Player;
 import nl.han.ica.waterworld.entities.game.Swordfish;
 import nl.han.ica.waterworld.entities.game.spawners.BubbleSpawner;
+import nl.han.ica.yaeger.engine.entities.collisions.SpatialHashCollisionStrategy;
 import nl.han.ica.yaeger.engine.entities.entity.Position;
 import nl.han.ica.yaeger.engine.entities.entity.text.TextEntity;
 import nl.han.ica.yaeger.engine.scenes.impl.DynamicScene;
@@ -48,6 +49,7 @@ public abstract class Level extends DynamicScene {
     @Override
     public void setupScene() {
         setBackgroundAudio(BACKGROUND_AUDIO);
+        setCollisionStrategy(new SpatialHashCollisionStrategy());
     }
 
     /**
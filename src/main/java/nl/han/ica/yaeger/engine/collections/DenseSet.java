@@ -0,0 +1,218 @@
+package nl.han.ica.yaeger.engine.collections;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * A {@code DenseSet} is a {@link java.util.Set} that stores its elements in a densely packed array, together with
+ * a {@link Map} from each element to its index. Adding, removing and looking up an element takes constant time
+ * and iterating walks linearly through the array.
+ *
+ * <p>
+ * Contrary to a {@link java.util.HashSet}, the iteration order does not depend on hash codes. Elements are iterated
+ * in the order in which they were added. When an element is removed, the last element takes its place. The order
+ * therefore only depends on the order of the calls of {@link #add(Object)} and {@link #remove(Object)}, which makes
+ * it the same for every run of a game.
+ * </p>
+ *
+ * <p>
+ * Elements are compared using {@link Object#equals(Object)}, unless the {@code DenseSet} is created through
+ * {@link #withIdentity()}, in which case they are compared by reference.
+ * </p>
+ *
+ * @param <E> the type of the elements
+ */
+public class DenseSet<E> extends AbstractSet<E> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<E, Integer> indices;
+    private Object[] elements = new Object[INITIAL_CAPACITY];
+    private int size;
+    private int modCount;
+
+    /**
+     * Create a new, empty {@code DenseSet}.
+     */
+    public DenseSet() {
+        this(new HashMap<>());
+    }
+
+    /**
+     * Create a new {@code DenseSet} that contains all elements of the given {@link Collection}, in its iteration
+     * order.
+     *
+     * @param collection the {@link Collection} whose elements should be added
+     */
+    public DenseSet(Collection<? extends E> collection) {
+        this();
+        addAll(collection);
+    }
+
+    private DenseSet(Map<E, Integer> indices) {
+        this.indices = indices;
+    }
+
+    /**
+     * Create a new, empty {@code DenseSet} that compares its elements by reference, instead of through
+     * {@link Object#equals(Object)}. Use it for elements of which the equality or the hash code changes while they
+     * are part of the {@code DenseSet}.
+     *
+     * @param <E> the type of the elements
+     * @return a new {@code DenseSet}
+     */
+    public static <E> DenseSet<E> withIdentity() {
+        return new DenseSet<>(new IdentityHashMap<>());
+    }
+
+    @Override
+    public boolean add(E element) {
+        if (indices.containsKey(element)) {
+            return false;
+        }
+
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+        }
+        indices.put(element, size);
+        elements[size++] = element;
+        modCount++;
+
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        var index = indices.remove(element);
+        if (index == null) {
+            return false;
+        }
+
+        removeAt(index);
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return indices.containsKey(element);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        indices.clear();
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * @param index the index of the element, between {@code 0} and {@link #size()}
+     * @return the element at the given index
+     * @throws IndexOutOfBoundsException if the index is not smaller than {@link #size()}
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return (E) elements[index];
+    }
+
+    /**
+     * Perform the given action for each element. Contrary to iterating with an {@link Iterator}, this does not
+     * create any objects.
+     *
+     * @param action the action to be performed
+     * @throws ConcurrentModificationException if the {@code DenseSet} is modified by the action
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        var expectedModCount = modCount;
+
+        for (var i = 0; i < size; i++) {
+            action.accept((E) elements[i]);
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new DenseSetIterator();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void removeAt(int index) {
+        var last = --size;
+        if (index != last) {
+            elements[index] = elements[last];
+            indices.put((E) elements[index], index);
+        }
+        elements[last] = null;
+        modCount++;
+    }
+
+    /**
+     * A {@code DenseSetIterator} walks through the array. When the current element is removed, the last element is
+     * moved to its index, so that index is visited again.
+     */
+    private class DenseSetIterator implements Iterator<E> {
+
+        private int cursor;
+        private int current = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+
+            current = cursor++;
+            return get(current);
+        }
+
+        @Override
+        public void remove() {
+            if (current < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+
+            indices.remove(elements[current]);
+            removeAt(current);
+
+            cursor = current;
+            current = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
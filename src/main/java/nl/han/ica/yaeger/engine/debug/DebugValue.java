@@ -0,0 +1,58 @@
+package nl.han.ica.yaeger.engine.debug;
+
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * A {@code DebugValue} writes a value of the {@link Debugger} to its text, but only if the value differs from the
+ * one that was written last. This way no strings are created and no layout passes are triggered for values that did
+ * not change.
+ */
+class DebugValue {
+
+    private static final long UNSET = Long.MIN_VALUE;
+    private static final double TENTHS = 10d;
+
+    private final Consumer<String> text;
+    private long first = UNSET;
+    private long second = UNSET;
+
+    /**
+     * Create a new {@code DebugValue}.
+     *
+     * @param text the {@link Consumer} that writes the text, usually {@link javafx.scene.control.Label#setText}
+     */
+    DebugValue(Consumer<String> text) {
+        this.text = text;
+    }
+
+    /**
+     * Show a single value.
+     *
+     * @param value the value to be shown
+     */
+    void show(long value) {
+        if (value == first) {
+            return;
+        }
+
+        first = value;
+        text.accept(String.valueOf(value));
+    }
+
+    /**
+     * Show two values, given in tenths, as {@code "first / second"} with a single decimal.
+     *
+     * @param firstTenths  the first value, in tenths
+     * @param secondTenths the second value, in tenths
+     */
+    void showTenths(long firstTenths, long secondTenths) {
+        if (firstTenths == first && secondTenths == second) {
+            return;
+        }
+
+        first = firstTenths;
+        second = secondTenths;
+        text.accept(String.format(Locale.ROOT, "%.1f / %.1f", firstTenths / TENTHS, secondTenths / TENTHS));
+    }
+}
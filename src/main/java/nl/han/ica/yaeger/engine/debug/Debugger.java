@@ -8,13 +8,32 @@ import nl.han.ica.yaeger.engine.media.repositories.AudioRepository;
 import nl.han.ica.yaeger.engine.media.repositories.ImageRepository;
 import nl.han.ica.yaeger.javafx.factories.debug.DebugLabelFactory;
 import nl.han.ica.yaeger.engine.entities.EntityCollectionStatistics;
+import nl.han.ica.yaeger.engine.entities.UpdatePhase;
+import nl.han.ica.yaeger.javafx.factories.debug.DebugCanvasFactory;
 import nl.han.ica.yaeger.javafx.factories.debug.DebugGridPaneFactory;
 
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * The {@code Debugger} is used to gather and show in game debug information.
+ *
+ * <p>
+ * While hidden, the {@code Debugger} is not registered with its {@link StatisticsObservable}, so it costs nothing
+ * per frame. While visible, it samples the statistics at a limited rate (see {@link #setSampleRate(double)}) and
+ * only writes the values that changed since the previous sample.
+ * </p>
  */
 public class Debugger implements StatisticsObserver {
 
+    /**
+     * The default number of times per second the statistics are sampled while the {@code Debugger} is visible.
+     */
+    public static final double DEFAULT_SAMPLE_RATE = 4;
+
     private static final String YAEGER_DEBUGGER_TITLE = "YAEGER DEBUGGER";
     private static final String PROCESSORS_AMOUNT = "Available processors:";
     private static final String MEMORY_ALLOCATED = "Total allocated memory:";
@@ -24,31 +43,80 @@ public class Debugger implements StatisticsObserver {
     private static final String SUPPLIERS = "Suppliers:";
     private static final String GARBAGE = "Garbage:";
     private static final String KEYLISTENERS = "Keylistening Entities:";
+    private static final String ENTITIES_STORED = "Stored Entities:";
     private static final String AUDIO_FILES = "Audio files";
     private static final String IMAGE_FILES = "Image files";
+    private static final String TIMINGS = "Timings avg / p99 (µs)";
+    private static final long NANOS_PER_TENTH_MICRO = 100;
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
 
     private AudioRepository audioRepository;
     private ImageRepository imageRepository;
 
     private DebugGridPaneFactory debugGridPaneFactory;
     private DebugLabelFactory debugLabelFactory;
+    private DebugCanvasFactory debugCanvasFactory;
+
+    private final List<GarbageCollectorMXBean> garbageCollectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private long initialGcCount;
+    private long initialGcTime;
+
+    private StatisticsObservable observable;
+    private long sampleInterval = toInterval(DEFAULT_SAMPLE_RATE);
+    private long lastSample;
+    private boolean sampled;
 
     private GridPane gridpane;
-    private Label dynamicEntities;
-    private Label staticEntities;
-    private Label entitySpawners;
-    private Label keyListeningEntities;
-    private Label garbageEntities;
-    private Label usedMemory;
-    private Label allocatedMemory;
+    private DebugValue dynamicEntities;
+    private DebugValue staticEntities;
+    private DebugValue entitySpawners;
+    private DebugValue keyListeningEntities;
+    private DebugValue garbageEntities;
+    private DebugValue storedEntities;
+    private DebugValue usedMemory;
+    private DebugValue allocatedMemory;
 
-    private Label audioFiles;
-    private Label imageFiles;
+    private DebugValue audioFiles;
+    private DebugValue imageFiles;
+    private final Map<UpdatePhase, DebugValue> timings = new EnumMap<>(UpdatePhase.class);
+    private FrameTimeGraph frameTimeGraph;
 
     public void setup(Group group) {
         createGridPane(group);
     }
 
+    /**
+     * Observe the given {@link StatisticsObservable}. The {@code Debugger} only registers itself as a
+     * {@link StatisticsObserver} while it is visible.
+     *
+     * @param observable the {@link StatisticsObservable} to be observed
+     */
+    public void observe(StatisticsObservable observable) {
+        if (this.observable != null) {
+            this.observable.removeStatisticsObserver(this);
+        }
+
+        this.observable = observable;
+
+        if (isVisible()) {
+            observable.addStatisticsObserver(this);
+        }
+    }
+
+    /**
+     * Set the number of times per second the statistics are sampled while the {@code Debugger} is visible. The
+     * default is {@link #DEFAULT_SAMPLE_RATE}.
+     *
+     * @param samplesPerSecond the number of samples per second
+     * @throws IllegalArgumentException if {@code samplesPerSecond} is not positive
+     */
+    public void setSampleRate(double samplesPerSecond) {
+        if (!(samplesPerSecond > 0)) {
+            throw new IllegalArgumentException("The sample rate should be positive, but was " + samplesPerSecond);
+        }
+        sampleInterval = toInterval(samplesPerSecond);
+    }
+
     /**
      * Ensure that the {@link Debugger} is brought to the top of the viewstack.
      */
@@ -60,7 +128,19 @@ public class Debugger implements StatisticsObserver {
      * Toggle the visibillity of the {@link Debugger}.
      */
     public void toggle() {
-        gridpane.setVisible(!gridpane.isVisible());
+        var visible = !gridpane.isVisible();
+        gridpane.setVisible(visible);
+
+        if (observable == null) {
+            return;
+        }
+
+        if (visible) {
+            sampled = false;
+            observable.addStatisticsObserver(this);
+        } else {
+            observable.removeStatisticsObserver(this);
+        }
     }
 
     /**
@@ -72,21 +152,48 @@ public class Debugger implements StatisticsObserver {
      */
     @Override
     public void update(EntityCollectionStatistics entityCollectionStatistics) {
-        if (!gridpane.isVisible()) {
+        if (!isVisible() || !sample(System.nanoTime())) {
             return;
         }
 
-        dynamicEntities.setText(String.valueOf(entityCollectionStatistics.getUpdatables()));
-        staticEntities.setText(String.valueOf(entityCollectionStatistics.getStatics()));
-        keyListeningEntities.setText(String.valueOf(entityCollectionStatistics.getKeyListeners()));
-        entitySpawners.setText(String.valueOf(entityCollectionStatistics.getSuppliers()));
-        garbageEntities.setText(String.valueOf(entityCollectionStatistics.getGarbage()));
+        dynamicEntities.show(entityCollectionStatistics.getUpdatables());
+        staticEntities.show(entityCollectionStatistics.getStatics());
+        keyListeningEntities.show(entityCollectionStatistics.getKeyListeners());
+        entitySpawners.show(entityCollectionStatistics.getSuppliers());
+        garbageEntities.show(entityCollectionStatistics.getGarbage());
+        storedEntities.show(entityCollectionStatistics.getStoredEntities());
+
+        allocatedMemory.show(getTotalMemory());
+        usedMemory.show(getUsedMemory());
+
+        audioFiles.show(audioRepository.size());
+        imageFiles.show(imageRepository.size());
+
+        timings.forEach((phase, value) -> showTiming(value, entityCollectionStatistics.getTiming(phase)));
+
+        frameTimeGraph.draw(entityCollectionStatistics.getFrameTimes(), getGcCount() - initialGcCount,
+                getGcTime() - initialGcTime);
+    }
+
+    /**
+     * Check whether the statistics should be sampled at the given time, given the sample rate. The first call after
+     * the {@code Debugger} became visible always samples.
+     *
+     * @param now the current time in nanoseconds
+     * @return {@code true} if the statistics should be sampled
+     */
+    boolean sample(long now) {
+        if (sampled && now - lastSample < sampleInterval) {
+            return false;
+        }
 
-        allocatedMemory.setText(getTotalMemory());
-        usedMemory.setText(getUsedMemory());
+        sampled = true;
+        lastSample = now;
+        return true;
+    }
 
-        audioFiles.setText(String.valueOf(audioRepository.size()));
-        imageFiles.setText(String.valueOf(imageRepository.size()));
+    private boolean isVisible() {
+        return gridpane != null && gridpane.isVisible();
     }
 
     private void createGridPane(Group group) {
@@ -96,6 +203,8 @@ public class Debugger implements StatisticsObserver {
         addSystemStatistics();
         addEntityStatistics();
         addResourcesStatistics();
+        addTimingStatistics();
+        addFrameTimeGraph();
 
         group.getChildren().add(gridpane);
     }
@@ -107,8 +216,8 @@ public class Debugger implements StatisticsObserver {
     private void addSystemStatistics() {
         addDebugLine(PROCESSORS_AMOUNT, String.valueOf(Runtime.getRuntime().availableProcessors()));
 
-        allocatedMemory = addDebugLine(MEMORY_ALLOCATED, getTotalMemory());
-        usedMemory = addDebugLine(MEMORY_USED, getUsedMemory());
+        allocatedMemory = addDebugLine(MEMORY_ALLOCATED);
+        usedMemory = addDebugLine(MEMORY_USED);
     }
 
     private void addEntityStatistics() {
@@ -117,6 +226,7 @@ public class Debugger implements StatisticsObserver {
         entitySpawners = addDebugLine(SUPPLIERS);
         garbageEntities = addDebugLine(GARBAGE);
         keyListeningEntities = addDebugLine(KEYLISTENERS);
+        storedEntities = addDebugLine(ENTITIES_STORED);
     }
 
     private void addResourcesStatistics() {
@@ -124,8 +234,28 @@ public class Debugger implements StatisticsObserver {
         imageFiles = addDebugLine(IMAGE_FILES);
     }
 
-    private Label addDebugLine(String label) {
-        return addDebugLine(label, "");
+    private void addTimingStatistics() {
+        int nextrow = gridpane.getRowCount() + 1;
+        gridpane.add(debugLabelFactory.createLabel(TIMINGS), 0, nextrow, 2, 1);
+
+        for (var phase : UpdatePhase.values()) {
+            timings.put(phase, addDebugLine(describe(phase)));
+        }
+    }
+
+    private void addFrameTimeGraph() {
+        frameTimeGraph = new FrameTimeGraph(debugCanvasFactory.create(FrameTimeGraph.WIDTH, FrameTimeGraph.HEIGHT));
+        initialGcCount = getGcCount();
+        initialGcTime = getGcTime();
+
+        int nextrow = gridpane.getRowCount() + 1;
+        gridpane.add(frameTimeGraph.getCanvas(), 0, nextrow, 2, 1);
+    }
+
+    private DebugValue addDebugLine(String label) {
+        Label debugValue = addDebugLine(label, "");
+
+        return new DebugValue(text -> debugValue.setText(text));
     }
 
     private Label addDebugLine(String label, String value) {
@@ -137,12 +267,42 @@ public class Debugger implements StatisticsObserver {
         return debugValue;
     }
 
-    private String getTotalMemory() {
-        return String.valueOf(Runtime.getRuntime().totalMemory());
+    private static String describe(UpdatePhase phase) {
+        var name = phase.name().replace('_', ' ').toLowerCase();
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1) + ":";
     }
 
-    private String getUsedMemory() {
-        return String.valueOf(Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory());
+    private static void showTiming(DebugValue value, TimingHistogram timing) {
+        value.showTenths(Math.round(timing.getAverage() / NANOS_PER_TENTH_MICRO),
+                Math.round((double) timing.getP99() / NANOS_PER_TENTH_MICRO));
+    }
+
+    private static long toInterval(double samplesPerSecond) {
+        return Math.round(NANOS_PER_SECOND / samplesPerSecond);
+    }
+
+    private long getGcCount() {
+        var total = 0L;
+        for (var i = 0; i < garbageCollectors.size(); i++) {
+            total += Math.max(0, garbageCollectors.get(i).getCollectionCount());
+        }
+        return total;
+    }
+
+    private long getGcTime() {
+        var total = 0L;
+        for (var i = 0; i < garbageCollectors.size(); i++) {
+            total += Math.max(0, garbageCollectors.get(i).getCollectionTime());
+        }
+        return total;
+    }
+
+    private long getTotalMemory() {
+        return Runtime.getRuntime().totalMemory();
+    }
+
+    private long getUsedMemory() {
+        return Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
     }
 
     @Inject
@@ -164,4 +324,9 @@ public class Debugger implements StatisticsObserver {
     public void setDebugLabelFactory(DebugLabelFactory debugLabelFactory) {
         this.debugLabelFactory = debugLabelFactory;
     }
+
+    @Inject
+    public void setDebugCanvasFactory(DebugCanvasFactory debugCanvasFactory) {
+        this.debugCanvasFactory = debugCanvasFactory;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package nl.han.ica.yaeger.engine.debug;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.paint.Color;
+
+import java.util.Locale;
+
+/**
+ * A {@code FrameTimeGraph} draws the recent frame times onto a single {@link Canvas}, which is reused for every
+ * frame. Each frame is a bar, of which the color shows whether it met the target of 60 frames per second. The worst
+ * frame in the window is marked, and the current and average frame rate and the garbage collections since the
+ * {@link Debugger} was set up are written above the graph.
+ */
+class FrameTimeGraph {
+
+    static final double WIDTH = 240;
+    static final double HEIGHT = 80;
+
+    private static final double TEXT_HEIGHT = 14;
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+    private static final double TARGET_NANOS = NANOS_PER_SECOND / 60;
+    private static final double MAX_NANOS = 2 * TARGET_NANOS;
+
+    private static final Color GOOD = Color.LIMEGREEN;
+    private static final Color LATE = Color.ORANGE;
+    private static final Color DROPPED = Color.RED;
+    private static final Color GUIDE = Color.gray(1, 0.5);
+    private static final Color TEXT = Color.WHITE;
+
+    private final Canvas canvas;
+
+    /**
+     * Create a new {@code FrameTimeGraph}.
+     *
+     * @param canvas the {@link Canvas} to draw on, of {@link #WIDTH} by {@link #HEIGHT}
+     */
+    FrameTimeGraph(Canvas canvas) {
+        this.canvas = canvas;
+    }
+
+    /**
+     * @return the {@link Canvas} this {@code FrameTimeGraph} draws on
+     */
+    Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Draw the graph.
+     *
+     * @param frameTimes    the {@link TimingHistogram} with the recent frame times
+     * @param gcCount       the number of garbage collections
+     * @param gcTimeMillis  the accumulated duration of the garbage collections in milliseconds
+     */
+    void draw(TimingHistogram frameTimes, long gcCount, long gcTimeMillis) {
+        var graphics = canvas.getGraphicsContext2D();
+        graphics.clearRect(0, 0, WIDTH, HEIGHT);
+
+        var graphHeight = HEIGHT - TEXT_HEIGHT;
+        var barWidth = WIDTH / frameTimes.getWindowSize();
+        var count = frameTimes.getCount();
+        var worst = frameTimes.getMax();
+        var worstX = -1d;
+
+        for (var age = 0; age < count; age++) {
+            var nanos = frameTimes.getRecent(age);
+            var x = WIDTH - (age + 1) * barWidth;
+            var barHeight = Math.min(nanos, MAX_NANOS) / MAX_NANOS * graphHeight;
+
+            graphics.setFill(colorOf(nanos));
+            graphics.fillRect(x, HEIGHT - barHeight, barWidth, barHeight);
+
+            if (nanos == worst && worstX < 0) {
+                worstX = x;
+            }
+        }
+
+        var targetY = HEIGHT - TARGET_NANOS / MAX_NANOS * graphHeight;
+        graphics.setStroke(GUIDE);
+        graphics.strokeLine(0, targetY, WIDTH, targetY);
+
+        if (worstX >= 0) {
+            graphics.setStroke(DROPPED);
+            graphics.strokeLine(worstX, TEXT_HEIGHT, worstX, HEIGHT);
+        }
+
+        graphics.setFill(TEXT);
+        graphics.fillText(describe(frameTimes, gcCount, gcTimeMillis), 0, TEXT_HEIGHT - 2);
+    }
+
+    private static Color colorOf(long nanos) {
+        if (nanos <= TARGET_NANOS) {
+            return GOOD;
+        } else if (nanos <= MAX_NANOS) {
+            return LATE;
+        } else {
+            return DROPPED;
+        }
+    }
+
+    private static String describe(TimingHistogram frameTimes, long gcCount, long gcTimeMillis) {
+        return String.format(Locale.ROOT, "FPS %.0f (avg %.0f)  worst %.1f ms  GC %d / %d ms",
+                toFps(frameTimes.getLast()), toFps(frameTimes.getAverage()),
+                frameTimes.getMax() / NANOS_PER_MILLI, gcCount, gcTimeMillis);
+    }
+
+    private static double toFps(double nanos) {
+        return nanos == 0 ? 0 : NANOS_PER_SECOND / nanos;
+    }
+}
@@ -0,0 +1,22 @@
+package nl.han.ica.yaeger.engine.debug;
+
+/**
+ * A {@link StatisticsObservable} will function as the {@code Observable} from the Observable-pattern, for the
+ * instances of {@link StatisticsObserver} that are interested in its statistics.
+ */
+public interface StatisticsObservable {
+
+    /**
+     * Add a {@link StatisticsObserver}.
+     *
+     * @param observer the {@link StatisticsObserver} to be added
+     */
+    void addStatisticsObserver(StatisticsObserver observer);
+
+    /**
+     * Remove a {@link StatisticsObserver}, after which it will no longer be notified.
+     *
+     * @param observer the {@link StatisticsObserver} to be removed
+     */
+    void removeStatisticsObserver(StatisticsObserver observer);
+}
@@ -0,0 +1,210 @@
+package nl.han.ica.yaeger.engine.debug;
+
+import java.util.Arrays;
+
+/**
+ * A {@code TimingHistogram} keeps track of the last {@link #getWindowSize()} durations that were recorded, for
+ * example the duration of a phase of the {@code Gameloop}. It reports the minimum, average, maximum and percentiles
+ * over this rolling window.
+ *
+ * <p>
+ * All memory is allocated up front, so recording a duration and reading the statistics never create any objects.
+ * Durations are counted in buckets of which the width grows with the duration: every power of two is split into
+ * {@value #SUB_BUCKETS} buckets. A percentile is therefore reported as the upper bound of its bucket, which is at
+ * most 12.5% higher than the exact value. The minimum, average and maximum are exact.
+ * </p>
+ */
+public class TimingHistogram {
+
+    /**
+     * The default number of durations that are taken into account.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 128;
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final long[] window;
+    private final int[] buckets = new int[BUCKETS];
+    private int next;
+    private int count;
+    private long sum;
+    private long last;
+
+    /**
+     * Create a new {@code TimingHistogram} with a window of {@link #DEFAULT_WINDOW_SIZE}.
+     */
+    public TimingHistogram() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Create a new {@code TimingHistogram}.
+     *
+     * @param windowSize the number of durations that are taken into account
+     * @throws IllegalArgumentException if {@code windowSize} is smaller than {@code 1}
+     */
+    public TimingHistogram(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("The window size should be at least 1, but was " + windowSize);
+        }
+        window = new long[windowSize];
+    }
+
+    /**
+     * Record a duration. When the window is full, the oldest duration is discarded.
+     *
+     * @param nanos the duration in nanoseconds, negative values are treated as {@code 0}
+     */
+    public void record(long nanos) {
+        var value = Math.max(0, nanos);
+
+        if (count == window.length) {
+            var oldest = window[next];
+            buckets[bucketOf(oldest)]--;
+            sum -= oldest;
+        } else {
+            count++;
+        }
+
+        window[next] = value;
+        buckets[bucketOf(value)]++;
+        sum += value;
+        last = value;
+        next = (next + 1) % window.length;
+    }
+
+    /**
+     * @return the number of durations in the window
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return the number of durations that are taken into account
+     */
+    public int getWindowSize() {
+        return window.length;
+    }
+
+    /**
+     * @return the most recently recorded duration in nanoseconds, or {@code 0} if nothing has been recorded
+     */
+    public long getLast() {
+        return last;
+    }
+
+    /**
+     * Return a duration from the window, counting back from the most recent one. This can be used to draw the
+     * durations in the order in which they were recorded.
+     *
+     * @param age {@code 0} for the most recently recorded duration, up to {@link #getCount()} {@code - 1} for the
+     *            oldest duration in the window
+     * @return the duration in nanoseconds
+     * @throws IndexOutOfBoundsException if {@code age} is not smaller than {@link #getCount()}
+     */
+    public long getRecent(int age) {
+        if (age < 0 || age >= count) {
+            throw new IndexOutOfBoundsException("Age " + age + " out of bounds for count " + count);
+        }
+        return window[Math.floorMod(next - 1 - age, window.length)];
+    }
+
+    /**
+     * @return the shortest duration in the window in nanoseconds, or {@code 0} if nothing has been recorded
+     */
+    public long getMin() {
+        if (count == 0) {
+            return 0;
+        }
+
+        var min = Long.MAX_VALUE;
+        for (var i = 0; i < count; i++) {
+            min = Math.min(min, window[i]);
+        }
+        return min;
+    }
+
+    /**
+     * @return the longest duration in the window in nanoseconds, or {@code 0} if nothing has been recorded
+     */
+    public long getMax() {
+        var max = 0L;
+        for (var i = 0; i < count; i++) {
+            max = Math.max(max, window[i]);
+        }
+        return max;
+    }
+
+    /**
+     * @return the average duration in the window in nanoseconds, or {@code 0} if nothing has been recorded
+     */
+    public double getAverage() {
+        return count == 0 ? 0 : sum / (double) count;
+    }
+
+    /**
+     * @return the 99th percentile of the durations in the window in nanoseconds
+     */
+    public long getP99() {
+        return getPercentile(0.99);
+    }
+
+    /**
+     * Return the duration below which the given fraction of the durations in the window falls.
+     *
+     * @param fraction a value between {@code 0} and {@code 1}, for example {@code 0.99} for the 99th percentile
+     * @return the percentile in nanoseconds, or {@code 0} if nothing has been recorded
+     * @throws IllegalArgumentException if {@code fraction} is not between {@code 0} and {@code 1}
+     */
+    public long getPercentile(double fraction) {
+        if (fraction < 0 || fraction > 1) {
+            throw new IllegalArgumentException("The fraction should be between 0 and 1, but was " + fraction);
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        var rank = Math.max(1, (long) Math.ceil(fraction * count));
+        var seen = 0L;
+        for (var bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += buckets[bucket];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(bucket), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Discard all recorded durations.
+     */
+    public void clear() {
+        Arrays.fill(buckets, 0);
+        next = 0;
+        count = 0;
+        sum = 0;
+        last = 0;
+    }
+
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        var shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+
+        var shift = bucket / SUB_BUCKETS - 1;
+        var mantissa = SUB_BUCKETS + bucket % SUB_BUCKETS;
+        return ((mantissa + 1L) << shift) - 1;
+    }
+}
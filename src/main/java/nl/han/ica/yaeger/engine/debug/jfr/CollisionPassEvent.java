@@ -0,0 +1,24 @@
+package nl.han.ica.yaeger.engine.debug.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A {@code CollisionPassEvent} is emitted every time the collisions of a scene are checked.
+ */
+@Name("nl.han.ica.yaeger.CollisionPass")
+@Label("Collision Pass")
+@Category({"Yaeger", "Game Loop"})
+@Description("A single check for collisions between all instances of Collider and Collided")
+@Enabled(false)
+@StackTrace(false)
+public class CollisionPassEvent extends Event {
+
+    @Label("Strategy")
+    public String strategy;
+}
@@ -0,0 +1,29 @@
+package nl.han.ica.yaeger.engine.debug.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * An {@code EntitySpawnEvent} is emitted every time a batch of instances of
+ * {@link nl.han.ica.yaeger.engine.entities.entity.Entity} of an {@link nl.han.ica.yaeger.engine.entities.EntitySupplier}
+ * is added to a scene.
+ */
+@Name("nl.han.ica.yaeger.EntitySpawn")
+@Label("Entity Spawn")
+@Category({"Yaeger", "Entities"})
+@Description("A batch of entities that is added to a scene")
+@Enabled(false)
+@StackTrace(false)
+public class EntitySpawnEvent extends Event {
+
+    @Label("Supplier")
+    public String supplier;
+
+    @Label("Count")
+    public int count;
+}
@@ -0,0 +1,38 @@
+package nl.han.ica.yaeger.engine.debug.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A {@code ResourceLoadEvent} is emitted every time an image or audio file is loaded, because it could not be found
+ * in its repository.
+ */
+@Name("nl.han.ica.yaeger.ResourceLoad")
+@Label("Resource Load")
+@Category({"Yaeger", "Resources"})
+@Description("An image or audio file that is loaded into a repository")
+@Enabled(false)
+@StackTrace(false)
+public class ResourceLoadEvent extends Event {
+
+    /**
+     * The type of a loaded image.
+     */
+    public static final String IMAGE = "image";
+
+    /**
+     * The type of a loaded audio file.
+     */
+    public static final String AUDIO = "audio";
+
+    @Label("Type")
+    public String type;
+
+    @Label("Resource")
+    public String resource;
+}
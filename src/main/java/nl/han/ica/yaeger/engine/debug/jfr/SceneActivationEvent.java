@@ -0,0 +1,25 @@
+package nl.han.ica.yaeger.engine.debug.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A {@code SceneActivationEvent} is emitted every time a {@link nl.han.ica.yaeger.engine.scenes.YaegerScene} is
+ * activated. Its duration covers the configuration and setup of the scene.
+ */
+@Name("nl.han.ica.yaeger.SceneActivation")
+@Label("Scene Activation")
+@Category({"Yaeger", "Scenes"})
+@Description("The activation of a scene, including its configuration and the setup of its entities")
+@Enabled(false)
+@StackTrace(false)
+public class SceneActivationEvent extends Event {
+
+    @Label("Scene")
+    public String scene;
+}
@@ -0,0 +1,32 @@
+package nl.han.ica.yaeger.engine.debug.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A {@code TickEvent} is emitted for every update of an {@link nl.han.ica.yaeger.engine.entities.EntityCollection}.
+ */
+@Name("nl.han.ica.yaeger.Tick")
+@Label("Tick")
+@Category({"Yaeger", "Game Loop"})
+@Description("A single update of the entities of a scene")
+@Enabled(false)
+@StackTrace(false)
+public class TickEvent extends Event {
+
+    @Label("Simulation Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long simulationTime;
+
+    @Label("Updatables")
+    public int updatables;
+
+    @Label("Statics")
+    public int statics;
+}
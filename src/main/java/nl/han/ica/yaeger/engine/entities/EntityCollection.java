@@ -2,39 +2,60 @@ package nl.han.ica.yaeger.engine.entities;
 
 import com.google.inject.Injector;
 import javafx.scene.Group;
+import javafx.scene.Node;
 import javafx.scene.input.KeyCode;
 import nl.han.ica.yaeger.engine.Initializable;
+import nl.han.ica.yaeger.engine.collections.DenseSet;
+import nl.han.ica.yaeger.engine.debug.StatisticsObservable;
 import nl.han.ica.yaeger.engine.debug.StatisticsObserver;
+import nl.han.ica.yaeger.engine.debug.jfr.EntitySpawnEvent;
+import nl.han.ica.yaeger.engine.debug.jfr.TickEvent;
 import nl.han.ica.yaeger.engine.entities.collisions.Collided;
 import nl.han.ica.yaeger.engine.entities.collisions.Collider;
 import nl.han.ica.yaeger.engine.entities.collisions.CollisionDelegate;
+import nl.han.ica.yaeger.engine.entities.collisions.CollisionStrategy;
 import nl.han.ica.yaeger.engine.entities.entity.*;
-import nl.han.ica.yaeger.engine.entities.events.EventTypes;
+import nl.han.ica.yaeger.engine.entities.events.RemovalQueue;
+import nl.han.ica.yaeger.engine.gameloop.FixedTimestep;
+import nl.han.ica.yaeger.engine.gameloop.SimulationThread;
 import nl.han.ica.yaeger.engine.userinput.KeyListener;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
  * An {@link EntityCollection} encapsulates all behaviour related to all instances of {@link Entity} that are part of
  * a {@link nl.han.ica.yaeger.engine.scenes.YaegerScene}.
  */
-public class EntityCollection implements Initializable {
+public class EntityCollection implements Initializable, StatisticsObservable {
+
+    private static final long NO_FRAME = Long.MIN_VALUE;
 
     private final EntityCollectionStatistics statistics;
     private Injector injector;
     private final Group group;
-    private final Set<EntitySupplier> suppliers = new HashSet<>();
-    private final Set<Entity> statics = new HashSet<>();
-    private final Set<Updatable> updatables = new HashSet<>();
-    private final Set<KeyListener> keyListeners = new HashSet<>();
-    private final Set<Removeable> garbage = new HashSet<>();
+    // An EntitySupplier is a Set, so its equality and hash code depend on its contents
+    private final Set<EntitySupplier> suppliers = DenseSet.withIdentity();
+    private final Set<Entity> statics = new DenseSet<>();
+    private final Set<Updatable> updatables = new DenseSet<>();
+    private final Set<KeyListener> keyListeners = new DenseSet<>();
+    private final Set<Removeable> garbage = new DenseSet<>();
+    private final Map<Removeable, EntitySpawner> poolOwners = new HashMap<>();
+    private final Set<Removeable> parked = new DenseSet<>();
+    private final SpawnerScheduler spawnerScheduler = new SpawnerScheduler();
+    private final RemovalQueue removalQueue = new RemovalQueue();
+    private final List<Node> nodesToAdd = new ArrayList<>();
+    private final Set<Node> nodesToRemove = new DenseSet<>();
 
     private final List<StatisticsObserver> statisticsObservers = new ArrayList<>();
 
     private CollisionDelegate collisionDelegate;
+    private final EntityStore entityStore;
+    private SimulationThread simulationThread;
+    private long previousFrame = NO_FRAME;
 
     /**
      * Instantiate an {@link EntityCollection} for a given {@link Group} and a {@link Set} of {@link Entity} instances.
@@ -44,6 +65,7 @@ public class EntityCollection implements Initializable {
     public EntityCollection(Group group) {
         this.group = group;
         this.collisionDelegate = new CollisionDelegate();
+        this.entityStore = new EntityStore(group);
         this.statistics = new EntityCollectionStatistics();
     }
 
@@ -52,28 +74,117 @@ public class EntityCollection implements Initializable {
      *
      * @param observer the {@link StatisticsObserver} to be added
      */
+    @Override
     public void addStatisticsObserver(StatisticsObserver observer) {
         statisticsObservers.add(observer);
     }
 
     /**
-     * Register an {@link EntitySupplier}.
+     * Remove a {@link StatisticsObserver}.
      *
-     * @param supplier The {@link EntitySupplier} to be registered.
+     * @param observer the {@link StatisticsObserver} to be removed
      */
-    public void registerSupplier(EntitySupplier supplier) {
-        this.suppliers.add(supplier);
+    @Override
+    public void removeStatisticsObserver(StatisticsObserver observer) {
+        statisticsObservers.remove(observer);
+    }
+
+    /**
+     * Set the {@link CollisionStrategy} that should be used for collision detection.
+     *
+     * @param collisionStrategy the {@link CollisionStrategy} to be used
+     */
+    public void setCollisionStrategy(CollisionStrategy collisionStrategy) {
+        collisionDelegate.setCollisionStrategy(collisionStrategy);
+    }
+
+    /**
+     * Return the {@link EntityStore} of this {@link EntityCollection}, which can be used for large numbers of simple
+     * entities. It is updated after all instances of {@link Updatable} and synchronized with the scene graph once
+     * per frame.
+     *
+     * @return the {@link EntityStore}
+     */
+    public EntityStore getEntityStore() {
+        return entityStore;
+    }
+
+    /**
+     * Set whether the {@link EntityStore} should be simulated on a separate thread, at
+     * {@link FixedTimestep#DEFAULT_TICKS_PER_SECOND}. See {@link #setSimulationThreadEnabled(boolean, FixedTimestep)}.
+     *
+     * @param enabled {@code true} if the {@link EntityStore} should be simulated on a separate thread
+     */
+    public void setSimulationThreadEnabled(boolean enabled) {
+        setSimulationThreadEnabled(enabled, new FixedTimestep());
+    }
+
+    /**
+     * Set whether the {@link EntityStore} should be simulated on a separate thread. When enabled, the
+     * {@link EntityStore} is no longer updated by {@link #update(long)}, but by a {@link SimulationThread}, and
+     * {@link #render(long, double)} applies its latest state to the scene graph. While the {@link SimulationThread}
+     * is running, changes to the {@link EntityStore} should be passed to {@link EntityStore#submit(java.util.function.Consumer)}.
+     *
+     * @param enabled       {@code true} if the {@link EntityStore} should be simulated on a separate thread
+     * @param fixedTimestep the {@link FixedTimestep} of which the tick rate is used by the {@link SimulationThread}
+     */
+    public void setSimulationThreadEnabled(boolean enabled, FixedTimestep fixedTimestep) {
+        if (enabled && simulationThread == null) {
+            simulationThread = new SimulationThread(entityStore, group, fixedTimestep);
+            simulationThread.start();
+        } else if (!enabled && simulationThread != null) {
+            stopSimulationThread();
+        }
+    }
+
+    /**
+     * @return {@code true} if the {@link EntityStore} is simulated on a separate thread
+     */
+    public boolean isSimulationThreadEnabled() {
+        return simulationThread != null;
     }
 
     /**
-     * Mark an {@link Removeable} as garbage. After this is done, the {@link Removeable} is set for Garbage Collection and will
-     * be collected in the next Garbage Collection cycle.
+     * Apply the state of the {@link EntityStore} to the scene graph. Its instances of {@link Node} are placed at the
+     * given fraction of the way between the previous and the last update, see {@link EntityStore#relocate(double)}.
+     * If the {@link EntityStore} is simulated on a separate thread, its latest published state is applied instead.
+     * This method should be called once per pulse of the game loop. The time between two calls is recorded as the
+     * frame time in the {@link EntityCollectionStatistics}.
      *
-     * @param entity The {@link Removeable} to be removed.
+     * @param timestamp the timestamp of the pulse in nanoseconds, from the same clock as the game loop
+     * @param alpha     the fraction of an update that has passed since the last update
      */
-    private void markAsGarbage(Removeable entity) {
+    public void render(long timestamp, double alpha) {
+        if (previousFrame != NO_FRAME) {
+            statistics.recordFrameTime(timestamp - previousFrame);
+        }
+        previousFrame = timestamp;
 
-        this.garbage.add(entity);
+        if (simulationThread != null) {
+            simulationThread.render();
+        } else {
+            entityStore.relocate(alpha);
+        }
+    }
+
+    /**
+     * Register an {@link EntitySupplier}. If it is an {@link EntitySpawner}, it will be ticked at its interval
+     * during {@link #update(long)}.
+     *
+     * @param supplier The {@link EntitySupplier} to be registered.
+     */
+    public void registerSupplier(EntitySupplier supplier) {
+        this.suppliers.add(supplier);
+
+        if (supplier instanceof EntitySpawner) {
+            spawnerScheduler.add((EntitySpawner) supplier);
+        }
+    }
+
+    private void collectRemovals() {
+        if (!removalQueue.isEmpty()) {
+            removalQueue.drainTo(garbage);
+        }
     }
 
     /**
@@ -99,14 +210,22 @@ public class EntityCollection implements Initializable {
      *
      * <ul>
      * <li>
-     * <b>Collect garbage</b> All EntityCollection that have been marked as Garbage will be removed.
+     * <b>Collect garbage</b> All EntityCollection that have been marked as Garbage will be removed. An instance of
+     * {@link Poolable} that was spawned by an {@link EntitySpawner} is hidden and returned to the pool of that
+     * {@link EntitySpawner} instead, so its {@link Node} can be reused, unless that pool is full. Pooled instances
+     * that have been discarded by their {@link EntitySpawner} are removed as well. All other instances of
+     * {@link Node} are removed from the {@link Group} in a single bulk operation.
      * </i>
      * <li>
      * <b>Notify Entities</b> On all Entities that implement the interface {@link Updatable}, update()
-     * will be called.
+     * will be called. After that, the {@link EntityStore} is updated.
+     * </li>
+     * <li>
+     * <b>Tick spawners</b> Every {@link EntitySpawner} of which the interval has passed, is ticked.
      * </li>
      * <li><b>Add spawned objects</b> All Entities created by the {@link EntitySpawner}s will be collected
-     * and added to the correct collection.
+     * and added to the correct collection. Their instances of {@link Node} are added to the {@link Group} in a single
+     * bulk operation.
      * </li>
      * <li>
      * <b>Check for collisions</b> Check if collisions have occured between instances of
@@ -115,7 +234,12 @@ public class EntityCollection implements Initializable {
      * will be notified.
      * </li>
      * <li>
-     * <b>Update Statics</b> Update the {@link EntityCollectionStatistics}.
+     * <b>Synchronize the EntityStore</b> Add and remove the instances of {@link Node} of the {@link EntityStore},
+     * unless it is simulated on a separate thread. They are relocated by {@link #render(long, double)}.
+     * </li>
+     * <li>
+     * <b>Update Statics</b> Update the {@link EntityCollectionStatistics}. The duration of each of these phases is
+     * recorded per {@link UpdatePhase}.
      * </li>
      * <li>
      * <b>Notify Statistics Observer</b> Notify all registered {@link StatisticsObserver}.
@@ -125,12 +249,34 @@ public class EntityCollection implements Initializable {
      * @param timestamp the timestamp of the update
      */
     public void update(long timestamp) {
+        var tickEvent = new TickEvent();
+        tickEvent.begin();
+
+        var start = System.nanoTime();
         collectGarbage();
+        start = recordTiming(UpdatePhase.COLLECT_GARBAGE, start);
         notifyUpdatables(timestamp);
+        start = recordTiming(UpdatePhase.NOTIFY_UPDATABLES, start);
+        spawnerScheduler.run(timestamp);
+        start = recordTiming(UpdatePhase.TICK_SPAWNERS, start);
         addSuppliedEntities();
+        start = recordTiming(UpdatePhase.ADD_SUPPLIED_ENTITIES, start);
         collisionDelegate.checkCollisions();
-        updateStatistics();
+        start = recordTiming(UpdatePhase.CHECK_COLLISIONS, start);
+        if (simulationThread == null) {
+            entityStore.syncNodes();
+        }
+        start = recordTiming(UpdatePhase.SYNC_ENTITY_STORE, start);
+        updateStatistics(timestamp);
         notifyStatisticsObservers();
+        recordTiming(UpdatePhase.NOTIFY_STATISTICS_OBSERVERS, start);
+
+        if (tickEvent.shouldCommit()) {
+            tickEvent.simulationTime = timestamp;
+            tickEvent.updatables = updatables.size();
+            tickEvent.statics = statics.size();
+            tickEvent.commit();
+        }
     }
 
     public void initialUpdate() {
@@ -141,11 +287,40 @@ public class EntityCollection implements Initializable {
      * Clear this {@link EntityCollection}.
      */
     public void clear() {
+        clearPools();
         clearSuppliers();
         statics.clear();
         updatables.clear();
         garbage.clear();
         keyListeners.clear();
+        poolOwners.clear();
+        parked.clear();
+        spawnerScheduler.clear();
+        nodesToAdd.clear();
+        nodesToRemove.clear();
+        if (simulationThread != null) {
+            stopSimulationThread();
+        }
+        entityStore.clear();
+    }
+
+    private void stopSimulationThread() {
+        simulationThread.stop();
+        simulationThread.render();
+        simulationThread = null;
+    }
+
+    private void clearPools() {
+        suppliers.forEach(supplier -> {
+            if (supplier instanceof EntitySpawner) {
+                ((EntitySpawner) supplier).clearPools();
+            }
+        });
+        collectDiscarded();
+
+        if (!nodesToRemove.isEmpty()) {
+            group.getChildren().removeAll(nodesToRemove);
+        }
     }
 
     private void clearSuppliers() {
@@ -153,40 +328,109 @@ public class EntityCollection implements Initializable {
         suppliers.clear();
     }
 
+    private long recordTiming(UpdatePhase phase, long start) {
+        var end = System.nanoTime();
+        statistics.recordTiming(phase, end - start);
+        return end;
+    }
+
     private void notifyStatisticsObservers() {
         statisticsObservers.forEach(statisticsObserver -> statisticsObserver.update(statistics));
     }
 
     private void collectGarbage() {
-        if (garbage.isEmpty()) {
-            return;
+        collectRemovals();
+        collectDiscarded();
+
+        if (!garbage.isEmpty()) {
+            garbage.forEach(this::removeGameObject);
+            statics.removeAll(garbage);
+            updatables.removeAll(garbage);
+            statistics.recordRemoved(garbage.size());
+            garbage.clear();
         }
 
-        garbage.forEach(this::removeGameObject);
-        statics.removeAll(garbage);
-        updatables.removeAll(garbage);
-        garbage.clear();
+        if (!nodesToRemove.isEmpty()) {
+            group.getChildren().removeAll(nodesToRemove);
+            nodesToRemove.clear();
+        }
     }
 
     private void removeGameObject(Removeable entity) {
-        this.group.getChildren().remove(entity.getGameNode());
+        if (parked.contains(entity)) {
+            return;
+        }
+
         this.collisionDelegate.remove(entity);
+
+        var owner = poolOwners.remove(entity);
+        if (owner == null || !owner.release((Poolable) entity)) {
+            nodesToRemove.add(entity.getGameNode());
+        } else {
+            entity.getGameNode().setVisible(false);
+            parked.add(entity);
+        }
+    }
+
+    private void collectDiscarded() {
+        suppliers.forEach(supplier -> {
+            if (supplier instanceof EntitySpawner) {
+                ((EntitySpawner) supplier).takeDiscarded(this::discard);
+            }
+        });
+    }
+
+    private void discard(Poolable entity) {
+        if (parked.remove(entity)) {
+            nodesToRemove.add(entity.getGameNode());
+        }
     }
 
     private void addSuppliedEntities() {
         if (!suppliers.isEmpty()) {
-            suppliers.forEach(supplier -> supplier.get().forEach(this::addToGameLoop));
+            suppliers.forEach(this::addSuppliedEntities);
+        }
+
+        if (!nodesToAdd.isEmpty()) {
+            group.getChildren().addAll(nodesToAdd);
+            nodesToAdd.clear();
         }
     }
 
-    private void addToGameLoop(Entity entity) {
-        initialize(entity);
+    private void addSuppliedEntities(EntitySupplier supplier) {
+        var event = new EntitySpawnEvent();
+        event.begin();
+
+        var entities = supplier.get();
+        entities.forEach(entity -> addToGameLoop(entity, supplier));
+
+        if (!entities.isEmpty() && event.shouldCommit()) {
+            event.supplier = supplier.getClass().getName();
+            event.count = entities.size();
+            event.commit();
+        }
+    }
+
+    private void addToGameLoop(Entity entity, EntitySupplier supplier) {
+        if (entity instanceof Poolable && supplier instanceof EntitySpawner) {
+            poolOwners.put(entity, (EntitySpawner) supplier);
+        }
+
+        statistics.recordSpawned(1);
+        var recycled = parked.remove(entity);
+        if (!recycled) {
+            initialize(entity);
+        }
         addToKeylisteners(entity);
         addToUpdatablesOrStatics(entity);
 
         collisionDelegate.register(entity);
-        attachEventListeners(entity);
-        addToScene(entity);
+        if (recycled) {
+            entity.getGameNode().setVisible(true);
+        } else {
+            attachEventListeners(entity);
+            addToScene(entity);
+        }
     }
 
     private void initialize(Entity entity) {
@@ -209,23 +453,30 @@ public class EntityCollection implements Initializable {
     }
 
     private void addToScene(Entity entity) {
-        this.group.getChildren().add(entity.getGameNode());
+        nodesToAdd.add(entity.getGameNode());
     }
 
     private void attachEventListeners(Entity entity) {
-        entity.getGameNode().addEventHandler(EventTypes.REMOVE, event -> markAsGarbage(event.getSource()));
+        removalQueue.attach(entity);
     }
 
     private void notifyUpdatables(long timestamp) {
         updatables.forEach(updatable -> updatable.update(timestamp));
+        if (simulationThread == null) {
+            entityStore.update(timestamp);
+        }
     }
 
-    private void updateStatistics() {
+    private void updateStatistics(long timestamp) {
         statistics.setUpdatables(updatables.size());
         statistics.setStatics(statics.size());
+        collectRemovals();
         statistics.setGarbage(garbage.size());
         statistics.setKeyListeners(keyListeners.size());
         statistics.setSuppliers(suppliers.size());
+        statistics.setStoredEntities(simulationThread == null
+                ? entityStore.size() : simulationThread.getEntityCount());
+        statistics.updateRates(timestamp);
     }
 
     @Override
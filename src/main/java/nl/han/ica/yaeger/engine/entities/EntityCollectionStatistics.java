@@ -1,16 +1,165 @@
 package nl.han.ica.yaeger.engine.entities;
 
+import nl.han.ica.yaeger.engine.debug.TimingHistogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
  * An {@code EntityCollectionStatistics} is a DTO (Data Transfer Object) that contains
- * all current values from an {@link EntityCollection}.
+ * all current values from an {@link EntityCollection}. Besides the number of entities, it contains a
+ * {@link TimingHistogram} with the durations of each {@link UpdatePhase}, and the number of entities that have been
+ * spawned and removed, both in total and per second.
  */
 public class EntityCollectionStatistics {
 
+    /**
+     * The number of frames of which the duration is kept.
+     */
+    public static final int FRAME_WINDOW_SIZE = 120;
+
+    /**
+     * The duration, in nanoseconds, over which the spawn and removal rates are measured.
+     */
+    public static final long RATE_WINDOW_NANOS = 1_000_000_000L;
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+    private static final long NO_WINDOW = Long.MIN_VALUE;
+
+    private final Map<UpdatePhase, TimingHistogram> timings = new EnumMap<>(UpdatePhase.class);
+    private final TimingHistogram frameTimes = new TimingHistogram(FRAME_WINDOW_SIZE);
+
     private int spawners;
     private int updatables;
     private int keyListeners;
     private int garbage;
     private int statics;
+    private int storedEntities;
+
+    private long spawnedEntities;
+    private long removedEntities;
+    private long rateWindowStart = NO_WINDOW;
+    private long spawnedAtWindowStart;
+    private long removedAtWindowStart;
+    private double spawnRate;
+    private double removalRate;
+
+    /**
+     * Create a new {@code EntityCollectionStatistics}.
+     */
+    public EntityCollectionStatistics() {
+        for (var phase : UpdatePhase.values()) {
+            timings.put(phase, new TimingHistogram());
+        }
+    }
+
+    /**
+     * Record the duration of an {@link UpdatePhase}.
+     *
+     * @param phase the {@link UpdatePhase}
+     * @param nanos the duration in nanoseconds
+     */
+    public void recordTiming(UpdatePhase phase, long nanos) {
+        timings.get(phase).record(nanos);
+    }
+
+    /**
+     * Record the time that passed between two frames.
+     *
+     * @param nanos the duration of the frame in nanoseconds
+     */
+    public void recordFrameTime(long nanos) {
+        frameTimes.record(nanos);
+    }
+
+    /**
+     * Record that entities have been spawned.
+     *
+     * @param count the number of spawned entities
+     */
+    public void recordSpawned(int count) {
+        spawnedEntities += count;
+    }
+
+    /**
+     * Record that entities have been removed.
+     *
+     * @param count the number of removed entities
+     */
+    public void recordRemoved(int count) {
+        removedEntities += count;
+    }
+
+    /**
+     * Update the spawn and removal rates. The rates are recalculated once every {@link #RATE_WINDOW_NANOS}, based
+     * on the number of entities that have been spawned and removed during that window.
+     *
+     * @param timestamp the timestamp of the update in nanoseconds
+     */
+    public void updateRates(long timestamp) {
+        if (rateWindowStart == NO_WINDOW) {
+            startRateWindow(timestamp);
+            return;
+        }
+
+        var elapsed = timestamp - rateWindowStart;
+        if (elapsed < RATE_WINDOW_NANOS) {
+            return;
+        }
+
+        spawnRate = (spawnedEntities - spawnedAtWindowStart) * NANOS_PER_SECOND / elapsed;
+        removalRate = (removedEntities - removedAtWindowStart) * NANOS_PER_SECOND / elapsed;
+        startRateWindow(timestamp);
+    }
+
+    private void startRateWindow(long timestamp) {
+        rateWindowStart = timestamp;
+        spawnedAtWindowStart = spawnedEntities;
+        removedAtWindowStart = removedEntities;
+    }
+
+    /**
+     * @return the total number of entities that have been spawned
+     */
+    public long getSpawnedEntities() {
+        return spawnedEntities;
+    }
+
+    /**
+     * @return the total number of entities that have been removed
+     */
+    public long getRemovedEntities() {
+        return removedEntities;
+    }
+
+    /**
+     * @return the number of entities spawned per second, measured over the last completed window
+     */
+    public double getSpawnRate() {
+        return spawnRate;
+    }
+
+    /**
+     * @return the number of entities removed per second, measured over the last completed window
+     */
+    public double getRemovalRate() {
+        return removalRate;
+    }
+
+    /**
+     * @return the {@link TimingHistogram} with the durations of the last {@link #FRAME_WINDOW_SIZE} frames
+     */
+    public TimingHistogram getFrameTimes() {
+        return frameTimes;
+    }
+
+    /**
+     * @param phase the {@link UpdatePhase}
+     * @return the {@link TimingHistogram} with the recent durations of the given {@link UpdatePhase}
+     */
+    public TimingHistogram getTiming(UpdatePhase phase) {
+        return timings.get(phase);
+    }
 
     public void setSuppliers(int spawners) {
         this.spawners = spawners;
@@ -32,6 +181,10 @@ public class EntityCollectionStatistics {
         this.garbage = garbage;
     }
 
+    public void setStoredEntities(int storedEntities) {
+        this.storedEntities = storedEntities;
+    }
+
     public int getSuppliers() {
         return spawners;
     }
@@ -51,4 +204,8 @@ public class EntityCollectionStatistics {
     public int getGarbage() {
         return garbage;
     }
+
+    public int getStoredEntities() {
+        return storedEntities;
+    }
 }
@@ -0,0 +1,182 @@
+package nl.han.ica.yaeger.engine.entities;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * An {@code EntityGrid} is the spatial index of an {@link EntityStore}. It divides the plane into square cells and
+ * hashes every cell to a bucket. The indices of the entities are sorted by bucket with a counting sort, so the
+ * {@code EntityGrid} is rebuilt in linear time and is stored in primitive arrays only. Cells that hash to the same
+ * bucket share it, which only adds candidates that are filtered out by the intersection test.
+ */
+class EntityGrid {
+
+    private static final int MIN_BUCKETS = 64;
+
+    private final EntityStore entityStore;
+
+    private double cellSize;
+    private int mask;
+    private int[] bucketStarts = new int[MIN_BUCKETS + 1];
+    private int[] cursors = new int[MIN_BUCKETS + 1];
+    private int[] entries = new int[MIN_BUCKETS];
+    private int[] stamps = new int[MIN_BUCKETS];
+    private int stamp;
+
+    /**
+     * Create a new {@code EntityGrid}.
+     *
+     * @param entityStore the {@link EntityStore} of which the entities are indexed
+     * @param cellSize    the width and height of a single cell
+     */
+    EntityGrid(EntityStore entityStore, double cellSize) {
+        this.entityStore = entityStore;
+        setCellSize(cellSize);
+    }
+
+    /**
+     * Set the width and height of a single cell. The {@code EntityGrid} should be rebuilt afterwards.
+     *
+     * @param cellSize the width and height of a single cell
+     * @throws IllegalArgumentException if the {@code cellSize} is not a positive number
+     */
+    void setCellSize(double cellSize) {
+        if (!(cellSize > 0) || Double.isInfinite(cellSize)) {
+            throw new IllegalArgumentException("The cell size should be a positive number, but was " + cellSize);
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Index the current bounds of all entities of the {@link EntityStore}.
+     */
+    void build() {
+        var size = entityStore.size();
+        var buckets = Math.max(MIN_BUCKETS, Integer.highestOneBit(size) << 2);
+        mask = buckets - 1;
+
+        if (bucketStarts.length < buckets + 1) {
+            bucketStarts = new int[buckets + 1];
+            cursors = new int[buckets + 1];
+        }
+        if (stamps.length < size) {
+            stamps = new int[Math.max(size, stamps.length * 2)];
+        }
+        Arrays.fill(bucketStarts, 0, buckets + 1, 0);
+
+        for (var index = 0; index < size; index++) {
+            var lastCellX = toCell(entityStore.getX(index) + entityStore.getWidth(index));
+            var lastCellY = toCell(entityStore.getY(index) + entityStore.getHeight(index));
+
+            for (var cellX = toCell(entityStore.getX(index)); cellX <= lastCellX; cellX++) {
+                for (var cellY = toCell(entityStore.getY(index)); cellY <= lastCellY; cellY++) {
+                    bucketStarts[(hash(cellX, cellY) & mask) + 1]++;
+                }
+            }
+        }
+        for (var bucket = 0; bucket < buckets; bucket++) {
+            bucketStarts[bucket + 1] += bucketStarts[bucket];
+        }
+
+        var total = bucketStarts[buckets];
+        if (entries.length < total) {
+            entries = new int[Math.max(total, entries.length * 2)];
+        }
+        System.arraycopy(bucketStarts, 0, cursors, 0, buckets);
+
+        for (var index = 0; index < size; index++) {
+            var lastCellX = toCell(entityStore.getX(index) + entityStore.getWidth(index));
+            var lastCellY = toCell(entityStore.getY(index) + entityStore.getHeight(index));
+
+            for (var cellX = toCell(entityStore.getX(index)); cellX <= lastCellX; cellX++) {
+                for (var cellY = toCell(entityStore.getY(index)); cellY <= lastCellY; cellY++) {
+                    entries[cursors[hash(cellX, cellY) & mask]++] = index;
+                }
+            }
+        }
+    }
+
+    /**
+     * Pass the index of every entity of which the bounds intersect the given box to {@code consumer}, once.
+     *
+     * @param minX     the minimal x-coordinate of the box
+     * @param minY     the minimal y-coordinate of the box
+     * @param maxX     the maximal x-coordinate of the box
+     * @param maxY     the maximal y-coordinate of the box
+     * @param consumer the {@link IntConsumer} that receives the indices
+     */
+    void query(double minX, double minY, double maxX, double maxY, IntConsumer consumer) {
+        if (!(maxX >= minX) || !(maxY >= minY)) {
+            return;
+        }
+
+        var current = nextStamp();
+        var lastCellX = toCell(maxX);
+        var lastCellY = toCell(maxY);
+
+        for (var cellX = toCell(minX); cellX <= lastCellX; cellX++) {
+            for (var cellY = toCell(minY); cellY <= lastCellY; cellY++) {
+                var bucket = hash(cellX, cellY) & mask;
+
+                for (var entry = bucketStarts[bucket]; entry < bucketStarts[bucket + 1]; entry++) {
+                    var index = entries[entry];
+                    if (stamps[index] != current) {
+                        stamps[index] = current;
+                        if (entityStore.intersects(index, minX, minY, maxX, maxY)) {
+                            consumer.accept(index);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Pass every pair of entities of which the bounds intersect to {@code listener}, once. The lowest index of each
+     * pair is passed first.
+     *
+     * @param listener the {@link EntityStoreCollisionListener} that receives the pairs
+     */
+    void forEachCollision(EntityStoreCollisionListener listener) {
+        var size = entityStore.size();
+
+        for (var index = 0; index < size; index++) {
+            var current = nextStamp();
+            var lastCellX = toCell(entityStore.getX(index) + entityStore.getWidth(index));
+            var lastCellY = toCell(entityStore.getY(index) + entityStore.getHeight(index));
+
+            for (var cellX = toCell(entityStore.getX(index)); cellX <= lastCellX; cellX++) {
+                for (var cellY = toCell(entityStore.getY(index)); cellY <= lastCellY; cellY++) {
+                    var bucket = hash(cellX, cellY) & mask;
+
+                    for (var entry = bucketStarts[bucket]; entry < bucketStarts[bucket + 1]; entry++) {
+                        var other = entries[entry];
+                        if (other > index && stamps[other] != current) {
+                            stamps[other] = current;
+                            if (entityStore.intersects(index, other)) {
+                                listener.onCollision(entityStore, index, other);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private int nextStamp() {
+        if (stamp == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            stamp = 0;
+        }
+        return ++stamp;
+    }
+
+    private int toCell(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static int hash(int cellX, int cellY) {
+        var mixed = (((long) cellX << 32) | (cellY & 0xffffffffL)) * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+}
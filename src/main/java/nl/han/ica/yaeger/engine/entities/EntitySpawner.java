@@ -1,20 +1,50 @@
 package nl.han.ica.yaeger.engine.entities;
 
-import javafx.animation.AnimationTimer;
 import nl.han.ica.yaeger.engine.Destroyable;
 import nl.han.ica.yaeger.engine.entities.entity.Entity;
-
+import nl.han.ica.yaeger.engine.entities.entity.Poolable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * An {@code EntitiySpawner} is the abstract superclass that should be extended to create an object that
  * spawns a subclass of {@link Entity}.
+ *
+ * <p>
+ * An {@code EntitySpawner} does not have a timer of its own. Once it is registered with an
+ * {@link EntityCollection}, {@link #tick()} is called by the {@link EntityCollection} on its first update, and at
+ * its interval after that, based on the timestamps of its updates.
+ * </p>
+ *
+ * <p>
+ * Instances of {@link Poolable} that are spawned by an {@code EntitySpawner} are returned to a pool per type when
+ * they are removed. Use {@link #acquire(Class, Supplier)} to reuse them, instead of creating a new instance. A pool
+ * holds at most {@link #DEFAULT_MAX_POOL_SIZE} instances, unless another maximum is set through
+ * {@link #setMaxPoolSize(int)}. Instances that do not fit in their pool are discarded, as are all pooled instances
+ * when the {@code EntitySpawner} is destroyed.
+ * </p>
  */
 public abstract class EntitySpawner extends EntitySupplier implements Destroyable {
 
-    private transient AnimationTimer timer;
+    /**
+     * The default maximum number of instances in the pool of a single type of {@link Poolable}.
+     */
+    public static final int DEFAULT_MAX_POOL_SIZE = 64;
+
+    private final transient Map<Class<?>, Deque<Poolable>> pools = new HashMap<>();
+    private final transient List<Poolable> discarded = new ArrayList<>();
 
+    private int maxPoolSize = DEFAULT_MAX_POOL_SIZE;
     private long interval;
+    private boolean destroyed;
 
     /**
      * Create a new {@code EntitySpawner}.
@@ -23,7 +53,21 @@ public abstract class EntitySpawner extends EntitySupplier implements Destroyabl
      */
     public EntitySpawner(long interval) {
         this.interval = interval * 1000000;
-        initTimer();
+    }
+
+    /**
+     * @return the interval at which {@link #tick()} should be called, in nanoseconds
+     */
+    long getInterval() {
+        return interval;
+    }
+
+    /**
+     * @return {@code true} if this {@code EntitySpawner} has been destroyed, after which {@link #tick()} is no
+     * longer called
+     */
+    boolean isDestroyed() {
+        return destroyed;
     }
 
     /**
@@ -36,36 +80,121 @@ public abstract class EntitySpawner extends EntitySupplier implements Destroyabl
     }
 
     /**
-     * Called by the {@code EntitySpawner} every time a new {@link Entity} should be spawned.
+     * Acquire an instance of the given type of {@link Poolable}. If the pool of that type contains a removed
+     * instance, it is reset through {@link Poolable#reset()} and returned. Otherwise a new instance is created by
+     * {@code factory}. The acquired instance should be passed to {@link #spawn(Entity)}.
+     *
+     * <p>
+     * Removed instances are pooled by their exact class, so {@code type} should be the exact class of the instances
+     * created by {@code factory}, not one of its supertypes.
+     * </p>
+     *
+     * @param type    the exact class of the {@link Poolable}
+     * @param factory the {@link Supplier} that creates a new instance if the pool is empty
+     * @param <T>     the type of {@link Poolable}
+     * @return an instance of the given type
+     * @throws IllegalArgumentException if {@code factory} creates an instance of another class than {@code type}
      */
-    public abstract void tick();
+    protected <T extends Poolable> T acquire(Class<T> type, Supplier<T> factory) {
+        var pool = pools.get(type);
+        if (pool == null || pool.isEmpty()) {
+            var created = factory.get();
+            if (created.getClass() != type) {
+                throw new IllegalArgumentException("The factory should create instances of " + type.getName()
+                        + ", but created an instance of " + created.getClass().getName());
+            }
+            return created;
+        }
 
-    @Override
-    public void destroy() {
+        var entity = type.cast(pool.pop());
+        entity.reset();
+        return entity;
+    }
 
-        clear();
+    /**
+     * Set the maximum number of instances in the pool of a single type of {@link Poolable}. Pooled instances that
+     * exceed the new maximum are discarded.
+     *
+     * @param maxPoolSize the maximum number of instances per pool
+     * @throws IllegalArgumentException if {@code maxPoolSize} is negative
+     */
+    protected void setMaxPoolSize(int maxPoolSize) {
+        if (maxPoolSize < 0) {
+            throw new IllegalArgumentException("The maximum pool size should not be negative, but was " + maxPoolSize);
+        }
+        this.maxPoolSize = maxPoolSize;
+
+        pools.values().forEach(pool -> {
+            while (pool.size() > maxPoolSize) {
+                discarded.add(pool.removeLast());
+            }
+        });
+    }
 
-        if (timer != null) {
-            timer.stop();
+    /**
+     * Return a removed {@link Poolable} to the pool of its type, unless that pool is full or this
+     * {@code EntitySpawner} has been destroyed.
+     *
+     * @param entity the {@link Poolable} that has been removed
+     * @return {@code true} if the {@link Poolable} has been added to its pool
+     */
+    boolean release(Poolable entity) {
+        if (destroyed) {
+            return false;
         }
+
+        var pool = pools.computeIfAbsent(entity.getClass(), type -> new ArrayDeque<>());
+        if (pool.size() >= maxPoolSize) {
+            return false;
+        }
+
+        pool.push(entity);
+        return true;
     }
 
-    private void initTimer() {
-        timer = new AnimationTimer() {
+    /**
+     * Discard all pooled instances of {@link Poolable}.
+     */
+    void clearPools() {
+        pools.values().forEach(discarded::addAll);
+        pools.clear();
+    }
+
+    /**
+     * Pass every pooled {@link Poolable} that has been discarded since the previous call to the given
+     * {@link Consumer}, so its {@link javafx.scene.Node} can be removed from the scene.
+     *
+     * @param consumer the {@link Consumer} of the discarded instances
+     */
+    void takeDiscarded(Consumer<Poolable> consumer) {
+        if (discarded.isEmpty()) {
+            return;
+        }
+
+        discarded.forEach(consumer);
+        discarded.clear();
+    }
 
-            private long lastUpdate = System.currentTimeMillis();
+    /**
+     * @param type the type of {@link Poolable}
+     * @return the number of instances in the pool of the given type
+     */
+    int getPoolSize(Class<? extends Poolable> type) {
+        var pool = pools.get(type);
+        return pool == null ? 0 : pool.size();
+    }
 
-            @Override
-            public void handle(long now) {
-                if (now - lastUpdate >= interval) {
+    /**
+     * Called by the {@code EntitySpawner} every time a new {@link Entity} should be spawned.
+     */
+    public abstract void tick();
 
-                    tick();
-                    lastUpdate = now;
-                }
-            }
-        };
+    @Override
+    public void destroy() {
 
-        timer.start();
+        clear();
+        clearPools();
+        destroyed = true;
     }
 
     @Override
@@ -0,0 +1,625 @@
+package nl.han.ica.yaeger.engine.entities;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+import nl.han.ica.yaeger.engine.collections.DenseSet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * An {@code EntityStore} is an alternative to {@link nl.han.ica.yaeger.engine.entities.entity.Entity} for scenes
+ * that contain very large numbers of simple objects, such as particles. Instead of a separate object per entity,
+ * the position, velocity and size of all entities are stored in primitive arrays.
+ *
+ * <p>
+ * Each entity is identified by an id, which stays the same during its lifetime. An id consists of a slot, which is
+ * kept on a free-list and reused after the entity is destroyed, and a generation, which is incremented every time
+ * its slot is freed. An id of a destroyed entity therefore does not refer to a later entity, also not after
+ * {@link #clear()}, until its slot has been reused {@link #MAX_GENERATIONS} times. The data itself is kept densely packed: an entity lives at an index between
+ * {@code 0} and {@link #size()}, so iterating over all entities walks linearly through memory. When an entity is
+ * destroyed, the last entity is moved to its index, so indices are only stable until the next call of
+ * {@link #destroy(int)}. Use {@link #indexOf(int)} to find the current index of an id.
+ * </p>
+ *
+ * <p>
+ * An entity can have a {@link Node}. Changes are only written to the scene graph in {@link #sync()}. The
+ * {@link EntityCollection} splits this in two: {@link #syncNodes()} after every update and {@link #relocate(double)}
+ * once per frame. The latter places every {@link Node} in between the positions of the previous and the current update,
+ * so motion stays smooth when the display refreshes faster than the entities are updated. Nodes are added to and removed from the {@link Group} in bulk. The
+ * nodes to be removed are kept in a {@link DenseSet}, so the bulk removal only has to walk the children once. The
+ * nodes to be added are kept in a {@link DenseSet} as well, so destroying an entity that has not been synced yet
+ * takes constant time.
+ * </p>
+ *
+ * <p>
+ * An {@code EntityStore} can be owned by another thread, such as a
+ * {@link nl.han.ica.yaeger.engine.gameloop.SimulationThread}. While it is owned, entities can only be created and
+ * destroyed and instances of {@link EntityStoreUpdater} can only be added by the owning thread. Other threads should
+ * pass such changes to {@link #submit(Consumer)}, which queues them until the owning thread calls
+ * {@link #runCommands()}.
+ * </p>
+ *
+ * <p>
+ * The entities of an {@code EntityStore} do not take part in the
+ * {@link nl.han.ica.yaeger.engine.entities.collisions.CollisionStrategy}. Instead, they are indexed in a grid of
+ * square cells, which is kept in primitive arrays as well and is rebuilt in linear time when entities have moved. Use
+ * {@link #forEachCollision(EntityStoreCollisionListener)} to detect collisions between them, and
+ * {@link #query(double, double, double, double, IntConsumer)} to find the entities within an area. Both only test the
+ * entities that share a cell.
+ * </p>
+ */
+public class EntityStore {
+
+    /**
+     * The value returned by {@link #indexOf(int)} for an id that is not in use.
+     */
+    public static final int NO_INDEX = -1;
+
+    /**
+     * The maximum number of entities that can exist at the same time.
+     */
+    public static final int MAX_ENTITIES = 1 << 20;
+
+    /**
+     * The number of times a slot can be reused before its ids are reused.
+     */
+    public static final int MAX_GENERATIONS = 1 << 11;
+
+    /**
+     * The default width and height of the cells in which the entities are indexed.
+     */
+    public static final double DEFAULT_CELL_SIZE = 32;
+
+    private static final int SLOT_BITS = 20;
+    private static final int SLOT_MASK = MAX_ENTITIES - 1;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final Group group;
+    private final List<EntityStoreUpdater> updaters = new ArrayList<>();
+
+    private double[] x = new double[INITIAL_CAPACITY];
+    private double[] y = new double[INITIAL_CAPACITY];
+    private double[] previousX = new double[INITIAL_CAPACITY];
+    private double[] previousY = new double[INITIAL_CAPACITY];
+    private double[] velocityX = new double[INITIAL_CAPACITY];
+    private double[] velocityY = new double[INITIAL_CAPACITY];
+    private double[] width = new double[INITIAL_CAPACITY];
+    private double[] height = new double[INITIAL_CAPACITY];
+    private boolean[] moved = new boolean[INITIAL_CAPACITY];
+    private Node[] nodes = new Node[INITIAL_CAPACITY];
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private int size;
+
+    private int[] indices = new int[INITIAL_CAPACITY];
+    private int[] generations = new int[INITIAL_CAPACITY];
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int freeSlotCount;
+    private int nextSlot;
+
+    private final EntityGrid grid = new EntityGrid(this, DEFAULT_CELL_SIZE);
+    private boolean gridValid;
+
+    private final List<Node> nodesToAdd = new ArrayList<>();
+    private final Set<Node> pendingAdds = new DenseSet<>();
+    private final Set<Node> nodesToRemove = new DenseSet<>();
+
+    private final Queue<Consumer<EntityStore>> commands = new ConcurrentLinkedQueue<>();
+    private volatile Thread owner;
+
+    /**
+     * Create a new {@code EntityStore}.
+     *
+     * @param group the {@link Group} to which the instances of {@link Node} should be added
+     */
+    public EntityStore(Group group) {
+        this.group = group;
+    }
+
+    /**
+     * Add an {@link EntityStoreUpdater}, which will be called every frame, before the velocities are applied.
+     *
+     * @param updater the {@link EntityStoreUpdater} to be added
+     */
+    public void addUpdater(EntityStoreUpdater updater) {
+        checkOwner();
+        updaters.add(updater);
+    }
+
+    /**
+     * Create a new entity.
+     *
+     * @param x      the x-coordinate of the top-left corner
+     * @param y      the y-coordinate of the top-left corner
+     * @param width  the width
+     * @param height the height
+     * @param node   the {@link Node} that represents the entity, or {@code null} if it should not be shown
+     * @return the id of the new entity
+     * @throws IllegalStateException if the {@code EntityStore} is owned by another thread, or already contains
+     *                               {@link #MAX_ENTITIES} entities
+     */
+    public int create(double x, double y, double width, double height, Node node) {
+        checkOwner();
+
+        if (size == ids.length) {
+            growData();
+        }
+
+        var id = claimId();
+        var index = size++;
+
+        this.x[index] = x;
+        this.y[index] = y;
+        this.previousX[index] = x;
+        this.previousY[index] = y;
+        this.velocityX[index] = 0;
+        this.velocityY[index] = 0;
+        this.width[index] = width;
+        this.height[index] = height;
+        this.moved[index] = true;
+        this.nodes[index] = node;
+        this.ids[index] = id;
+        indices[id & SLOT_MASK] = index;
+        gridValid = false;
+
+        if (node != null && pendingAdds.add(node)) {
+            nodesToAdd.add(node);
+        }
+
+        return id;
+    }
+
+    /**
+     * Destroy an entity. Its id is no longer alive, also when a later entity reuses its slot.
+     *
+     * @param id the id of the entity
+     * @throws IllegalArgumentException if no entity with the given id exists
+     * @throws IllegalStateException    if the {@code EntityStore} is owned by another thread
+     */
+    public void destroy(int id) {
+        checkOwner();
+
+        var index = indexOf(id);
+        if (index == NO_INDEX) {
+            throw new IllegalArgumentException("No entity with id " + id + " exists");
+        }
+
+        if (nodes[index] != null) {
+            if (!pendingAdds.remove(nodes[index])) {
+                nodesToRemove.add(nodes[index]);
+            }
+        }
+
+        var last = --size;
+        if (index != last) {
+            x[index] = x[last];
+            y[index] = y[last];
+            previousX[index] = previousX[last];
+            previousY[index] = previousY[last];
+            velocityX[index] = velocityX[last];
+            velocityY[index] = velocityY[last];
+            width[index] = width[last];
+            height[index] = height[last];
+            moved[index] = moved[last];
+            nodes[index] = nodes[last];
+            ids[index] = ids[last];
+            indices[ids[index] & SLOT_MASK] = index;
+        }
+        nodes[last] = null;
+
+        freeSlot(id);
+        gridValid = false;
+    }
+
+    /**
+     * Perform a change on this {@code EntityStore}. If it is not owned by another thread, the change is performed
+     * immediately. Otherwise, it is queued until the owning thread calls {@link #runCommands()}. Changes are
+     * performed in the order in which they were submitted.
+     *
+     * @param command the change to be performed
+     */
+    public void submit(Consumer<EntityStore> command) {
+        commands.offer(command);
+
+        var current = owner;
+        if (current == null || current == Thread.currentThread()) {
+            runCommands();
+        }
+    }
+
+    /**
+     * Perform all changes that have been passed to {@link #submit(Consumer)}. This method is called by the owning
+     * thread, before each frame.
+     */
+    public void runCommands() {
+        Consumer<EntityStore> command;
+        while ((command = commands.poll()) != null) {
+            command.accept(this);
+        }
+    }
+
+    /**
+     * Set the thread that owns this {@code EntityStore}. When the owner is set back to {@code null}, the changes
+     * that are still queued should be performed by calling {@link #runCommands()}.
+     *
+     * @param owner the owning {@link Thread}, or {@code null} if the {@code EntityStore} may be changed by any
+     *              thread
+     */
+    public void setOwner(Thread owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * @param id the id of an entity
+     * @return the current index of the entity, or {@link #NO_INDEX} if no entity with the given id exists
+     */
+    public int indexOf(int id) {
+        var slot = id & SLOT_MASK;
+        if (id < 0 || slot >= nextSlot || generations[slot] != id >>> SLOT_BITS) {
+            return NO_INDEX;
+        }
+        return indices[slot];
+    }
+
+    /**
+     * @param id the id of an entity
+     * @return {@code true} if an entity with the given id exists
+     */
+    public boolean isAlive(int id) {
+        return indexOf(id) != NO_INDEX;
+    }
+
+    /**
+     * @return the number of entities
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index the index of an entity
+     * @return the id of the entity at the given index
+     */
+    public int getId(int index) {
+        return ids[index];
+    }
+
+    /**
+     * @param index the index of an entity
+     * @return the x-coordinate of the top-left corner of the entity at the given index
+     */
+    public double getX(int index) {
+        return x[index];
+    }
+
+    /**
+     * @param index the index of an entity
+     * @return the y-coordinate of the top-left corner of the entity at the given index
+     */
+    public double getY(int index) {
+        return y[index];
+    }
+
+    /**
+     * @param index the index of an entity
+     * @return the horizontal velocity, in pixels per frame, of the entity at the given index
+     */
+    public double getVelocityX(int index) {
+        return velocityX[index];
+    }
+
+    /**
+     * @param index the index of an entity
+     * @return the vertical velocity, in pixels per frame, of the entity at the given index
+     */
+    public double getVelocityY(int index) {
+        return velocityY[index];
+    }
+
+    /**
+     * @param index the index of an entity
+     * @return the width of the entity at the given index
+     */
+    public double getWidth(int index) {
+        return width[index];
+    }
+
+    /**
+     * @param index the index of an entity
+     * @return the height of the entity at the given index
+     */
+    public double getHeight(int index) {
+        return height[index];
+    }
+
+    /**
+     * @param index the index of an entity
+     * @return the {@link Node} of the entity at the given index, or {@code null} if it has none
+     */
+    public Node getNode(int index) {
+        return nodes[index];
+    }
+
+    /**
+     * Set the position of the entity at the given index.
+     *
+     * @param index the index of an entity
+     * @param x     the x-coordinate of the top-left corner
+     * @param y     the y-coordinate of the top-left corner
+     */
+    public void setPosition(int index, double x, double y) {
+        this.x[index] = x;
+        this.y[index] = y;
+        moved[index] = true;
+        gridValid = false;
+    }
+
+    /**
+     * Set the velocity of the entity at the given index. The velocity is added to the position once every frame.
+     *
+     * @param index     the index of an entity
+     * @param velocityX the horizontal velocity, in pixels per frame
+     * @param velocityY the vertical velocity, in pixels per frame
+     */
+    public void setVelocity(int index, double velocityX, double velocityY) {
+        this.velocityX[index] = velocityX;
+        this.velocityY[index] = velocityY;
+    }
+
+    /**
+     * Check whether the bounds of two entities intersect. As with
+     * {@link javafx.geometry.Bounds#intersects(javafx.geometry.Bounds)}, touching edges count as an intersection.
+     *
+     * @param index      the index of an entity
+     * @param otherIndex the index of another entity
+     * @return {@code true} if the bounds of both entities intersect
+     */
+    public boolean intersects(int index, int otherIndex) {
+        return x[otherIndex] <= x[index] + width[index] && x[index] <= x[otherIndex] + width[otherIndex]
+                && y[otherIndex] <= y[index] + height[index] && y[index] <= y[otherIndex] + height[otherIndex];
+    }
+
+    /**
+     * Check whether the bounds of an entity intersect the given box. Touching edges count as an intersection.
+     *
+     * @param index the index of an entity
+     * @param minX  the minimal x-coordinate of the box
+     * @param minY  the minimal y-coordinate of the box
+     * @param maxX  the maximal x-coordinate of the box
+     * @param maxY  the maximal y-coordinate of the box
+     * @return {@code true} if the bounds of the entity intersect the box
+     */
+    public boolean intersects(int index, double minX, double minY, double maxX, double maxY) {
+        return x[index] <= maxX && minX <= x[index] + width[index]
+                && y[index] <= maxY && minY <= y[index] + height[index];
+    }
+
+    /**
+     * Pass the index of every entity of which the bounds intersect the given box to {@code consumer}, once and in no
+     * particular order. Only the entities in the cells that are covered by the box are tested. The
+     * {@code consumer} should not create, destroy or move entities.
+     *
+     * @param minX     the minimal x-coordinate of the box
+     * @param minY     the minimal y-coordinate of the box
+     * @param maxX     the maximal x-coordinate of the box
+     * @param maxY     the maximal y-coordinate of the box
+     * @param consumer the {@link IntConsumer} that receives the indices
+     */
+    public void query(double minX, double minY, double maxX, double maxY, IntConsumer consumer) {
+        ensureGrid().query(minX, minY, maxX, maxY, consumer);
+    }
+
+    /**
+     * Pass every pair of entities of which the bounds intersect to {@code listener}, once. Only the entities that
+     * share a cell are tested, so this takes roughly linear time when the entities are spread out. The
+     * {@code listener} should not create, destroy or move entities; collect their ids and change them afterwards.
+     *
+     * @param listener the {@link EntityStoreCollisionListener} that receives the pairs
+     */
+    public void forEachCollision(EntityStoreCollisionListener listener) {
+        ensureGrid().forEachCollision(listener);
+    }
+
+    /**
+     * Set the width and height of the cells in which the entities are indexed. The default is
+     * {@link #DEFAULT_CELL_SIZE}. A cell size close to the size of a typical entity works best.
+     *
+     * @param cellSize the width and height of a single cell
+     * @throws IllegalArgumentException if the {@code cellSize} is not a positive number
+     */
+    public void setCellSize(double cellSize) {
+        grid.setCellSize(cellSize);
+        gridValid = false;
+    }
+
+    /**
+     * Call all instances of {@link EntityStoreUpdater} and apply the velocity of every entity to its position. The
+     * positions from before this update are kept, so {@link #relocate(double)} can interpolate between them.
+     *
+     * @param timestamp the timestamp of the update
+     */
+    public void update(long timestamp) {
+        System.arraycopy(x, 0, previousX, 0, size);
+        System.arraycopy(y, 0, previousY, 0, size);
+
+        for (var i = 0; i < updaters.size(); i++) {
+            updaters.get(i).update(this, timestamp);
+        }
+
+        for (var index = 0; index < size; index++) {
+            if (velocityX[index] != 0 || velocityY[index] != 0) {
+                x[index] += velocityX[index];
+                y[index] += velocityY[index];
+                moved[index] = true;
+                gridValid = false;
+            }
+        }
+    }
+
+    /**
+     * Write all changes to the scene graph. New instances of {@link Node} are added to the {@link Group}, those of
+     * destroyed entities are removed and every {@link Node} of an entity that moved since the last call is
+     * relocated to its current position.
+     */
+    public void sync() {
+        syncNodes();
+        relocate(1);
+    }
+
+    /**
+     * Add the instances of {@link Node} of new entities to the {@link Group} and remove those of destroyed entities.
+     */
+    public void syncNodes() {
+        if (!nodesToRemove.isEmpty()) {
+            group.getChildren().removeAll(nodesToRemove);
+            nodesToRemove.clear();
+        }
+        if (!pendingAdds.isEmpty()) {
+            group.getChildren().addAll(takeNodesToAdd());
+        }
+        nodesToAdd.clear();
+    }
+
+    /**
+     * Relocate every {@link Node} of an entity that moved since the last call. The {@link Node} is placed at the
+     * given fraction of the way from the position before the last {@link #update(long)} to the current position. An
+     * entity that is still in motion is relocated again at the next call, since its interpolated position depends on
+     * {@code alpha}.
+     *
+     * @param alpha a value between {@code 0} and {@code 1}, where {@code 1} is the current position
+     */
+    public void relocate(double alpha) {
+        for (var index = 0; index < size; index++) {
+            if (moved[index]) {
+                var interpolatedX = previousX[index] + (x[index] - previousX[index]) * alpha;
+                var interpolatedY = previousY[index] + (y[index] - previousY[index]) * alpha;
+                if (nodes[index] != null) {
+                    nodes[index].setLayoutX(interpolatedX);
+                    nodes[index].setLayoutY(interpolatedY);
+                }
+                moved[index] = interpolatedX != x[index] || interpolatedY != y[index];
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if instances of {@link Node} have been added or removed since the last call of
+     * {@link #sync()} or {@link #drainNodeChanges(Collection, Collection)}
+     */
+    public boolean hasNodeChanges() {
+        return !pendingAdds.isEmpty() || !nodesToRemove.isEmpty();
+    }
+
+    /**
+     * Move the instances of {@link Node} that have been added or removed since the last call of {@link #sync()} or
+     * this method to the given collections, instead of writing them to the scene graph. This is used when the
+     * {@code EntityStore} is simulated on another thread than the JavaFX Application Thread.
+     *
+     * @param added   the {@link Collection} that receives the added instances of {@link Node}
+     * @param removed the {@link Collection} that receives the removed instances of {@link Node}
+     */
+    public void drainNodeChanges(Collection<Node> added, Collection<Node> removed) {
+        added.addAll(takeNodesToAdd());
+        removed.addAll(nodesToRemove);
+        nodesToAdd.clear();
+        nodesToRemove.clear();
+    }
+
+    /**
+     * Destroy all entities. Their instances of {@link Node} are removed at the next call of {@link #sync()}.
+     */
+    public void clear() {
+        checkOwner();
+        nodesToAdd.clear();
+        pendingAdds.clear();
+        for (var index = 0; index < size; index++) {
+            if (nodes[index] != null) {
+                nodesToRemove.add(nodes[index]);
+                nodes[index] = null;
+            }
+            freeSlot(ids[index]);
+        }
+
+        size = 0;
+        gridValid = false;
+    }
+
+    /**
+     * Return the instances of {@link Node} that should be added, in the order in which they were created. Nodes of
+     * entities that were destroyed before being added are left out, which takes a single pass and only happens when
+     * such entities exist.
+     *
+     * @return the instances of {@link Node} that should be added
+     */
+    private List<Node> takeNodesToAdd() {
+        if (pendingAdds.size() != nodesToAdd.size()) {
+            nodesToAdd.removeIf(node -> !pendingAdds.remove(node));
+        }
+        pendingAdds.clear();
+        return nodesToAdd;
+    }
+
+    private void checkOwner() {
+        var current = owner;
+        if (current != null && current != Thread.currentThread()) {
+            throw new IllegalStateException("The EntityStore is owned by " + current.getName()
+                    + ", use submit() to change it from another thread");
+        }
+    }
+
+    private EntityGrid ensureGrid() {
+        if (!gridValid) {
+            grid.build();
+            gridValid = true;
+        }
+        return grid;
+    }
+
+    private int claimId() {
+        int slot;
+        if (freeSlotCount > 0) {
+            slot = freeSlots[--freeSlotCount];
+        } else {
+            if (nextSlot == MAX_ENTITIES) {
+                throw new IllegalStateException("The EntityStore cannot contain more than " + MAX_ENTITIES
+                        + " entities");
+            }
+            if (nextSlot == indices.length) {
+                indices = Arrays.copyOf(indices, nextSlot * 2);
+                generations = Arrays.copyOf(generations, nextSlot * 2);
+                freeSlots = Arrays.copyOf(freeSlots, nextSlot * 2);
+            }
+            slot = nextSlot++;
+        }
+        return generations[slot] << SLOT_BITS | slot;
+    }
+
+    private void freeSlot(int id) {
+        var slot = id & SLOT_MASK;
+        indices[slot] = NO_INDEX;
+        generations[slot] = (generations[slot] + 1) & (MAX_GENERATIONS - 1);
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    private void growData() {
+        var capacity = ids.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        moved = Arrays.copyOf(moved, capacity);
+        nodes = Arrays.copyOf(nodes, capacity);
+        ids = Arrays.copyOf(ids, capacity);
+    }
+}
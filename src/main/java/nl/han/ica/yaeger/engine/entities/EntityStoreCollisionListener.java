@@ -0,0 +1,18 @@
+package nl.han.ica.yaeger.engine.entities;
+
+/**
+ * An {@code EntityStoreCollisionListener} is informed about every pair of entities of an {@link EntityStore} of which
+ * the bounds intersect. See {@link EntityStore#forEachCollision(EntityStoreCollisionListener)}.
+ */
+@FunctionalInterface
+public interface EntityStoreCollisionListener {
+
+    /**
+     * Called for a pair of entities of which the bounds intersect.
+     *
+     * @param entityStore the {@link EntityStore} that contains both entities
+     * @param index       the index of the first entity
+     * @param otherIndex  the index of the second entity, which is always higher than {@code index}
+     */
+    void onCollision(EntityStore entityStore, int index, int otherIndex);
+}
@@ -0,0 +1,18 @@
+package nl.han.ica.yaeger.engine.entities;
+
+/**
+ * An {@code EntityStoreUpdater} is called every frame to update the entities of an {@link EntityStore}. It is the
+ * counterpart of {@link nl.han.ica.yaeger.engine.entities.entity.Updatable} for an {@link EntityStore}: instead of
+ * being called once per entity, it is called once per frame and iterates over all entities itself.
+ */
+@FunctionalInterface
+public interface EntityStoreUpdater {
+
+    /**
+     * Update the entities of an {@link EntityStore}.
+     *
+     * @param entityStore the {@link EntityStore} that should be updated
+     * @param timestamp   the timestamp of the update
+     */
+    void update(EntityStore entityStore, long timestamp);
+}
@@ -1,15 +1,16 @@
 package nl.han.ica.yaeger.engine.entities;
 
 import nl.han.ica.yaeger.engine.Clearable;
+import nl.han.ica.yaeger.engine.collections.DenseSet;
 import nl.han.ica.yaeger.engine.entities.entity.Entity;
 
-import java.util.HashSet;
 import java.util.Set;
 
 /**
- * An {@code EntitySupplier} encapsulates a {@link HashSet} of instances of {@link Entity}.s
+ * An {@code EntitySupplier} encapsulates a {@link DenseSet} of instances of {@link Entity}. The instances
+ * of {@link Entity} are supplied in the order in which they were added.
  */
-public class EntitySupplier extends HashSet<Entity> implements Clearable {
+public class EntitySupplier extends DenseSet<Entity> implements Clearable {
 
     /**
      * Return a {@link Set} of instances of {@link Entity}. After this method is called,
@@ -19,9 +20,9 @@ public class EntitySupplier extends HashSet<Entity> implements Clearable {
      */
     public Set<Entity> get() {
         if (isEmpty()) {
-            return new HashSet<>();
+            return new DenseSet<>();
         } else {
-            Set<Entity> allEntities = new HashSet<>(this);
+            Set<Entity> allEntities = new DenseSet<>(this);
             clear();
             return allEntities;
         }
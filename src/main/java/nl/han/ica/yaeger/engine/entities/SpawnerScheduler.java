@@ -0,0 +1,103 @@
+package nl.han.ica.yaeger.engine.entities;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * A {@code SpawnerScheduler} calls {@link EntitySpawner#tick()} on all registered instances of
+ * {@link EntitySpawner} at their interval. It is driven by the timestamps of {@link EntityCollection#update(long)},
+ * so spawning follows the simulation clock of the scene.
+ *
+ * <p>
+ * The instances of {@link EntitySpawner} are kept in a {@link PriorityQueue}, ordered by the time at which they are
+ * due. An update only has to look at the head of the queue, so instances of {@link EntitySpawner} that are not due
+ * cost nothing.
+ * </p>
+ */
+class SpawnerScheduler {
+
+    private final Set<EntitySpawner> registered = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final List<EntitySpawner> pending = new ArrayList<>();
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+
+    /**
+     * Add an {@link EntitySpawner}. Its first tick is due at the next call of {@link #run(long)}, after which it is
+     * ticked once every interval. Adding an {@link EntitySpawner} that has already been added has no effect.
+     *
+     * @param spawner the {@link EntitySpawner} to be added
+     */
+    void add(EntitySpawner spawner) {
+        if (registered.add(spawner)) {
+            pending.add(spawner);
+        }
+    }
+
+    /**
+     * Call {@link EntitySpawner#tick()} on every {@link EntitySpawner} that is due at the given time. An
+     * {@link EntitySpawner} that has been destroyed is removed. An {@link EntitySpawner} is ticked at most once per
+     * call; if it fell behind more than one interval, its schedule is restarted from {@code now}.
+     *
+     * @param now the current timestamp in nanoseconds
+     */
+    void run(long now) {
+        if (!pending.isEmpty()) {
+            for (var i = 0; i < pending.size(); i++) {
+                var spawner = pending.get(i);
+                queue.add(new Entry(spawner, now));
+            }
+            pending.clear();
+        }
+
+        while (!queue.isEmpty() && queue.peek().due <= now) {
+            var entry = queue.poll();
+            if (entry.spawner.isDestroyed()) {
+                registered.remove(entry.spawner);
+                continue;
+            }
+
+            entry.spawner.tick();
+
+            entry.due += entry.spawner.getInterval();
+            if (entry.due <= now) {
+                entry.due = now + entry.spawner.getInterval();
+            }
+            queue.add(entry);
+        }
+    }
+
+    /**
+     * @return the number of scheduled instances of {@link EntitySpawner}
+     */
+    int size() {
+        return pending.size() + queue.size();
+    }
+
+    /**
+     * Remove all instances of {@link EntitySpawner}.
+     */
+    void clear() {
+        registered.clear();
+        pending.clear();
+        queue.clear();
+    }
+
+    private static final class Entry implements Comparable<Entry> {
+
+        private final EntitySpawner spawner;
+        private long due;
+
+        private Entry(EntitySpawner spawner, long due) {
+            this.spawner = spawner;
+            this.due = due;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return Long.compare(due, other.due);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package nl.han.ica.yaeger.engine.entities;
+
+/**
+ * The phases of {@link EntityCollection#update(long)}, in the order in which they are performed. The duration of
+ * each phase is recorded in the {@link EntityCollectionStatistics}.
+ */
+public enum UpdatePhase {
+
+    /**
+     * Removing all instances of {@link nl.han.ica.yaeger.engine.entities.entity.Removeable} that have been marked
+     * as garbage.
+     */
+    COLLECT_GARBAGE,
+
+    /**
+     * Updating all instances of {@link nl.han.ica.yaeger.engine.entities.entity.Updatable} and the
+     * {@link EntityStore}.
+     */
+    NOTIFY_UPDATABLES,
+
+    /**
+     * Calling {@link EntitySpawner#tick()} on all instances of {@link EntitySpawner} that are due.
+     */
+    TICK_SPAWNERS,
+
+    /**
+     * Adding the instances of {@link nl.han.ica.yaeger.engine.entities.entity.Entity} that have been supplied by
+     * the registered instances of {@link EntitySupplier}.
+     */
+    ADD_SUPPLIED_ENTITIES,
+
+    /**
+     * Checking for collisions.
+     */
+    CHECK_COLLISIONS,
+
+    /**
+     * Adding and removing the instances of {@link javafx.scene.Node} of the {@link EntityStore} to and from the scene
+     * graph.
+     */
+    SYNC_ENTITY_STORE,
+
+    /**
+     * Notifying the registered instances of {@link nl.han.ica.yaeger.engine.debug.StatisticsObserver}. Since this
+     * is the last phase, its duration is only available during the next update.
+     */
+    NOTIFY_STATISTICS_OBSERVERS
+}
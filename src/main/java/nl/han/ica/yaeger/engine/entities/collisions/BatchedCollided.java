@@ -0,0 +1,23 @@
+package nl.han.ica.yaeger.engine.entities.collisions;
+
+/**
+ * A {@code BatchedCollided} is a {@link Collided} that is notified of all collisions that occurred during a frame,
+ * instead of only the first. Once per frame in which at least one {@link Collider} intersects with it,
+ * {@link #onCollisions(ContactBuffer)} is called with a {@link Contact} for each of them, ordered by the moment at
+ * which the {@link Collider} was registered. {@link #onCollision(Collider, CollisionSide)} is not called.
+ */
+public interface BatchedCollided extends Collided {
+
+    /**
+     * This method is called if one or more collisions have occurred.
+     *
+     * @param contacts the {@link ContactBuffer} with a {@link Contact} for each {@link Collider} that collided.
+     *                 It is only valid during this call.
+     */
+    void onCollisions(ContactBuffer contacts);
+
+    @Override
+    default void onCollision(Collider collidingObject, CollisionSide collisionSide) {
+        // A BatchedCollided is notified through onCollisions
+    }
+}
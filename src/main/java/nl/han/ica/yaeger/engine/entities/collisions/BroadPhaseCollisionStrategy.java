@@ -0,0 +1,573 @@
+package nl.han.ica.yaeger.engine.entities.collisions;
+
+import nl.han.ica.yaeger.engine.entities.entity.Bounded;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A {@code BroadPhaseCollisionStrategy} is the base class for a {@link CollisionStrategy} that splits collision
+ * detection in a broad phase and a narrow phase.
+ *
+ * <p>
+ * Every registered {@link Bounded} is represented by a single {@link CollisionBody}, of which the bounds are
+ * refreshed once per call of {@link #checkCollisions()}. The bounds of an
+ * {@link nl.han.ica.yaeger.engine.entities.entity.Entity} are only requested again when its
+ * {@link javafx.scene.Node} has been moved or resized, which is noticed through a listener on its bounds. A subclass only has to implement the broad phase, by
+ * reporting candidate pairs in {@link #findCandidatePairs(CollisionPairs)}. The narrow phase tests these pairs
+ * against the cached bounds. Each {@link Collided} is then notified of at most one collision: the one with the
+ * intersecting {@link Collider} that has the lowest index. A {@link BatchedCollided} is notified of all
+ * collisions at once, ordered by the index of the {@link Collider}. After the internal arrays have grown to fit
+ * the scene, this does not create any new objects.
+ * </p>
+ *
+ * <p>
+ * Instances of {@link CollisionBody} that are static are kept apart. All of them are only refreshed when
+ * {@link #invalidateStaticBodies()} has been called or when a static {@link CollisionBody} has been added,
+ * removed or changed roles. At that moment {@link #findStaticCandidatePairs(CollisionPairs)} is called and the
+ * static pairs that intersect are cached. When a static {@link CollisionBody} has been marked as moved, either by
+ * the listener on its {@link javafx.scene.Node} or through {@link #markMoved(Bounded)}, only that
+ * {@link CollisionBody} is refreshed: its cached pairs are dropped and
+ * {@link #findMovedStaticCandidatePairs(List, CollisionPairs)} reports its new ones. In all other frames the cached
+ * pairs are reported again without being tested, and the broad phase only has to report pairs of which at least
+ * one {@link CollisionBody} can move.
+ * </p>
+ *
+ * <p>
+ * With continuous collision detection enabled, each {@link CollisionBody} also remembers its bounds of the
+ * previous frame. The broad phase then uses the area swept during the frame and the narrow phase tests the
+ * movement of both instances of {@link CollisionBody} between their previous and current bounds. A fast
+ * {@link Collider} that passes through a thin {@link Collided} within a single frame is detected as well. Each
+ * {@link Collided} is notified of the earliest collision and the time of impact is passed to
+ * {@link Collided#onCollision(Collider, CollisionSide, double)}.
+ * </p>
+ *
+ * <p>
+ * When a {@link ForkJoinPool} has been set, the intersection tests of the narrow phase are partitioned over its
+ * workers. Since the workers only read the cached bounds and each writes the result of its own range of pairs,
+ * no synchronization is needed. Only a few small task objects are created per frame. All callbacks are still
+ * made afterwards, on the thread that called {@link #checkCollisions()} and in the same order as when the tests
+ * are performed sequentially.
+ * </p>
+ */
+public abstract class BroadPhaseCollisionStrategy implements CollisionStrategy {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int NO_HIT = Integer.MAX_VALUE;
+
+    /**
+     * The number of candidate pairs that is tested by a single task when none is specified.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 4096;
+
+    private final Map<Bounded, CollisionBody> bodiesByBounded = new HashMap<>();
+    private CollisionBody[] bodies = new CollisionBody[INITIAL_CAPACITY];
+    private int bodyCount;
+
+    private final CollisionPairs pairs = new CollisionPairs();
+    private final CollisionPairs staticPairs = new CollisionPairs();
+    private final CollisionPairs staticHits = new CollisionPairs();
+    private final List<CollisionBody> movedStaticBodies = new ArrayList<>();
+    private boolean staticBodiesChanged;
+    private byte[] pairHits = new byte[INITIAL_CAPACITY];
+    private double[] pairTimes = new double[INITIAL_CAPACITY];
+    private boolean continuous;
+    private ForkJoinPool forkJoinPool;
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+    private int[] firstHits = new int[INITIAL_CAPACITY];
+    private double[] firstHitTimes = new double[INITIAL_CAPACITY];
+
+    private int[] hitOffsets = new int[INITIAL_CAPACITY + 1];
+    private int[] hitCursors = new int[INITIAL_CAPACITY];
+    private int[] unsortedHitCollideds = new int[INITIAL_CAPACITY];
+    private int[] unsortedHitColliders = new int[INITIAL_CAPACITY];
+    private int[] sortedHitColliders = new int[INITIAL_CAPACITY];
+    private int hitCount;
+    private final ContactBuffer contacts = new ContactBuffer();
+
+    /**
+     * Set the {@link ForkJoinPool} on which the intersection tests should be performed.
+     *
+     * @param forkJoinPool the {@link ForkJoinPool} to be used, or {@code null} to perform all tests on the thread
+     *                     that calls {@link #checkCollisions()}
+     */
+    public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    /**
+     * Set the number of candidate pairs that is tested by a single task. Frames with fewer than twice this number
+     * of candidate pairs are tested sequentially, since splitting them would cost more than it saves.
+     *
+     * @param parallelThreshold the number of candidate pairs per task
+     * @throws IllegalArgumentException if {@code parallelThreshold} is smaller than one
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("The parallel threshold should be at least 1, but was "
+                    + parallelThreshold);
+        }
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Enable or disable continuous collision detection. When enabled, the movement of each {@link CollisionBody}
+     * between the previous and the current frame is taken into account, instead of only its current bounds.
+     *
+     * @param continuous {@code true} to enable continuous collision detection
+     */
+    public void setContinuousCollisionDetection(boolean continuous) {
+        this.continuous = continuous;
+    }
+
+    /**
+     * @return {@code true} if continuous collision detection is enabled
+     */
+    public boolean isContinuousCollisionDetection() {
+        return continuous;
+    }
+
+    /**
+     * Refresh the bounds of all static instances of {@link CollisionBody} at the next call of
+     * {@link #checkCollisions()}.
+     */
+    public void invalidateStaticBodies() {
+        staticBodiesChanged = true;
+    }
+
+    /**
+     * Refresh the bounds of the {@link CollisionBody} of the given {@link Bounded} at the next call of
+     * {@link #checkCollisions()}. An {@link nl.han.ica.yaeger.engine.entities.entity.Entity} is marked as moved
+     * automatically when its {@link javafx.scene.Node} is moved, so this method is only needed for a
+     * {@link Bounded} of which the bounds do not follow a {@link javafx.scene.Node}.
+     *
+     * @param bounded the {@link Bounded} that has been moved
+     */
+    public void markMoved(Bounded bounded) {
+        var body = bodiesByBounded.get(bounded);
+        if (body != null) {
+            markMoved(body);
+        }
+    }
+
+    @Override
+    public void register(Collider collider) {
+        var body = getOrCreateBody(collider);
+        body.setCollider(collider);
+        markChanged(body);
+    }
+
+    @Override
+    public void register(Collided collided) {
+        var body = getOrCreateBody(collided);
+        body.setCollided(collided);
+        markChanged(body);
+    }
+
+    @Override
+    public void remove(Collider collider) {
+        var body = bodiesByBounded.get(collider);
+        if (body != null) {
+            body.setCollider(null);
+            markChanged(body);
+            removeIfUnused(body);
+        }
+    }
+
+    @Override
+    public void remove(Collided collided) {
+        var body = bodiesByBounded.get(collided);
+        if (body != null) {
+            body.setCollided(null);
+            markChanged(body);
+            removeIfUnused(body);
+        }
+    }
+
+    @Override
+    public final void checkCollisions() {
+        if (staticBodiesChanged) {
+            refreshStaticBodies();
+        } else if (!movedStaticBodies.isEmpty()) {
+            refreshMovedStaticBodies();
+        }
+
+        for (var i = 0; i < bodyCount; i++) {
+            if (!bodies[i].isStatic()) {
+                bodies[i].updateBounds(continuous);
+                bodies[i].clearMoved();
+            }
+        }
+
+        pairs.clear();
+        pairs.addAll(staticHits);
+        var firstCandidate = pairs.size();
+        findCandidatePairs(pairs);
+        testPairs(firstCandidate);
+        findHits();
+        sortBatchedHits();
+        notifyCollideds();
+    }
+
+    /**
+     * Report all pairs of {@link CollisionBody} that might collide and of which at least one is not static. Pairs
+     * that do not collide may be reported as well, since they are filtered out by the narrow phase. Use the swept
+     * bounds of each {@link CollisionBody}, such as {@link CollisionBody#getSweptMinX()}, so movement is taken
+     * into account when continuous collision detection is enabled.
+     *
+     * @param pairs the {@link CollisionPairs} to which the candidate pairs should be added
+     */
+    protected abstract void findCandidatePairs(CollisionPairs pairs);
+
+    /**
+     * Report all pairs of {@link CollisionBody} that might collide and are both static. This method is only called
+     * when the static instances of {@link CollisionBody} have changed. By default, all pairs of static instances
+     * are reported.
+     *
+     * @param pairs the {@link CollisionPairs} to which the candidate pairs should be added
+     */
+    protected void findStaticCandidatePairs(CollisionPairs pairs) {
+        for (var i = 0; i < bodyCount; i++) {
+            if (!bodies[i].isStatic()) {
+                continue;
+            }
+
+            for (var j = 0; j < bodyCount; j++) {
+                if (bodies[j].isStatic()) {
+                    pairs.add(bodies[i], bodies[j]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Report all pairs of {@link CollisionBody} that might collide, are both static and of which at least one has
+     * been moved. This method is only called when some static instances of {@link CollisionBody} have been moved,
+     * after their bounds have been refreshed. By default, all pairs of a moved and a static instance are reported,
+     * so this takes time proportional to the number of moved instances times the number of static instances.
+     *
+     * @param movedBodies the static instances of {@link CollisionBody} that have been moved
+     * @param pairs       the {@link CollisionPairs} to which the candidate pairs should be added
+     */
+    protected void findMovedStaticCandidatePairs(List<CollisionBody> movedBodies, CollisionPairs pairs) {
+        for (var k = 0; k < movedBodies.size(); k++) {
+            var moved = movedBodies.get(k);
+
+            for (var i = 0; i < bodyCount; i++) {
+                var other = bodies[i];
+
+                // A pair of two moved instances is reported by the one with the lowest index
+                if (!other.isStatic() || other.isMoved() && other.getIndex() < moved.getIndex()) {
+                    continue;
+                }
+
+                pairs.add(moved, other);
+                pairs.add(other, moved);
+            }
+        }
+    }
+
+    /**
+     * Called when a {@link CollisionBody} has been added.
+     *
+     * @param body the {@link CollisionBody} that has been added
+     */
+    protected void bodyAdded(CollisionBody body) {
+    }
+
+    /**
+     * Called when a {@link CollisionBody} has been removed.
+     *
+     * @param body the {@link CollisionBody} that has been removed
+     */
+    protected void bodyRemoved(CollisionBody body) {
+    }
+
+    /**
+     * @return the number of instances of {@link CollisionBody}
+     */
+    protected int getBodyCount() {
+        return bodyCount;
+    }
+
+    /**
+     * @param index the index of the {@link CollisionBody}
+     * @return the {@link CollisionBody} at the given index
+     */
+    protected CollisionBody getBody(int index) {
+        return bodies[index];
+    }
+
+    private CollisionBody getOrCreateBody(Bounded bounded) {
+        var body = bodiesByBounded.get(bounded);
+        if (body == null) {
+            var created = new CollisionBody(bounded);
+            created.startTracking(() -> markMoved(created));
+            body = created;
+            bodiesByBounded.put(bounded, body);
+
+            if (bodyCount == bodies.length) {
+                bodies = Arrays.copyOf(bodies, bodyCount * 2);
+                firstHits = new int[bodies.length];
+                firstHitTimes = new double[bodies.length];
+                hitOffsets = new int[bodies.length + 1];
+                hitCursors = new int[bodies.length];
+            }
+            body.setIndex(bodyCount);
+            bodies[bodyCount++] = body;
+
+            bodyAdded(body);
+        }
+        return body;
+    }
+
+    private void removeIfUnused(CollisionBody body) {
+        if (!body.isUnused()) {
+            return;
+        }
+
+        bodiesByBounded.remove(body.getBounded());
+        body.stopTracking();
+
+        var last = bodies[--bodyCount];
+        markChanged(last);
+        last.setIndex(body.getIndex());
+        bodies[body.getIndex()] = last;
+        bodies[bodyCount] = null;
+
+        bodyRemoved(body);
+    }
+
+    private void markChanged(CollisionBody body) {
+        if (body.isStatic()) {
+            staticBodiesChanged = true;
+        }
+    }
+
+    private void markMoved(CollisionBody body) {
+        if (body.markMoved() && body.isStatic()) {
+            movedStaticBodies.add(body);
+        }
+    }
+
+    private void refreshStaticBodies() {
+        for (var i = 0; i < bodyCount; i++) {
+            if (bodies[i].isStatic()) {
+                bodies[i].updateBounds(false);
+                bodies[i].clearMoved();
+            }
+        }
+        movedStaticBodies.clear();
+
+        staticPairs.clear();
+        findStaticCandidatePairs(staticPairs);
+
+        staticHits.clear();
+        addStaticHits();
+
+        staticBodiesChanged = false;
+    }
+
+    private void refreshMovedStaticBodies() {
+        for (var i = 0; i < movedStaticBodies.size(); i++) {
+            movedStaticBodies.get(i).updateBounds(false);
+        }
+
+        staticPairs.clear();
+        findMovedStaticCandidatePairs(movedStaticBodies, staticPairs);
+
+        staticHits.removeMoved(bodies);
+        addStaticHits();
+
+        for (var i = 0; i < movedStaticBodies.size(); i++) {
+            movedStaticBodies.get(i).clearMoved();
+        }
+        movedStaticBodies.clear();
+    }
+
+    private void addStaticHits() {
+        for (var pair = 0; pair < staticPairs.size(); pair++) {
+            var collidedIndex = staticPairs.getCollidedIndex(pair);
+            var colliderIndex = staticPairs.getColliderIndex(pair);
+
+            if (bodies[collidedIndex].intersects(bodies[colliderIndex])) {
+                staticHits.add(collidedIndex, colliderIndex);
+            }
+        }
+    }
+
+    private void testPairs(int firstCandidate) {
+        if (pairHits.length < pairs.size()) {
+            pairHits = new byte[Math.max(pairs.size(), pairHits.length * 2)];
+            pairTimes = new double[pairHits.length];
+        }
+
+        // Static pairs do not move, so they have been touching since the start of the frame
+        Arrays.fill(pairHits, 0, firstCandidate, (byte) 1);
+        Arrays.fill(pairTimes, 0, firstCandidate, continuous ? 0 : 1);
+
+        var candidates = pairs.size() - firstCandidate;
+        if (forkJoinPool != null && candidates >= 2 * parallelThreshold) {
+            forkJoinPool.invoke(new IntersectionTask(firstCandidate, pairs.size()));
+        } else {
+            testPairs(firstCandidate, pairs.size());
+        }
+    }
+
+    private void testPairs(int from, int to) {
+        for (var pair = from; pair < to; pair++) {
+            var collided = bodies[pairs.getCollidedIndex(pair)];
+            var collider = bodies[pairs.getColliderIndex(pair)];
+
+            if (continuous) {
+                var timeOfImpact = collided.findTimeOfImpact(collider);
+                pairHits[pair] = Double.isNaN(timeOfImpact) ? (byte) 0 : (byte) 1;
+                pairTimes[pair] = timeOfImpact;
+            } else {
+                pairHits[pair] = collided.intersects(collider) ? (byte) 1 : (byte) 0;
+                pairTimes[pair] = 1;
+            }
+        }
+    }
+
+    private void findHits() {
+        Arrays.fill(firstHits, 0, bodyCount, NO_HIT);
+        Arrays.fill(hitOffsets, 0, bodyCount + 1, 0);
+        hitCount = 0;
+
+        for (var pair = 0; pair < pairs.size(); pair++) {
+            if (pairHits[pair] == 0) {
+                continue;
+            }
+
+            var collidedIndex = pairs.getCollidedIndex(pair);
+            var colliderIndex = pairs.getColliderIndex(pair);
+
+            var timeOfImpact = pairTimes[pair];
+
+            if (bodies[collidedIndex].getBatchedCollided() != null) {
+                addBatchedHit(collidedIndex, colliderIndex);
+            } else if (firstHits[collidedIndex] == NO_HIT || timeOfImpact < firstHitTimes[collidedIndex]
+                    || timeOfImpact == firstHitTimes[collidedIndex] && colliderIndex < firstHits[collidedIndex]) {
+                firstHits[collidedIndex] = colliderIndex;
+                firstHitTimes[collidedIndex] = timeOfImpact;
+            }
+        }
+    }
+
+    private void addBatchedHit(int collidedIndex, int colliderIndex) {
+        if (hitCount == unsortedHitCollideds.length) {
+            unsortedHitCollideds = Arrays.copyOf(unsortedHitCollideds, hitCount * 2);
+            unsortedHitColliders = Arrays.copyOf(unsortedHitColliders, hitCount * 2);
+            sortedHitColliders = new int[hitCount * 2];
+        }
+
+        unsortedHitCollideds[hitCount] = collidedIndex;
+        unsortedHitColliders[hitCount] = colliderIndex;
+        hitOffsets[collidedIndex + 1]++;
+        hitCount++;
+    }
+
+    /**
+     * Group the hits of all instances of {@link BatchedCollided} by the index of the {@link Collided} using a
+     * counting sort, after which each group is sorted on the index of the {@link Collider}.
+     */
+    private void sortBatchedHits() {
+        if (hitCount == 0) {
+            return;
+        }
+
+        for (var i = 0; i < bodyCount; i++) {
+            hitOffsets[i + 1] += hitOffsets[i];
+            hitCursors[i] = hitOffsets[i];
+        }
+
+        for (var hit = 0; hit < hitCount; hit++) {
+            sortedHitColliders[hitCursors[unsortedHitCollideds[hit]]++] = unsortedHitColliders[hit];
+        }
+
+        for (var i = 0; i < bodyCount; i++) {
+            insertionSort(sortedHitColliders, hitOffsets[i], hitOffsets[i + 1]);
+        }
+    }
+
+    private static void insertionSort(int[] values, int from, int to) {
+        for (var i = from + 1; i < to; i++) {
+            var value = values[i];
+            var j = i - 1;
+
+            while (j >= from && values[j] > value) {
+                values[j + 1] = values[j];
+                j--;
+            }
+            values[j + 1] = value;
+        }
+    }
+
+    private void notifyCollideds() {
+        for (var i = 0; i < bodyCount; i++) {
+            var collided = bodies[i];
+
+            if (collided.getBatchedCollided() != null) {
+                notifyBatchedCollided(collided);
+            } else if (firstHits[i] != NO_HIT) {
+                var collider = bodies[firstHits[i]];
+                var timeOfImpact = firstHitTimes[i];
+                collided.getCollided().onCollision(collider.getCollider(),
+                        collided.findCollisionSide(collider, timeOfImpact), timeOfImpact);
+            }
+        }
+    }
+
+    private void notifyBatchedCollided(CollisionBody collided) {
+        var from = hitOffsets[collided.getIndex()];
+        var to = hitOffsets[collided.getIndex() + 1];
+        if (from == to) {
+            return;
+        }
+
+        contacts.clear();
+        for (var hit = from; hit < to; hit++) {
+            if (hit > from && sortedHitColliders[hit] == sortedHitColliders[hit - 1]) {
+                continue;
+            }
+
+            var collider = bodies[sortedHitColliders[hit]];
+            var timeOfImpact = continuous ? collided.findTimeOfImpact(collider) : 1;
+            contacts.add(collider.getCollider(), collided.findCollisionSide(collider, timeOfImpact), timeOfImpact);
+        }
+
+        collided.getBatchedCollided().onCollisions(contacts);
+        contacts.clear();
+    }
+
+    /**
+     * An {@code IntersectionTask} tests a range of candidate pairs, splitting itself in two as long as the range
+     * is larger than the parallel threshold.
+     */
+    private class IntersectionTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+
+        private IntersectionTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= parallelThreshold) {
+                testPairs(from, to);
+            } else {
+                var middle = (from + to) >>> 1;
+                invokeAll(new IntersectionTask(from, middle), new IntersectionTask(middle, to));
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package nl.han.ica.yaeger.engine.entities.collisions;
+
+import nl.han.ica.yaeger.engine.collections.DenseSet;
+
+import java.util.Set;
+
+/**
+ * A {@code BruteForceCollisionStrategy} asks each {@link Collided} to check for collisions with all registered
+ * instances of {@link Collider}. This requires no bookkeeping, which makes it the best choice for a
+ * {@link nl.han.ica.yaeger.engine.scenes.YaegerScene} with only a few instances of {@link Collided} and
+ * {@link Collider}.
+ */
+public class BruteForceCollisionStrategy implements CollisionStrategy {
+
+    private final Set<Collided> collideds = new DenseSet<>();
+    private final Set<Collider> colliders = new DenseSet<>();
+    private final ContactBuffer contacts = new ContactBuffer();
+
+    @Override
+    public void register(Collider collider) {
+        colliders.add(collider);
+    }
+
+    @Override
+    public void register(Collided collided) {
+        collideds.add(collided);
+    }
+
+    @Override
+    public void remove(Collider collider) {
+        colliders.remove(collider);
+    }
+
+    @Override
+    public void remove(Collided collided) {
+        collideds.remove(collided);
+    }
+
+    @Override
+    public void checkCollisions() {
+        for (Collided collided : collideds) {
+            if (collided instanceof BatchedCollided) {
+                checkForCollisions((BatchedCollided) collided);
+            } else {
+                collided.checkForCollisions(colliders);
+            }
+        }
+    }
+
+    private void checkForCollisions(BatchedCollided collided) {
+        contacts.clear();
+        var bounds = collided.getBounds();
+
+        for (Collider collider : colliders) {
+            if (!collided.acceptsCollisionsWith(collider)) {
+                continue;
+            }
+
+            var colliderBounds = collider.getBounds();
+
+            if (bounds.intersects(colliderBounds) && !collided.equals(collider)) {
+                contacts.add(collider, CollisionSide.of(
+                        bounds.getMinX(), bounds.getMinY(), bounds.getMaxX(), bounds.getMaxY(),
+                        colliderBounds.getMinX(), colliderBounds.getMinY(),
+                        colliderBounds.getMaxX(), colliderBounds.getMaxY()), 1);
+            }
+        }
+
+        if (!contacts.isEmpty()) {
+            collided.onCollisions(contacts);
+        }
+        contacts.clear();
+    }
+}
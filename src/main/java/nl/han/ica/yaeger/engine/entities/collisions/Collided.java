@@ -1,7 +1,5 @@
 package nl.han.ica.yaeger.engine.entities.collisions;
 
-import javafx.geometry.BoundingBox;
-import javafx.geometry.Bounds;
 import nl.han.ica.yaeger.engine.entities.entity.Bounded;
 
 import java.util.Set;
@@ -11,6 +9,33 @@ import java.util.Set;
  */
 public interface Collided extends Bounded {
 
+    /**
+     * The collision mask of a {@code Collided} that does not specify one. It accepts all collision categories.
+     */
+    int DEFAULT_COLLISION_MASK = ~0;
+
+    /**
+     * Return the collision categories this {@code Collided} can collide with, as a bitmask. A {@link Collider}
+     * of which the collision category does not share a bit with this mask is skipped before its
+     * {@link javafx.geometry.Bounds} are even examined.
+     *
+     * @return the collision mask, which is {@link #DEFAULT_COLLISION_MASK} by default
+     */
+    default int getCollisionMask() {
+        return DEFAULT_COLLISION_MASK;
+    }
+
+    /**
+     * Check whether this {@code Collided} can collide with a {@link Collider}, based on the collision mask of this
+     * {@code Collided} and the collision category of the {@link Collider}.
+     *
+     * @param collider the {@link Collider}
+     * @return {@code true} if the collision mask and collision category share at least one bit
+     */
+    default boolean acceptsCollisionsWith(Collider collider) {
+        return (getCollisionMask() & collider.getCollisionCategory()) != 0;
+    }
+
     /**
      * Perform collision detection with a {@code Set} of {@code Collider}s. Only the first collision
      * is detected.
@@ -22,10 +47,21 @@ public interface Collided extends Bounded {
             return;
         }
 
+        var bounds = getBounds();
+
         for (Collider collider : colliders) {
-            if (collisionHasOccured(collider)) {
-                CollisionSide collisionSide = findCollisionSide(collider);
-                onCollision(collider, collisionSide);
+            if (!acceptsCollisionsWith(collider)) {
+                continue;
+            }
+
+            var colliderBounds = collider.getBounds();
+
+            if (bounds.intersects(colliderBounds) && !this.equals(collider)) {
+                var collisionSide = CollisionSide.of(
+                        bounds.getMinX(), bounds.getMinY(), bounds.getMaxX(), bounds.getMaxY(),
+                        colliderBounds.getMinX(), colliderBounds.getMinY(),
+                        colliderBounds.getMaxX(), colliderBounds.getMaxY());
+                onCollision(collider, collisionSide, 1);
                 break;
             }
         }
@@ -39,66 +75,18 @@ public interface Collided extends Bounded {
      */
     void onCollision(Collider collidingObject, CollisionSide collisionSide);
 
-    private boolean collisionHasOccured(Collider collider) {
-        return getBounds().intersects(collider.getBounds()) && !this.equals(collider);
-    }
-
-    private CollisionSide findCollisionSide(Collider collider) {
-
-        if (collider.getBounds().intersects(createTopCollisionBoundingBox())) {
-            return CollisionSide.TOP;
-        } else if (collider.getBounds().intersects(createBottomCollisionBoundingBox())) {
-            return CollisionSide.BOTTOM;
-        } else if (collider.getBounds().intersects(createLeftCollisionBoundingBox())) {
-            return CollisionSide.LEFT;
-        } else if (collider.getBounds().intersects(createRightCollisionBoundingBox())) {
-            return CollisionSide.RIGHT;
-        } else {
-            return CollisionSide.NONE;
-        }
-    }
-
-    private Bounds createTopCollisionBoundingBox() {
-        double minX = getBounds().getMinX();
-        double minY = getBounds().getMaxY() - 1;
-        double minZ = getBounds().getMinZ();
-        double width = getBounds().getWidth();
-        double height = 1;
-        double depth = getBounds().getDepth();
-
-        return new BoundingBox(minX, minY, minZ, width, height, depth);
-    }
-
-    private Bounds createBottomCollisionBoundingBox() {
-        double minX = getBounds().getMinX();
-        double minY = getBounds().getMinY();
-        double minZ = getBounds().getMinZ();
-        double width = getBounds().getWidth();
-        double height = 1;
-        double depth = getBounds().getDepth();
-
-        return new BoundingBox(minX, minY, minZ, width, height, depth);
-    }
-
-    private Bounds createLeftCollisionBoundingBox() {
-        double minX = getBounds().getMinX();
-        double minY = getBounds().getMinY();
-        double minZ = getBounds().getMinZ();
-        double width = 1;
-        double height = getBounds().getHeight();
-        double depth = getBounds().getDepth();
-
-        return new BoundingBox(minX, minY, minZ, width, height, depth);
-    }
-
-    private Bounds createRightCollisionBoundingBox() {
-        double minX = getBounds().getMaxX() - 1;
-        double minY = getBounds().getMinY();
-        double minZ = getBounds().getMinZ();
-        double width = 1;
-        double height = getBounds().getHeight();
-        double depth = getBounds().getDepth();
-
-        return new BoundingBox(minX, minY, minZ, width, height, depth);
+    /**
+     * This method is called if a collision has occurred. It also receives the moment at which the collision
+     * occurred, as a fraction of the movement during the last frame: {@code 0} means the objects were already
+     * touching at the start of the frame and {@code 1} means they touch at its end. Only a
+     * {@link BroadPhaseCollisionStrategy} with continuous collision detection enabled reports a value other than
+     * {@code 1}. By default, this method calls {@link #onCollision(Collider, CollisionSide)}.
+     *
+     * @param collidingObject The EntityCollection you are colliding with.
+     * @param collisionSide   The side of the collision.
+     * @param timeOfImpact    The moment of the collision, between {@code 0} and {@code 1}.
+     */
+    default void onCollision(Collider collidingObject, CollisionSide collisionSide, double timeOfImpact) {
+        onCollision(collidingObject, collisionSide);
     }
 }
@@ -2,5 +2,23 @@ package nl.han.ica.yaeger.engine.entities.collisions;
 
 import nl.han.ica.yaeger.engine.entities.entity.Bounded;
 
+/**
+ * A {@code Collider} represents an Entity that can collide with a {@link Collided}.
+ */
 public interface Collider extends Bounded {
+
+    /**
+     * The collision category of a {@code Collider} that does not specify one.
+     */
+    int DEFAULT_COLLISION_CATEGORY = 1;
+
+    /**
+     * Return the collision category of this {@code Collider}, as a bitmask. A {@link Collided} only collides with
+     * this {@code Collider} if its collision mask shares at least one bit with this category.
+     *
+     * @return the collision category, which is {@link #DEFAULT_COLLISION_CATEGORY} by default
+     */
+    default int getCollisionCategory() {
+        return DEFAULT_COLLISION_CATEGORY;
+    }
 }
@@ -0,0 +1,411 @@
+package nl.han.ica.yaeger.engine.entities.collisions;
+
+import javafx.beans.InvalidationListener;
+import javafx.scene.Node;
+import nl.han.ica.yaeger.engine.entities.entity.Bounded;
+import nl.han.ica.yaeger.engine.entities.entity.Entity;
+import nl.han.ica.yaeger.engine.entities.entity.Updatable;
+
+/**
+ * A {@code CollisionBody} is the representation of a {@link Bounded} within a {@link BroadPhaseCollisionStrategy}.
+ * It holds the roles the {@link Bounded} has been registered with and caches its {@link javafx.geometry.Bounds}
+ * as primitive values. These values are refreshed once per call of
+ * {@link BroadPhaseCollisionStrategy#checkCollisions()}, together with its collision category and collision
+ * mask, so all collision tests within that call use the same snapshot, without creating new objects.
+ *
+ * <p>
+ * When the {@link Bounded} is an {@link Entity}, the {@code CollisionBody} listens to the bounds of its
+ * {@link Node} and is marked as moved as soon as they are invalidated. Its bounds are only requested again after
+ * it has been marked as moved. The bounds of any other {@link Bounded} are requested at every refresh.
+ * </p>
+ *
+ * <p>
+ * A {@code CollisionBody} of which the {@link Bounded} is not {@link Updatable} is considered static. Its values
+ * are only refreshed when {@link BroadPhaseCollisionStrategy#invalidateStaticBodies()} has been called, the set
+ * of static instances has changed or it has been marked as moved.
+ * </p>
+ */
+public final class CollisionBody {
+
+    private final Bounded bounded;
+    private final boolean isStatic;
+    private Collider collider;
+    private Collided collided;
+    private BatchedCollided batchedCollided;
+    private int index;
+
+    private int collisionCategory;
+    private int collisionMask;
+
+    private double minX;
+    private double minY;
+    private double maxX;
+    private double maxY;
+
+    private Node node;
+    private InvalidationListener listener;
+    private boolean moved = true;
+
+    private boolean hasBounds;
+    private double previousMinX;
+    private double previousMinY;
+    private double previousMaxX;
+    private double previousMaxY;
+
+    CollisionBody(Bounded bounded) {
+        this.bounded = bounded;
+        this.isStatic = !(bounded instanceof Updatable);
+    }
+
+    /**
+     * @return the {@link Bounded} this {@code CollisionBody} represents
+     */
+    public Bounded getBounded() {
+        return bounded;
+    }
+
+    /**
+     * @return {@code true} if the {@link Bounded} is not {@link Updatable} and is therefore not expected to move
+     * every frame
+     */
+    public boolean isStatic() {
+        return isStatic;
+    }
+
+    /**
+     * @return the {@link Collider} role of this {@code CollisionBody}, or {@code null} if it has not been
+     * registered as a {@link Collider}
+     */
+    public Collider getCollider() {
+        return collider;
+    }
+
+    /**
+     * @return the {@link Collided} role of this {@code CollisionBody}, or {@code null} if it has not been
+     * registered as a {@link Collided}
+     */
+    public Collided getCollided() {
+        return collided;
+    }
+
+    /**
+     * @return the {@link Collided} role of this {@code CollisionBody} if it is a {@link BatchedCollided}, or
+     * {@code null} otherwise
+     */
+    public BatchedCollided getBatchedCollided() {
+        return batchedCollided;
+    }
+
+    /**
+     * @return {@code true} if this {@code CollisionBody} has been registered as a {@link Collider}
+     */
+    public boolean isCollider() {
+        return collider != null;
+    }
+
+    /**
+     * @return {@code true} if this {@code CollisionBody} has been registered as a {@link Collided}
+     */
+    public boolean isCollided() {
+        return collided != null;
+    }
+
+    /**
+     * @return the index of this {@code CollisionBody} within its {@link BroadPhaseCollisionStrategy}
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the collision category of the {@link Collider}, as it was at the start of the last check
+     */
+    public int getCollisionCategory() {
+        return collisionCategory;
+    }
+
+    /**
+     * @return the collision mask of the {@link Collided}, as it was at the start of the last check
+     */
+    public int getCollisionMask() {
+        return collisionMask;
+    }
+
+    /**
+     * Check whether the collision mask of this {@code CollisionBody} shares at least one bit with the collision
+     * category of another.
+     *
+     * @param collider the {@code CollisionBody} that might collide with this one
+     * @return {@code true} if this {@code CollisionBody} accepts collisions with the given one
+     */
+    public boolean accepts(CollisionBody collider) {
+        return (collisionMask & collider.collisionCategory) != 0;
+    }
+
+    /**
+     * @return the minimal x-coordinate, as it was at the start of the last check
+     */
+    public double getMinX() {
+        return minX;
+    }
+
+    /**
+     * @return the minimal y-coordinate, as it was at the start of the last check
+     */
+    public double getMinY() {
+        return minY;
+    }
+
+    /**
+     * @return the maximal x-coordinate, as it was at the start of the last check
+     */
+    public double getMaxX() {
+        return maxX;
+    }
+
+    /**
+     * @return the maximal y-coordinate, as it was at the start of the last check
+     */
+    public double getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * @return the minimal x-coordinate of the area covered during the last frame. This equals {@link #getMinX()}
+     * unless continuous collision detection is enabled.
+     */
+    public double getSweptMinX() {
+        return Math.min(previousMinX, minX);
+    }
+
+    /**
+     * @return the minimal y-coordinate of the area covered during the last frame. This equals {@link #getMinY()}
+     * unless continuous collision detection is enabled.
+     */
+    public double getSweptMinY() {
+        return Math.min(previousMinY, minY);
+    }
+
+    /**
+     * @return the maximal x-coordinate of the area covered during the last frame. This equals {@link #getMaxX()}
+     * unless continuous collision detection is enabled.
+     */
+    public double getSweptMaxX() {
+        return Math.max(previousMaxX, maxX);
+    }
+
+    /**
+     * @return the maximal y-coordinate of the area covered during the last frame. This equals {@link #getMaxY()}
+     * unless continuous collision detection is enabled.
+     */
+    public double getSweptMaxY() {
+        return Math.max(previousMaxY, maxY);
+    }
+
+    /**
+     * @return {@code true} if the cached bounds do not cover any area
+     */
+    public boolean isEmpty() {
+        return !(maxX >= minX) || !(maxY >= minY);
+    }
+
+    /**
+     * Check whether the cached bounds of this {@code CollisionBody} intersect with those of another. As with
+     * {@link javafx.geometry.Bounds#intersects(javafx.geometry.Bounds)}, touching edges count as an intersection.
+     *
+     * @param other the other {@code CollisionBody}
+     * @return {@code true} if both are not empty and intersect
+     */
+    public boolean intersects(CollisionBody other) {
+        return !isEmpty() && !other.isEmpty()
+                && other.minX <= maxX && minX <= other.maxX
+                && other.minY <= maxY && minY <= other.maxY;
+    }
+
+    /**
+     * Find the first moment at which the bounds of this {@code CollisionBody} and those of another intersect, while
+     * both move from their previous bounds to their current bounds during the last frame. Each edge is assumed to
+     * move linearly, so fast instances can not pass through each other unnoticed.
+     *
+     * @param other the other {@code CollisionBody}
+     * @return the moment of the first intersection, as a fraction between {@code 0} and {@code 1} of the
+     * movement during the last frame, or {@link Double#NaN} if they do not intersect during the last frame
+     */
+    public double findTimeOfImpact(CollisionBody other) {
+        if (isEmpty() || other.isEmpty()) {
+            return Double.NaN;
+        }
+
+        var first = 0d;
+        var last = 1d;
+
+        // Each pair of opposite edges gives a condition c + d * t <= 0 that holds while the boxes overlap
+        var c = other.previousMinX - previousMaxX;
+        var d = (other.minX - other.previousMinX) - (maxX - previousMaxX);
+        first = Math.max(first, firstMoment(c, d));
+        last = Math.min(last, lastMoment(c, d));
+
+        c = previousMinX - other.previousMaxX;
+        d = (minX - previousMinX) - (other.maxX - other.previousMaxX);
+        first = Math.max(first, firstMoment(c, d));
+        last = Math.min(last, lastMoment(c, d));
+
+        c = other.previousMinY - previousMaxY;
+        d = (other.minY - other.previousMinY) - (maxY - previousMaxY);
+        first = Math.max(first, firstMoment(c, d));
+        last = Math.min(last, lastMoment(c, d));
+
+        c = previousMinY - other.previousMaxY;
+        d = (minY - previousMinY) - (other.maxY - other.previousMaxY);
+        first = Math.max(first, firstMoment(c, d));
+        last = Math.min(last, lastMoment(c, d));
+
+        return first <= last ? first : Double.NaN;
+    }
+
+    /**
+     * Find the side of this {@code CollisionBody} that is hit by the given {@code CollisionBody}.
+     *
+     * @param collider the {@code CollisionBody} that collides with this one
+     * @return the {@link CollisionSide} of this {@code CollisionBody} that is hit
+     */
+    public CollisionSide findCollisionSide(CollisionBody collider) {
+        return CollisionSide.of(minX, minY, maxX, maxY, collider.minX, collider.minY, collider.maxX, collider.maxY);
+    }
+
+    /**
+     * Find the side of this {@code CollisionBody} that is hit by the given {@code CollisionBody}, at the given
+     * moment during the last frame.
+     *
+     * @param collider     the {@code CollisionBody} that collides with this one
+     * @param timeOfImpact the moment of the collision, as returned by {@link #findTimeOfImpact(CollisionBody)}
+     * @return the {@link CollisionSide} of this {@code CollisionBody} that is hit
+     */
+    public CollisionSide findCollisionSide(CollisionBody collider, double timeOfImpact) {
+        if (timeOfImpact >= 1) {
+            return findCollisionSide(collider);
+        }
+
+        return CollisionSide.of(
+                interpolate(previousMinX, minX, timeOfImpact), interpolate(previousMinY, minY, timeOfImpact),
+                interpolate(previousMaxX, maxX, timeOfImpact), interpolate(previousMaxY, maxY, timeOfImpact),
+                interpolate(collider.previousMinX, collider.minX, timeOfImpact),
+                interpolate(collider.previousMinY, collider.minY, timeOfImpact),
+                interpolate(collider.previousMaxX, collider.maxX, timeOfImpact),
+                interpolate(collider.previousMaxY, collider.maxY, timeOfImpact));
+    }
+
+    /**
+     * @return {@code true} if this {@code CollisionBody} has been marked as moved since its bounds were last
+     * requested
+     */
+    boolean isMoved() {
+        return moved;
+    }
+
+    /**
+     * Mark this {@code CollisionBody} as moved, so its bounds are requested at the next refresh.
+     *
+     * @return {@code true} if it was not already marked as moved
+     */
+    boolean markMoved() {
+        if (moved) {
+            return false;
+        }
+        moved = true;
+        return true;
+    }
+
+    void clearMoved() {
+        moved = false;
+    }
+
+    /**
+     * Start listening to the bounds of the {@link Node} of the {@link Bounded}, if it is an {@link Entity} that has
+     * one.
+     *
+     * @param onMoved the {@link Runnable} that is called when the bounds of the {@link Node} are invalidated
+     */
+    void startTracking(Runnable onMoved) {
+        if (!(bounded instanceof Entity) || ((Entity) bounded).getGameNode() == null) {
+            return;
+        }
+
+        node = ((Entity) bounded).getGameNode();
+        listener = observable -> onMoved.run();
+        node.boundsInParentProperty().addListener(listener);
+    }
+
+    /**
+     * Stop listening to the bounds of the {@link Node}.
+     */
+    void stopTracking() {
+        if (node != null) {
+            node.boundsInParentProperty().removeListener(listener);
+            node = null;
+            listener = null;
+        }
+    }
+
+    void setCollider(Collider collider) {
+        this.collider = collider;
+    }
+
+    void setCollided(Collided collided) {
+        this.collided = collided;
+        this.batchedCollided = collided instanceof BatchedCollided ? (BatchedCollided) collided : null;
+    }
+
+    void setIndex(int index) {
+        this.index = index;
+    }
+
+    boolean isUnused() {
+        return collider == null && collided == null;
+    }
+
+    void updateBounds(boolean keepPreviousBounds) {
+        collisionCategory = collider != null ? collider.getCollisionCategory() : 0;
+        collisionMask = collided != null ? collided.getCollisionMask() : 0;
+
+        previousMinX = minX;
+        previousMinY = minY;
+        previousMaxX = maxX;
+        previousMaxY = maxY;
+
+        // A tracked Node that has not been moved still has the cached bounds
+        if (moved || node == null || !hasBounds) {
+            var bounds = bounded.getBounds();
+            minX = bounds.getMinX();
+            minY = bounds.getMinY();
+            maxX = bounds.getMaxX();
+            maxY = bounds.getMaxY();
+        }
+
+        if (!keepPreviousBounds || !hasBounds) {
+            previousMinX = minX;
+            previousMinY = minY;
+            previousMaxX = maxX;
+            previousMaxY = maxY;
+        }
+        hasBounds = true;
+    }
+
+    private static double firstMoment(double c, double d) {
+        if (d < 0) {
+            return -c / d;
+        }
+        return d == 0 && c > 0 ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+    }
+
+    private static double lastMoment(double c, double d) {
+        if (d > 0) {
+            return -c / d;
+        }
+        return d == 0 && c > 0 ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+    }
+
+    private static double interpolate(double from, double to, double fraction) {
+        return from + (to - from) * fraction;
+    }
+}
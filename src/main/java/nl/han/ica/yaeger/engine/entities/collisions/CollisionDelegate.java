@@ -1,25 +1,55 @@
 package nl.han.ica.yaeger.engine.entities.collisions;
 
+import nl.han.ica.yaeger.engine.collections.DenseSet;
+import nl.han.ica.yaeger.engine.debug.jfr.CollisionPassEvent;
 import nl.han.ica.yaeger.engine.entities.entity.Entity;
 import nl.han.ica.yaeger.engine.entities.entity.Removeable;
 
-import java.util.HashSet;
 import java.util.Set;
 
 /**
- * A CollisionDelegate handles all behavior related to Object collisions.
+ * A CollisionDelegate handles all behavior related to Object collisions. The actual collision detection is
+ * performed by a {@link CollisionStrategy}.
  */
 public class CollisionDelegate {
 
     private Set<Collided> collideds;
     private Set<Collider> colliders;
 
+    private CollisionStrategy collisionStrategy;
+
     /**
-     * Create a new CollisionDelegate.
+     * Create a new CollisionDelegate that uses a {@link BruteForceCollisionStrategy}.
      */
     public CollisionDelegate() {
-        collideds = new HashSet<>();
-        colliders = new HashSet<>();
+        this(new BruteForceCollisionStrategy());
+    }
+
+    /**
+     * Create a new CollisionDelegate that uses the given {@link CollisionStrategy}.
+     *
+     * @param collisionStrategy the {@link CollisionStrategy} to be used
+     */
+    public CollisionDelegate(CollisionStrategy collisionStrategy) {
+        collideds = new DenseSet<>();
+        colliders = new DenseSet<>();
+        this.collisionStrategy = collisionStrategy;
+    }
+
+    /**
+     * Set the {@link CollisionStrategy} to be used. All instances of {@link Collider} and {@link Collided} that
+     * have already been registered, are transferred to the new {@link CollisionStrategy}.
+     *
+     * @param collisionStrategy the {@link CollisionStrategy} to be used
+     */
+    public void setCollisionStrategy(CollisionStrategy collisionStrategy) {
+        colliders.forEach(this.collisionStrategy::remove);
+        collideds.forEach(this.collisionStrategy::remove);
+
+        this.collisionStrategy = collisionStrategy;
+
+        colliders.forEach(collisionStrategy::register);
+        collideds.forEach(collisionStrategy::register);
     }
 
     /**
@@ -43,7 +73,9 @@ public class CollisionDelegate {
      * @param collider the {@link Collider} that should be registered
      */
     public void register(Collider collider) {
-        colliders.add(collider);
+        if (colliders.add(collider)) {
+            collisionStrategy.register(collider);
+        }
     }
 
     /**
@@ -52,7 +84,9 @@ public class CollisionDelegate {
      * @param collided the {@link Collided} that should be registered
      */
     public void register(Collided collided) {
-        collideds.add(collided);
+        if (collideds.add(collided)) {
+            collisionStrategy.register(collided);
+        }
     }
 
     /**
@@ -61,8 +95,8 @@ public class CollisionDelegate {
      * @param collidable the {@link Collidable} that should be registered
      */
     public void register(Collidable collidable) {
-        collideds.add(collidable);
-        colliders.add(collidable);
+        register((Collider) collidable);
+        register((Collided) collidable);
     }
 
     /**
@@ -80,17 +114,30 @@ public class CollisionDelegate {
     }
 
     /**
-     * Check for collisions. Each {@link Collidable} is asked to check for collisions.
+     * Check for collisions. Each {@link Collided} is asked to check for collisions. The check is recorded as a
+     * {@link CollisionPassEvent}.
      */
     public void checkCollisions() {
-        collideds.forEach(collided -> collided.checkForCollisions(colliders));
+        var event = new CollisionPassEvent();
+        event.begin();
+
+        collisionStrategy.checkCollisions();
+
+        if (event.shouldCommit()) {
+            event.strategy = collisionStrategy.getClass().getSimpleName();
+            event.commit();
+        }
     }
 
     private void removeCollider(Collider collider) {
-        colliders.remove(collider);
+        if (colliders.remove(collider)) {
+            collisionStrategy.remove(collider);
+        }
     }
 
     private void removeCollided(Collided collided) {
-        collideds.remove(collided);
+        if (collideds.remove(collided)) {
+            collisionStrategy.remove(collided);
+        }
     }
 }
@@ -0,0 +1,91 @@
+package nl.han.ica.yaeger.engine.entities.collisions;
+
+import java.util.Arrays;
+
+/**
+ * A {@code CollisionPairs} is the buffer to which the broad phase of a {@link BroadPhaseCollisionStrategy} reports
+ * its candidate pairs. Only the indices of both {@link CollisionBody} instances are stored, in arrays that are
+ * reused between frames.
+ */
+public final class CollisionPairs {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private int[] collidedIndices = new int[INITIAL_CAPACITY];
+    private int[] colliderIndices = new int[INITIAL_CAPACITY];
+    private int size;
+
+    CollisionPairs() {
+    }
+
+    /**
+     * Add a candidate pair. The pair is ignored if {@code collided} has not been registered as a {@link Collided},
+     * if {@code collider} has not been registered as a {@link Collider}, if both are the same
+     * {@link CollisionBody} or if the collision mask of {@code collided} does not accept the collision category of
+     * {@code collider}. Adding the same pair more than once is allowed.
+     *
+     * @param collided the {@link CollisionBody} that might be hit
+     * @param collider the {@link CollisionBody} that might hit it
+     */
+    public void add(CollisionBody collided, CollisionBody collider) {
+        // Without the Collided role the mask is 0 and without the Collider role the category is 0
+        if (!collided.accepts(collider) || collided == collider) {
+            return;
+        }
+
+        add(collided.getIndex(), collider.getIndex());
+    }
+
+    /**
+     * @return the number of candidate pairs
+     */
+    public int size() {
+        return size;
+    }
+
+    void add(int collidedIndex, int colliderIndex) {
+        if (size == collidedIndices.length) {
+            collidedIndices = Arrays.copyOf(collidedIndices, size * 2);
+            colliderIndices = Arrays.copyOf(colliderIndices, size * 2);
+        }
+
+        collidedIndices[size] = collidedIndex;
+        colliderIndices[size] = colliderIndex;
+        size++;
+    }
+
+    void addAll(CollisionPairs other) {
+        for (var pair = 0; pair < other.size; pair++) {
+            add(other.collidedIndices[pair], other.colliderIndices[pair]);
+        }
+    }
+
+    /**
+     * Remove all pairs of which at least one {@link CollisionBody} has been marked as moved.
+     *
+     * @param bodies the instances of {@link CollisionBody}, by index
+     */
+    void removeMoved(CollisionBody[] bodies) {
+        var kept = 0;
+        for (var pair = 0; pair < size; pair++) {
+            if (!bodies[collidedIndices[pair]].isMoved() && !bodies[colliderIndices[pair]].isMoved()) {
+                collidedIndices[kept] = collidedIndices[pair];
+                colliderIndices[kept] = colliderIndices[pair];
+                kept++;
+            }
+        }
+        size = kept;
+    }
+
+    int getCollidedIndex(int pair) {
+        return collidedIndices[pair];
+    }
+
+    int getColliderIndex(int pair) {
+        return colliderIndices[pair];
+    }
+
+    void clear() {
+        size = 0;
+    }
+}
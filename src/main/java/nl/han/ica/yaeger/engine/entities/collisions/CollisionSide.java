@@ -5,5 +5,39 @@ public enum CollisionSide {
     BOTTOM,
     RIGHT,
     LEFT,
-    NONE
+    NONE;
+
+    /**
+     * Find the side of a {@link Collided} at which a {@link Collider} collides with it. A side is hit when the
+     * {@link Collider} overlaps the outer pixel of the {@link Collided} at that side. When multiple sides are hit,
+     * they are evaluated in the order {@link #TOP}, {@link #BOTTOM}, {@link #LEFT}, {@link #RIGHT}.
+     *
+     * <p>
+     * Both boxes are expected to intersect. Only primitive arithmetic is used, so no objects are created.
+     * </p>
+     *
+     * @param minX         the minimal x-coordinate of the {@link Collided}
+     * @param minY         the minimal y-coordinate of the {@link Collided}
+     * @param maxX         the maximal x-coordinate of the {@link Collided}
+     * @param maxY         the maximal y-coordinate of the {@link Collided}
+     * @param colliderMinX the minimal x-coordinate of the {@link Collider}
+     * @param colliderMinY the minimal y-coordinate of the {@link Collider}
+     * @param colliderMaxX the maximal x-coordinate of the {@link Collider}
+     * @param colliderMaxY the maximal y-coordinate of the {@link Collider}
+     * @return the {@link CollisionSide} at which the {@link Collided} is hit
+     */
+    static CollisionSide of(double minX, double minY, double maxX, double maxY,
+                            double colliderMinX, double colliderMinY, double colliderMaxX, double colliderMaxY) {
+        if (colliderMaxY >= maxY - 1) {
+            return TOP;
+        } else if (colliderMinY <= minY + 1) {
+            return BOTTOM;
+        } else if (colliderMinX <= minX + 1) {
+            return LEFT;
+        } else if (colliderMaxX >= maxX - 1) {
+            return RIGHT;
+        } else {
+            return NONE;
+        }
+    }
 }
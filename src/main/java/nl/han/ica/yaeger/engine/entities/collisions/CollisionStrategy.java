@@ -0,0 +1,44 @@
+package nl.han.ica.yaeger.engine.entities.collisions;
+
+/**
+ * A {@code CollisionStrategy} encapsulates the algorithm that is used by the {@link CollisionDelegate} to find out
+ * which instances of {@link Collided} collide with which instances of {@link Collider}. Since the best algorithm
+ * depends on the number of instances and how they are distributed over the
+ * {@link nl.han.ica.yaeger.engine.scenes.YaegerScene}, each {@link nl.han.ica.yaeger.engine.scenes.YaegerScene}
+ * can choose its own {@code CollisionStrategy}.
+ */
+public interface CollisionStrategy {
+
+    /**
+     * Register a {@link Collider} to be evaluated for collision detection.
+     *
+     * @param collider the {@link Collider} that should be registered
+     */
+    void register(Collider collider);
+
+    /**
+     * Register a {@link Collided} to be evaluated for collision detection.
+     *
+     * @param collided the {@link Collided} that should be registered
+     */
+    void register(Collided collided);
+
+    /**
+     * Remove a {@link Collider}, so it will no longer be evaluated for collision detection.
+     *
+     * @param collider the {@link Collider} that should be removed
+     */
+    void remove(Collider collider);
+
+    /**
+     * Remove a {@link Collided}, so it will no longer be evaluated for collision detection.
+     *
+     * @param collided the {@link Collided} that should be removed
+     */
+    void remove(Collided collided);
+
+    /**
+     * Check for collisions. Each {@link Collided} that collides with a {@link Collider} will be notified.
+     */
+    void checkCollisions();
+}
@@ -0,0 +1,43 @@
+package nl.han.ica.yaeger.engine.entities.collisions;
+
+/**
+ * A {@code Contact} describes a single collision of a {@link Collider} with a {@link BatchedCollided}. Instances
+ * of {@code Contact} are owned and reused by a {@link ContactBuffer}, so they should not be stored.
+ */
+public final class Contact {
+
+    private Collider collider;
+    private CollisionSide collisionSide;
+    private double timeOfImpact;
+
+    Contact() {
+    }
+
+    /**
+     * @return the {@link Collider} that collided
+     */
+    public Collider getCollider() {
+        return collider;
+    }
+
+    /**
+     * @return the {@link CollisionSide} of the {@link BatchedCollided} that was hit
+     */
+    public CollisionSide getCollisionSide() {
+        return collisionSide;
+    }
+
+    /**
+     * @return the moment of the collision, as a fraction of the movement during the last frame
+     * @see Collided#onCollision(Collider, CollisionSide, double)
+     */
+    public double getTimeOfImpact() {
+        return timeOfImpact;
+    }
+
+    void set(Collider collider, CollisionSide collisionSide, double timeOfImpact) {
+        this.collider = collider;
+        this.collisionSide = collisionSide;
+        this.timeOfImpact = timeOfImpact;
+    }
+}
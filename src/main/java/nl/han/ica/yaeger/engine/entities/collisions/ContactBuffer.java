@@ -0,0 +1,67 @@
+package nl.han.ica.yaeger.engine.entities.collisions;
+
+import java.util.Arrays;
+
+/**
+ * A {@code ContactBuffer} holds all instances of {@link Contact} of a {@link BatchedCollided} for a single frame.
+ * Both the buffer and its instances of {@link Contact} are reused for the next {@link BatchedCollided}, so they
+ * are only valid during the call of {@link BatchedCollided#onCollisions(ContactBuffer)}. Use {@link #size()} and
+ * {@link #get(int)} to iterate over them without creating new objects.
+ */
+public final class ContactBuffer {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private Contact[] contacts = new Contact[INITIAL_CAPACITY];
+    private int size;
+
+    ContactBuffer() {
+    }
+
+    /**
+     * @return the number of instances of {@link Contact}
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return {@code true} if this {@code ContactBuffer} contains no {@link Contact}
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param index the index of the {@link Contact}
+     * @return the {@link Contact} at the given index
+     * @throws IndexOutOfBoundsException if the index is not smaller than {@link #size()}
+     */
+    public Contact get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return contacts[index];
+    }
+
+    void add(Collider collider, CollisionSide collisionSide, double timeOfImpact) {
+        if (size == contacts.length) {
+            contacts = Arrays.copyOf(contacts, size * 2);
+        }
+
+        var contact = contacts[size];
+        if (contact == null) {
+            contact = new Contact();
+            contacts[size] = contact;
+        }
+        contact.set(collider, collisionSide, timeOfImpact);
+        size++;
+    }
+
+    void clear() {
+        for (var i = 0; i < size; i++) {
+            contacts[i].set(null, null, 0);
+        }
+        size = 0;
+    }
+}
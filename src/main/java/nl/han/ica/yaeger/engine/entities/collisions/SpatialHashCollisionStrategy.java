@@ -0,0 +1,102 @@
+package nl.han.ica.yaeger.engine.entities.collisions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@code SpatialHashCollisionStrategy} uses a {@link SpatialHashGrid} as broad phase. The grid is rebuilt at
+ * every call of {@link #checkCollisions()} and a {@link Collided} will only be checked against those instances
+ * of {@link Collider} with which it shares at least one cell. This works best for a
+ * {@link nl.han.ica.yaeger.engine.scenes.YaegerScene} with many instances of
+ * {@link nl.han.ica.yaeger.engine.entities.entity.Entity} of similar size that are spread out over the
+ * {@link javafx.scene.Scene}.
+ *
+ * <p>
+ * Static instances of {@link Collider} are kept in a separate {@link SpatialHashGrid}, which is only rebuilt when
+ * the static instances change or one of them has been moved.
+ * </p>
+ */
+public class SpatialHashCollisionStrategy extends BroadPhaseCollisionStrategy {
+
+    /**
+     * The cell size that is used when none is specified.
+     */
+    public static final double DEFAULT_CELL_SIZE = 64;
+
+    private final SpatialHashGrid<CollisionBody> grid;
+    private final SpatialHashGrid<CollisionBody> staticGrid;
+    private final List<CollisionBody> candidates = new ArrayList<>();
+
+    /**
+     * Create a new {@code SpatialHashCollisionStrategy} with a cell size of {@link #DEFAULT_CELL_SIZE}.
+     */
+    public SpatialHashCollisionStrategy() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Create a new {@code SpatialHashCollisionStrategy}.
+     *
+     * @param cellSize the width and height of a cell of the {@link SpatialHashGrid}. Choosing a value close to the
+     *                 size of the average {@link nl.han.ica.yaeger.engine.entities.entity.Entity} usually works best.
+     */
+    public SpatialHashCollisionStrategy(double cellSize) {
+        grid = new SpatialHashGrid<>(cellSize);
+        staticGrid = new SpatialHashGrid<>(cellSize);
+    }
+
+    @Override
+    protected void findStaticCandidatePairs(CollisionPairs pairs) {
+        fill(staticGrid, true);
+
+        for (var i = 0; i < getBodyCount(); i++) {
+            var body = getBody(i);
+            if (body.isStatic() && body.isCollided()) {
+                addCandidates(pairs, staticGrid, body);
+            }
+        }
+    }
+
+    @Override
+    protected void findMovedStaticCandidatePairs(List<CollisionBody> movedBodies, CollisionPairs pairs) {
+        fill(staticGrid, true);
+        super.findMovedStaticCandidatePairs(movedBodies, pairs);
+    }
+
+    @Override
+    protected void findCandidatePairs(CollisionPairs pairs) {
+        fill(grid, false);
+
+        for (var i = 0; i < getBodyCount(); i++) {
+            var body = getBody(i);
+            if (!body.isCollided()) {
+                continue;
+            }
+
+            addCandidates(pairs, grid, body);
+            if (!body.isStatic()) {
+                addCandidates(pairs, staticGrid, body);
+            }
+        }
+    }
+
+    private void fill(SpatialHashGrid<CollisionBody> target, boolean isStatic) {
+        target.clear();
+        for (var i = 0; i < getBodyCount(); i++) {
+            var body = getBody(i);
+            if (body.isCollider() && body.isStatic() == isStatic) {
+                target.insert(body,
+                        body.getSweptMinX(), body.getSweptMinY(), body.getSweptMaxX(), body.getSweptMaxY());
+            }
+        }
+    }
+
+    private void addCandidates(CollisionPairs pairs, SpatialHashGrid<CollisionBody> source, CollisionBody collided) {
+        source.query(collided.getSweptMinX(), collided.getSweptMinY(),
+                collided.getSweptMaxX(), collided.getSweptMaxY(), candidates);
+        for (var j = 0; j < candidates.size(); j++) {
+            pairs.add(collided, candidates.get(j));
+        }
+        candidates.clear();
+    }
+}
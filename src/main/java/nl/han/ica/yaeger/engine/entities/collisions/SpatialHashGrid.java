@@ -0,0 +1,248 @@
+package nl.han.ica.yaeger.engine.entities.collisions;
+
+import javafx.geometry.Bounds;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A {@code SpatialHashGrid} divides the plane into square cells of a fixed size and keeps track of which items
+ * overlap which cells. Only occupied cells are stored, in an open-addressing hash table that is keyed on the cell
+ * coordinates. After the internal arrays have grown to fit the scene, clearing, filling and querying the
+ * {@code SpatialHashGrid} does not allocate.
+ *
+ * @param <T> the type of the items stored in this {@code SpatialHashGrid}
+ */
+public class SpatialHashGrid<T> {
+
+    private static final int INITIAL_SLOTS = 64;
+    private static final int INITIAL_ENTRIES = 64;
+    private static final int NO_ENTRY = -1;
+
+    private final double cellSize;
+
+    private long[] slotKeys = new long[INITIAL_SLOTS];
+    private int[] slotHeads = new int[INITIAL_SLOTS];
+    private int[] slotGenerations = new int[INITIAL_SLOTS];
+    private int generation = 1;
+    private int occupiedSlots;
+
+    private Object[] entryItems = new Object[INITIAL_ENTRIES];
+    private int[] entryNext = new int[INITIAL_ENTRIES];
+    private int entryCount;
+
+    /**
+     * Create a new {@code SpatialHashGrid}.
+     *
+     * @param cellSize the width and height of a single cell
+     * @throws IllegalArgumentException if the {@code cellSize} is not a positive number
+     */
+    public SpatialHashGrid(double cellSize) {
+        if (!(cellSize > 0) || Double.isInfinite(cellSize)) {
+            throw new IllegalArgumentException("The cell size should be a positive number, but was " + cellSize);
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * @return the width and height of a single cell
+     */
+    public double getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Add an item to all cells that are overlapped by the given {@link Bounds}.
+     *
+     * @param item   the item to be added
+     * @param bounds the {@link Bounds} of the item
+     */
+    public void insert(T item, Bounds bounds) {
+        insert(item, bounds.getMinX(), bounds.getMinY(), bounds.getMaxX(), bounds.getMaxY());
+    }
+
+    /**
+     * Add an item to all cells that are overlapped by the given box. An empty box is ignored.
+     *
+     * @param item the item to be added
+     * @param minX the minimal x-coordinate of the box
+     * @param minY the minimal y-coordinate of the box
+     * @param maxX the maximal x-coordinate of the box
+     * @param maxY the maximal y-coordinate of the box
+     */
+    public void insert(T item, double minX, double minY, double maxX, double maxY) {
+        if (isEmpty(minX, minY, maxX, maxY)) {
+            return;
+        }
+
+        var lastCellX = toCell(maxX);
+        var lastCellY = toCell(maxY);
+
+        for (var cellX = toCell(minX); cellX <= lastCellX; cellX++) {
+            for (var cellY = toCell(minY); cellY <= lastCellY; cellY++) {
+                addEntry(claimSlot(toKey(cellX, cellY)), item);
+            }
+        }
+    }
+
+    /**
+     * Add all items that share at least one cell with the given {@link Bounds} to {@code result}. An item that spans
+     * multiple of these cells is added once per shared cell, so use a {@link java.util.Set} to receive each item only
+     * once.
+     *
+     * @param bounds the {@link Bounds} of the area to be queried
+     * @param result the {@link Collection} to which the items will be added
+     */
+    public void query(Bounds bounds, Collection<? super T> result) {
+        query(bounds.getMinX(), bounds.getMinY(), bounds.getMaxX(), bounds.getMaxY(), result);
+    }
+
+    /**
+     * Add all items that share at least one cell with the given box to {@code result}. An item that spans
+     * multiple of these cells is added once per shared cell, so use a {@link java.util.Set} to receive each item only
+     * once.
+     *
+     * @param minX   the minimal x-coordinate of the box
+     * @param minY   the minimal y-coordinate of the box
+     * @param maxX   the maximal x-coordinate of the box
+     * @param maxY   the maximal y-coordinate of the box
+     * @param result the {@link Collection} to which the items will be added
+     */
+    @SuppressWarnings("unchecked")
+    public void query(double minX, double minY, double maxX, double maxY, Collection<? super T> result) {
+        if (entryCount == 0 || isEmpty(minX, minY, maxX, maxY)) {
+            return;
+        }
+
+        var lastCellX = toCell(maxX);
+        var lastCellY = toCell(maxY);
+
+        for (var cellX = toCell(minX); cellX <= lastCellX; cellX++) {
+            for (var cellY = toCell(minY); cellY <= lastCellY; cellY++) {
+                var slot = findSlot(toKey(cellX, cellY));
+                if (slot == NO_ENTRY) {
+                    continue;
+                }
+
+                for (var entry = slotHeads[slot]; entry != NO_ENTRY; entry = entryNext[entry]) {
+                    result.add((T) entryItems[entry]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove all items from this {@code SpatialHashGrid}. The internal arrays are kept, so they can be reused when
+     * the {@code SpatialHashGrid} is filled again.
+     */
+    public void clear() {
+        Arrays.fill(entryItems, 0, entryCount, null);
+        entryCount = 0;
+        occupiedSlots = 0;
+
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(slotGenerations, 0);
+            generation = 0;
+        }
+        generation++;
+    }
+
+    /**
+     * @return {@code true} if no items have been added since the last {@code clear()}
+     */
+    public boolean isEmpty() {
+        return entryCount == 0;
+    }
+
+    private int toCell(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static boolean isEmpty(double minX, double minY, double maxX, double maxY) {
+        return !(maxX >= minX) || !(maxY >= minY);
+    }
+
+    private static long toKey(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xffffffffL);
+    }
+
+    private static int hash(long key) {
+        var mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+    private int findSlot(long key) {
+        var mask = slotKeys.length - 1;
+
+        for (var slot = hash(key) & mask; slotGenerations[slot] == generation; slot = (slot + 1) & mask) {
+            if (slotKeys[slot] == key) {
+                return slot;
+            }
+        }
+
+        return NO_ENTRY;
+    }
+
+    private int claimSlot(long key) {
+        var existing = findSlot(key);
+        if (existing != NO_ENTRY) {
+            return existing;
+        }
+
+        if ((occupiedSlots + 1) * 2 > slotKeys.length) {
+            growSlots();
+        }
+
+        var mask = slotKeys.length - 1;
+        var slot = hash(key) & mask;
+        while (slotGenerations[slot] == generation) {
+            slot = (slot + 1) & mask;
+        }
+
+        slotGenerations[slot] = generation;
+        slotKeys[slot] = key;
+        slotHeads[slot] = NO_ENTRY;
+        occupiedSlots++;
+
+        return slot;
+    }
+
+    private void addEntry(int slot, T item) {
+        if (entryCount == entryItems.length) {
+            entryItems = Arrays.copyOf(entryItems, entryCount * 2);
+            entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+        }
+
+        entryItems[entryCount] = item;
+        entryNext[entryCount] = slotHeads[slot];
+        slotHeads[slot] = entryCount;
+        entryCount++;
+    }
+
+    private void growSlots() {
+        var oldKeys = slotKeys;
+        var oldHeads = slotHeads;
+        var oldGenerations = slotGenerations;
+
+        var capacity = oldKeys.length * 2;
+        var mask = capacity - 1;
+        slotKeys = new long[capacity];
+        slotHeads = new int[capacity];
+        slotGenerations = new int[capacity];
+
+        for (var oldSlot = 0; oldSlot < oldKeys.length; oldSlot++) {
+            if (oldGenerations[oldSlot] != generation) {
+                continue;
+            }
+
+            var slot = hash(oldKeys[oldSlot]) & mask;
+            while (slotGenerations[slot] == generation) {
+                slot = (slot + 1) & mask;
+            }
+
+            slotGenerations[slot] = generation;
+            slotKeys[slot] = oldKeys[oldSlot];
+            slotHeads[slot] = oldHeads[oldSlot];
+        }
+    }
+}
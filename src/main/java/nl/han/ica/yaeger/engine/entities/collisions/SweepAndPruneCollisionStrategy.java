@@ -0,0 +1,91 @@
+package nl.han.ica.yaeger.engine.entities.collisions;
+
+import java.util.Arrays;
+
+/**
+ * A {@code SweepAndPruneCollisionStrategy} keeps all instances of {@link Collider} and {@link Collided} sorted on
+ * the minimal x-coordinate of their {@link javafx.geometry.Bounds}. It then sweeps over this list and only checks
+ * those pairs of which the x-intervals overlap.
+ *
+ * <p>
+ * The list is kept between calls of {@link #checkCollisions()} and is re-sorted using insertion sort. Since most
+ * instances of {@link nl.han.ica.yaeger.engine.entities.entity.Entity} only move a few pixels per frame, the list
+ * is almost sorted and re-sorting it takes close to linear time. This works best for a
+ * {@link nl.han.ica.yaeger.engine.scenes.YaegerScene} in which the instances are spread out horizontally.
+ * </p>
+ *
+ * <p>
+ * Pairs of two static instances are only reported when the static instances have changed.
+ * </p>
+ */
+public class SweepAndPruneCollisionStrategy extends BroadPhaseCollisionStrategy {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private CollisionBody[] axis = new CollisionBody[INITIAL_CAPACITY];
+    private int size;
+
+    @Override
+    protected void bodyAdded(CollisionBody body) {
+        if (size == axis.length) {
+            axis = Arrays.copyOf(axis, size * 2);
+        }
+        axis[size++] = body;
+    }
+
+    @Override
+    protected void bodyRemoved(CollisionBody body) {
+        for (var i = 0; i < size; i++) {
+            if (axis[i] == body) {
+                System.arraycopy(axis, i + 1, axis, i, size - i - 1);
+                axis[--size] = null;
+                return;
+            }
+        }
+    }
+
+    @Override
+    protected void findStaticCandidatePairs(CollisionPairs pairs) {
+        sweep(pairs, true);
+    }
+
+    @Override
+    protected void findCandidatePairs(CollisionPairs pairs) {
+        sweep(pairs, false);
+    }
+
+    private void sweep(CollisionPairs pairs, boolean staticPairs) {
+        sortAxis();
+
+        for (var i = 0; i < size; i++) {
+            var current = axis[i];
+
+            for (var j = i + 1; j < size && axis[j].getSweptMinX() <= current.getSweptMaxX(); j++) {
+                var other = axis[j];
+
+                if ((current.isStatic() && other.isStatic()) != staticPairs) {
+                    continue;
+                }
+
+                if (current.getSweptMinY() <= other.getSweptMaxY()
+                        && other.getSweptMinY() <= current.getSweptMaxY()) {
+                    pairs.add(current, other);
+                    pairs.add(other, current);
+                }
+            }
+        }
+    }
+
+    private void sortAxis() {
+        for (var i = 1; i < size; i++) {
+            var body = axis[i];
+            var j = i - 1;
+
+            while (j >= 0 && axis[j].getSweptMinX() > body.getSweptMinX()) {
+                axis[j + 1] = axis[j];
+                j--;
+            }
+            axis[j + 1] = body;
+        }
+    }
+}
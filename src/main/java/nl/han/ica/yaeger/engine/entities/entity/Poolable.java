@@ -0,0 +1,16 @@
+package nl.han.ica.yaeger.engine.entities.entity;
+
+/**
+ * A {@code Poolable} is an {@link Entity} that can be reused after it has been removed. When a {@code Poolable}
+ * that was spawned by an {@link nl.han.ica.yaeger.engine.entities.EntitySpawner} is removed, it is returned to a
+ * pool of that {@link nl.han.ica.yaeger.engine.entities.EntitySpawner}, instead of being discarded. Its
+ * {@link javafx.scene.Node} is hidden, but stays part of the scene graph.
+ */
+public interface Poolable extends Entity {
+
+    /**
+     * Reset the state of this {@code Poolable}, so it can be spawned again. This method is called when the
+     * {@code Poolable} is acquired from the pool.
+     */
+    void reset();
+}
@@ -1,6 +1,7 @@
 package nl.han.ica.yaeger.engine.entities.entity;
 
 import javafx.scene.Node;
+import nl.han.ica.yaeger.engine.entities.events.RemovalQueue;
 import nl.han.ica.yaeger.engine.entities.events.RemoveEntityEvent;
 
 /**
@@ -22,10 +23,15 @@ public interface Removeable {
     Node getGameNode();
 
     /**
-     * Send a {@link javafx.event.Event} to notify all {@code Listeners} that this {@link Removeable}
-     * should be removed.
+     * Notify the {@link nl.han.ica.yaeger.engine.entities.EntityCollection} that this {@link Removeable} should be
+     * removed, by adding it to the {@link RemovalQueue} that is attached to its {@link Node}. If no
+     * {@link RemovalQueue} is attached, a {@link RemoveEntityEvent} is sent instead.
      */
     default void notifyRemove() {
+        if (RemovalQueue.offer(this)) {
+            return;
+        }
+
         var removeEvent = new RemoveEntityEvent(this);
         getGameNode().fireEvent(removeEvent);
     }
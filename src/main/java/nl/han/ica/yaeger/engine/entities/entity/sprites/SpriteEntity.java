@@ -3,6 +3,7 @@ package nl.han.ica.yaeger.engine.entities.entity.sprites;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 import javafx.scene.Node;
+import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import nl.han.ica.yaeger.engine.entities.entity.Entity;
 import nl.han.ica.yaeger.engine.entities.entity.Position;
@@ -25,6 +26,7 @@ public abstract class SpriteEntity implements Entity, ResourceConsumer {
 
 
     private int frames;
+    private Image image;
     ImageView imageView;
 
     Position position;
@@ -69,11 +71,20 @@ public abstract class SpriteEntity implements Entity, ResourceConsumer {
     }
 
     private ImageView createImageView(final String resource, final int requestedWidth, final int requestedHeight) {
-        var image = imageRepository.get(resource, requestedWidth, requestedHeight, true);
+        image = imageRepository.get(resource, requestedWidth, requestedHeight, true);
 
         return imageViewFactory.create(image);
     }
 
+    /**
+     * Restore the image of this {@code SpriteEntity} after it has been removed. A {@code SpriteEntity} that
+     * implements {@link nl.han.ica.yaeger.engine.entities.entity.Poolable} should call this method from
+     * {@link nl.han.ica.yaeger.engine.entities.entity.Poolable#reset()}, since {@link #remove()} clears the image.
+     */
+    protected void restoreImage() {
+        imageView.setImage(image);
+    }
+
     /**
      * Rotate this {@code SpriteEntity} by the given angles.
      *
@@ -0,0 +1,70 @@
+package nl.han.ica.yaeger.engine.entities.events;
+
+import javafx.scene.Node;
+import nl.han.ica.yaeger.engine.entities.entity.Removeable;
+
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A {@code RemovalQueue} collects the instances of {@link Removeable} that should be removed from an
+ * {@link nl.han.ica.yaeger.engine.entities.EntityCollection}. It replaces the dispatch of a
+ * {@link RemoveEntityEvent}: instead of an {@link javafx.event.EventHandler} per {@link Node}, the
+ * {@code RemovalQueue} is stored in the properties of the {@link Node}, and {@link Removeable#notifyRemove()} adds
+ * the {@link Removeable} to it directly. The queue is lock-free, so it can be used from any thread.
+ */
+public class RemovalQueue {
+
+    private static final Object KEY = RemovalQueue.class;
+
+    private final Queue<Removeable> queue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Attach this {@code RemovalQueue} to the {@link Node} of the given {@link Removeable}.
+     *
+     * @param removeable the {@link Removeable} of which removals should be added to this {@code RemovalQueue}
+     */
+    public void attach(Removeable removeable) {
+        removeable.getGameNode().getProperties().put(KEY, this);
+    }
+
+    /**
+     * Move all queued instances of {@link Removeable} to the given {@link Collection}.
+     *
+     * @param target the {@link Collection} that receives the instances of {@link Removeable}
+     */
+    public void drainTo(Collection<Removeable> target) {
+        Removeable removeable;
+        while ((removeable = queue.poll()) != null) {
+            target.add(removeable);
+        }
+    }
+
+    /**
+     * @return {@code true} if no {@link Removeable} is queued
+     */
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    /**
+     * Add the given {@link Removeable} to the {@code RemovalQueue} that is attached to its {@link Node}, if any.
+     *
+     * @param removeable the {@link Removeable} that should be removed
+     * @return {@code true} if a {@code RemovalQueue} was attached and the {@link Removeable} has been added to it
+     */
+    public static boolean offer(Removeable removeable) {
+        var node = removeable.getGameNode();
+        if (node == null || !node.hasProperties()) {
+            return false;
+        }
+
+        var removalQueue = node.getProperties().get(KEY);
+        if (removalQueue instanceof RemovalQueue) {
+            ((RemovalQueue) removalQueue).queue.add(removeable);
+            return true;
+        }
+        return false;
+    }
+}
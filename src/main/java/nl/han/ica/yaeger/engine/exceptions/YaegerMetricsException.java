@@ -0,0 +1,18 @@
+package nl.han.ica.yaeger.engine.exceptions;
+
+/**
+ * A {@link YaegerMetricsException} indicates that the metrics of a {@link nl.han.ica.yaeger.engine.scenes.YaegerScene}
+ * could not be published or unpublished.
+ */
+public class YaegerMetricsException extends RuntimeException {
+
+    /**
+     * Create a new {@link YaegerMetricsException} with the given message and cause.
+     *
+     * @param message The message that should be shown when the exception is thrown.
+     * @param cause   The exception that caused this exception.
+     */
+    public YaegerMetricsException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,33 @@
+package nl.han.ica.yaeger.engine.gameloop;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.function.LongConsumer;
+
+/**
+ * An {@code AnimationTimerGameLoop} is a {@link GameLoop} that delivers a pulse for every frame rendered by JavaFX,
+ * using an {@link AnimationTimer}.
+ */
+public class AnimationTimerGameLoop implements GameLoop {
+
+    private AnimationTimer animator;
+
+    @Override
+    public void start(LongConsumer pulseHandler) {
+        animator = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                pulseHandler.accept(now);
+            }
+        };
+        animator.start();
+    }
+
+    @Override
+    public void stop() {
+        if (animator != null) {
+            animator.stop();
+            animator = null;
+        }
+    }
+}
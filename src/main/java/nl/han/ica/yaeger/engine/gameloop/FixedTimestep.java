@@ -0,0 +1,180 @@
+package nl.han.ica.yaeger.engine.gameloop;
+
+import java.util.function.LongConsumer;
+
+/**
+ * A {@code FixedTimestep} decouples the speed of the simulation from the refresh rate of the display. The time that
+ * passes between two frames is added to an accumulator, from which whole steps of a fixed length are taken. A fast
+ * display therefore performs a step only every few frames and a slow frame is caught up by performing several steps.
+ *
+ * <p>
+ * To prevent a slow frame from causing even more work in the next frame, the number of steps per frame is capped.
+ * Time that can not be caught up within this cap is dropped, so the simulation slows down instead of stalling.
+ * </p>
+ *
+ * <p>
+ * The time that remains in the accumulator after the steps have been taken is exposed as an interpolation alpha,
+ * which is used to render a state in between the previous and the current step.
+ * </p>
+ */
+public class FixedTimestep {
+
+    /**
+     * The default number of steps per second.
+     */
+    public static final int DEFAULT_TICKS_PER_SECOND = 60;
+
+    /**
+     * The default maximum number of steps that are performed for a single frame.
+     */
+    public static final int DEFAULT_MAX_STEPS_PER_FRAME = 5;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NOT_STARTED = Long.MIN_VALUE;
+
+    private long stepNanos;
+    private int maxStepsPerFrame;
+
+    private long previousTime = NOT_STARTED;
+    private long simulationTime;
+    private long accumulator;
+    private long droppedNanos;
+
+    /**
+     * Create a new {@code FixedTimestep} with {@link #DEFAULT_TICKS_PER_SECOND} and
+     * {@link #DEFAULT_MAX_STEPS_PER_FRAME}.
+     */
+    public FixedTimestep() {
+        this(DEFAULT_TICKS_PER_SECOND, DEFAULT_MAX_STEPS_PER_FRAME);
+    }
+
+    /**
+     * Create a new {@code FixedTimestep}.
+     *
+     * @param ticksPerSecond   the number of steps per second
+     * @param maxStepsPerFrame the maximum number of steps that are performed for a single frame
+     * @throws IllegalArgumentException if one of the values is smaller than {@code 1}
+     */
+    public FixedTimestep(int ticksPerSecond, int maxStepsPerFrame) {
+        setTicksPerSecond(ticksPerSecond);
+        setMaxStepsPerFrame(maxStepsPerFrame);
+    }
+
+    /**
+     * Create a new {@code FixedTimestep} with the same number of steps per second and maximum number of steps per
+     * frame as the given one. The new {@code FixedTimestep} has its own state, so both can be advanced
+     * independently, for instance on different threads.
+     *
+     * @param fixedTimestep the {@code FixedTimestep} of which the configuration should be copied
+     */
+    public FixedTimestep(FixedTimestep fixedTimestep) {
+        this.stepNanos = fixedTimestep.stepNanos;
+        this.maxStepsPerFrame = fixedTimestep.maxStepsPerFrame;
+    }
+
+    /**
+     * Set the number of steps per second.
+     *
+     * @param ticksPerSecond the number of steps per second
+     * @throws IllegalArgumentException if {@code ticksPerSecond} is smaller than {@code 1}
+     */
+    public void setTicksPerSecond(int ticksPerSecond) {
+        if (ticksPerSecond < 1) {
+            throw new IllegalArgumentException("The number of ticks per second should be at least 1, but was "
+                    + ticksPerSecond);
+        }
+        this.stepNanos = NANOS_PER_SECOND / ticksPerSecond;
+    }
+
+    /**
+     * Set the maximum number of steps that are performed for a single frame.
+     *
+     * @param maxStepsPerFrame the maximum number of steps
+     * @throws IllegalArgumentException if {@code maxStepsPerFrame} is smaller than {@code 1}
+     */
+    public void setMaxStepsPerFrame(int maxStepsPerFrame) {
+        if (maxStepsPerFrame < 1) {
+            throw new IllegalArgumentException("The maximum number of steps per frame should be at least 1, but was "
+                    + maxStepsPerFrame);
+        }
+        this.maxStepsPerFrame = maxStepsPerFrame;
+    }
+
+    /**
+     * @return the length of a single step in nanoseconds
+     */
+    public long getStepNanos() {
+        return stepNanos;
+    }
+
+    /**
+     * @return the maximum number of steps that are performed for a single frame
+     */
+    public int getMaxStepsPerFrame() {
+        return maxStepsPerFrame;
+    }
+
+    /**
+     * Advance the simulation to the given time. For each whole step that fits in the elapsed time, {@code step} is
+     * called with the simulated timestamp of that step. The first call performs a single step at the given time, so
+     * the first frame already shows a simulated state.
+     *
+     * @param now  the current time in nanoseconds
+     * @param step the {@link LongConsumer} that performs a single step
+     * @return the number of steps that were performed
+     */
+    public int advance(long now, LongConsumer step) {
+        if (previousTime == NOT_STARTED) {
+            previousTime = now;
+            simulationTime = now;
+            step.accept(simulationTime);
+            return 1;
+        }
+
+        accumulator += Math.max(0, now - previousTime);
+        previousTime = now;
+
+        var steps = 0;
+        while (accumulator >= stepNanos && steps < maxStepsPerFrame) {
+            simulationTime += stepNanos;
+            accumulator -= stepNanos;
+            steps++;
+            step.accept(simulationTime);
+        }
+
+        if (accumulator >= stepNanos) {
+            var dropped = accumulator - accumulator % stepNanos;
+            droppedNanos += dropped;
+            accumulator -= dropped;
+        }
+
+        return steps;
+    }
+
+    /**
+     * Return the fraction of a step that has not yet been simulated. A renderer can use this to interpolate between
+     * the previous and the current state.
+     *
+     * @return a value between {@code 0} (inclusive) and {@code 1} (exclusive)
+     */
+    public double getInterpolationAlpha() {
+        return accumulator / (double) stepNanos;
+    }
+
+    /**
+     * @return the total time in nanoseconds that was dropped because it could not be caught up
+     */
+    public long getDroppedNanos() {
+        return droppedNanos;
+    }
+
+    /**
+     * Reset this {@code FixedTimestep}, so the next call of {@link #advance(long, LongConsumer)} starts a new
+     * simulation.
+     */
+    public void reset() {
+        previousTime = NOT_STARTED;
+        accumulator = 0;
+        droppedNanos = 0;
+    }
+}
@@ -0,0 +1,23 @@
+package nl.han.ica.yaeger.engine.gameloop;
+
+import java.util.function.LongConsumer;
+
+/**
+ * A {@code GameLoop} delivers pulses to a {@link nl.han.ica.yaeger.engine.scenes.impl.DynamicScene}. Each pulse
+ * carries a timestamp in nanoseconds. The source of these pulses is pluggable: on screen they are driven by the
+ * JavaFX pulse, while a {@link HeadlessGameLoop} is driven by a {@link VirtualClock}.
+ */
+public interface GameLoop {
+
+    /**
+     * Start delivering pulses.
+     *
+     * @param pulseHandler the {@link LongConsumer} that receives the timestamp of each pulse
+     */
+    void start(LongConsumer pulseHandler);
+
+    /**
+     * Stop delivering pulses.
+     */
+    void stop();
+}
@@ -0,0 +1,66 @@
+package nl.han.ica.yaeger.engine.gameloop;
+
+import java.util.function.LongConsumer;
+
+/**
+ * A {@code HeadlessGameLoop} is a {@link GameLoop} that does not depend on a display. Pulses are only delivered when
+ * {@link #runFrames(int, long)} is called, which advances a {@link VirtualClock} before each pulse. Since nothing
+ * waits for real time to pass, frames are simulated as fast as the game logic allows.
+ */
+public class HeadlessGameLoop implements GameLoop {
+
+    private final VirtualClock clock;
+    private LongConsumer pulseHandler;
+
+    /**
+     * Create a new {@code HeadlessGameLoop}.
+     *
+     * @param clock the {@link VirtualClock} that provides the timestamps of the pulses
+     */
+    public HeadlessGameLoop(VirtualClock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Start delivering pulses. The first pulse is delivered immediately, at the current time of the
+     * {@link VirtualClock}.
+     *
+     * @param pulseHandler the {@link LongConsumer} that receives the timestamp of each pulse
+     */
+    @Override
+    public void start(LongConsumer pulseHandler) {
+        this.pulseHandler = pulseHandler;
+        pulseHandler.accept(clock.now());
+    }
+
+    @Override
+    public void stop() {
+        pulseHandler = null;
+    }
+
+    /**
+     * @return {@code true} if this {@code HeadlessGameLoop} has been started and not yet stopped
+     */
+    public boolean isRunning() {
+        return pulseHandler != null;
+    }
+
+    /**
+     * Simulate the given number of frames. Before each frame, the {@link VirtualClock} is advanced by
+     * {@code frameNanos}. When the {@code HeadlessGameLoop} is stopped during a frame, the remaining frames are
+     * skipped.
+     *
+     * @param frames     the number of frames
+     * @param frameNanos the duration of a single frame in nanoseconds
+     * @return the number of frames that were simulated
+     */
+    public int runFrames(int frames, long frameNanos) {
+        var frame = 0;
+        while (frame < frames && pulseHandler != null) {
+            clock.advance(frameNanos);
+            pulseHandler.accept(clock.now());
+            frame++;
+        }
+        return frame;
+    }
+}
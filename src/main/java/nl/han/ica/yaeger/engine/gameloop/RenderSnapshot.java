@@ -0,0 +1,76 @@
+package nl.han.ica.yaeger.engine.gameloop;
+
+import javafx.scene.Node;
+import nl.han.ica.yaeger.engine.entities.EntityStore;
+
+import java.util.Arrays;
+
+/**
+ * A {@code RenderSnapshot} contains the position of every {@link Node} of an {@link EntityStore} at a certain
+ * moment. It is written by the {@link SimulationThread} and read on the JavaFX Application Thread.
+ */
+class RenderSnapshot {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private Node[] nodes = new Node[INITIAL_CAPACITY];
+    private double[] x = new double[INITIAL_CAPACITY];
+    private double[] y = new double[INITIAL_CAPACITY];
+    private int size;
+    private long sequence;
+
+    /**
+     * Copy the position of every {@link Node} of the given {@link EntityStore}.
+     *
+     * @param entityStore the {@link EntityStore} to be copied
+     * @param sequence    the number of the publication this {@code RenderSnapshot} belongs to
+     */
+    void copy(EntityStore entityStore, long sequence) {
+        this.sequence = sequence;
+
+        var count = entityStore.size();
+        if (count > nodes.length) {
+            var capacity = Math.max(count, nodes.length * 2);
+            nodes = new Node[capacity];
+            x = new double[capacity];
+            y = new double[capacity];
+        }
+
+        size = 0;
+        for (var index = 0; index < count; index++) {
+            var node = entityStore.getNode(index);
+            if (node != null) {
+                nodes[size] = node;
+                x[size] = entityStore.getX(index);
+                y[size] = entityStore.getY(index);
+                size++;
+            }
+        }
+        Arrays.fill(nodes, size, nodes.length, null);
+    }
+
+    /**
+     * Relocate every {@link Node} to its position in this {@code RenderSnapshot}.
+     */
+    void apply() {
+        for (var i = 0; i < size; i++) {
+            nodes[i].setLayoutX(x[i]);
+            nodes[i].setLayoutY(y[i]);
+        }
+    }
+
+    /**
+     * @return the number of the publication this {@code RenderSnapshot} belongs to, or {@code 0} if it has not been
+     * written yet
+     */
+    long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * @return the number of instances of {@link Node} in this {@code RenderSnapshot}
+     */
+    int size() {
+        return size;
+    }
+}
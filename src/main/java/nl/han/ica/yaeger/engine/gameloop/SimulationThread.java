@@ -0,0 +1,197 @@
+package nl.han.ica.yaeger.engine.gameloop;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+import nl.han.ica.yaeger.engine.collections.DenseSet;
+import nl.han.ica.yaeger.engine.entities.EntityStore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A {@code SimulationThread} updates an {@link EntityStore} on a dedicated thread, so the simulation does not compete
+ * with layout and rendering on the JavaFX Application Thread.
+ *
+ * <p>
+ * The simulation thread advances the {@link EntityStore} with a {@link FixedTimestep} and, after each frame,
+ * publishes the positions of all instances of {@link Node} through a {@link TripleBuffer}. Instances of
+ * {@link Node} that are added or removed are passed on through a queue, so none of these changes is lost when a
+ * snapshot is skipped. On each pulse, the JavaFX Application Thread calls {@link #render()}, which only applies the
+ * latest snapshot to the scene graph, together with the changes that were published up to and including that
+ * snapshot.
+ * </p>
+ *
+ * <p>
+ * While the {@code SimulationThread} is running, it owns the {@link EntityStore}. Other threads should pass their
+ * changes to {@link EntityStore#submit(java.util.function.Consumer)}. These are performed on the simulation thread,
+ * before each frame. The number of entities is published after each frame, see {@link #getEntityCount()}.
+ * </p>
+ */
+public class SimulationThread {
+
+    private static final String THREAD_NAME = "yaeger-simulation";
+
+    private final EntityStore entityStore;
+    private final Group group;
+    private final FixedTimestep fixedTimestep;
+    private final TripleBuffer<RenderSnapshot> snapshots = new TripleBuffer<>(RenderSnapshot::new);
+    private final Queue<NodeChanges> nodeChanges = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean running;
+    private volatile int entityCount;
+    private long sequence;
+    private Thread thread;
+
+    /**
+     * Create a new {@code SimulationThread} with a default {@link FixedTimestep}.
+     *
+     * @param entityStore the {@link EntityStore} to be simulated
+     * @param group       the {@link Group} that contains the instances of {@link Node} of the {@link EntityStore}
+     */
+    public SimulationThread(EntityStore entityStore, Group group) {
+        this(entityStore, group, new FixedTimestep());
+    }
+
+    /**
+     * Create a new {@code SimulationThread}. The configuration of the given {@link FixedTimestep} is copied, so it can
+     * still be advanced on another thread. Later changes to it are not applied to the simulation.
+     *
+     * @param entityStore   the {@link EntityStore} to be simulated
+     * @param group         the {@link Group} that contains the instances of {@link Node} of the {@link EntityStore}
+     * @param fixedTimestep the {@link FixedTimestep} that determines the tick rate of the simulation
+     */
+    public SimulationThread(EntityStore entityStore, Group group, FixedTimestep fixedTimestep) {
+        this.entityStore = entityStore;
+        this.group = group;
+        this.fixedTimestep = new FixedTimestep(fixedTimestep);
+        this.entityCount = entityStore.size();
+    }
+
+    /**
+     * Start the simulation thread. Calling this method on a running {@code SimulationThread} has no effect.
+     */
+    public void start() {
+        if (running) {
+            return;
+        }
+
+        running = true;
+        fixedTimestep.reset();
+        thread = new Thread(this::run, THREAD_NAME);
+        thread.setDaemon(true);
+        entityStore.setOwner(thread);
+        thread.start();
+    }
+
+    /**
+     * Stop the simulation thread and wait for it to finish its current frame. Changes that were submitted to the
+     * {@link EntityStore} but not yet performed, are performed on the calling thread.
+     */
+    public void stop() {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+
+        entityStore.setOwner(null);
+        entityStore.runCommands();
+        publish();
+    }
+
+    /**
+     * @return {@code true} if the simulation thread is running
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Return the number of entities in the {@link EntityStore}, as it was at the end of the last frame. Contrary to
+     * {@link EntityStore#size()}, this method can be called from any thread.
+     *
+     * @return the number of entities
+     */
+    public int getEntityCount() {
+        return entityCount;
+    }
+
+    /**
+     * Apply the latest published state to the scene graph. Changes to the instances of {@link Node} that were published
+     * after that state are left for the next call, so a {@link Node} is never shown before its position is known. This
+     * method should be called on the JavaFX Application Thread.
+     */
+    public void render() {
+        var acquired = snapshots.acquireLatest();
+        var snapshot = snapshots.getReadBuffer();
+
+        NodeChanges changes;
+        while ((changes = nodeChanges.peek()) != null && changes.sequence <= snapshot.getSequence()) {
+            nodeChanges.poll();
+            if (!changes.removed.isEmpty()) {
+                group.getChildren().removeAll(changes.removed);
+            }
+            if (!changes.added.isEmpty()) {
+                group.getChildren().addAll(changes.added);
+            }
+        }
+
+        if (acquired) {
+            snapshot.apply();
+        }
+    }
+
+    /**
+     * Advance the simulation to the given time and publish the result.
+     *
+     * @param now the current time in nanoseconds
+     * @return the number of steps that were performed
+     */
+    int simulate(long now) {
+        entityStore.runCommands();
+        var steps = fixedTimestep.advance(now, entityStore::update);
+        publish();
+        return steps;
+    }
+
+    private void publish() {
+        sequence++;
+        if (entityStore.hasNodeChanges()) {
+            var changes = new NodeChanges(sequence);
+            entityStore.drainNodeChanges(changes.added, changes.removed);
+            nodeChanges.offer(changes);
+        }
+
+        snapshots.getWriteBuffer().copy(entityStore, sequence);
+        snapshots.publish();
+        entityCount = entityStore.size();
+    }
+
+    private void run() {
+        while (running) {
+            simulate(System.nanoTime());
+            LockSupport.parkNanos(fixedTimestep.getStepNanos());
+        }
+    }
+
+    private static class NodeChanges {
+        private final long sequence;
+        private final List<Node> added = new ArrayList<>();
+        private final Set<Node> removed = new DenseSet<>();
+
+        private NodeChanges(long sequence) {
+            this.sequence = sequence;
+        }
+    }
+}
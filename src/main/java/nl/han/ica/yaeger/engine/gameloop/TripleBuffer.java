@@ -0,0 +1,81 @@
+package nl.han.ica.yaeger.engine.gameloop;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * A {@code TripleBuffer} hands over data from a single writing thread to a single reading thread, without either of
+ * them ever having to wait for the other. The writer fills the write buffer and calls {@link #publish()}. The reader
+ * calls {@link #acquireLatest()} and then reads the read buffer. The third buffer sits in between: it holds the
+ * most recently published data that has not yet been acquired.
+ *
+ * <p>
+ * When the writer publishes faster than the reader acquires, intermediate data is skipped. The reader therefore
+ * always sees the latest complete data, but not necessarily all of it.
+ * </p>
+ *
+ * @param <T> the type of the buffers
+ */
+public class TripleBuffer<T> {
+
+    private static final int INDEX_MASK = 3;
+    private static final int FRESH = 4;
+
+    private final Object[] buffers = new Object[3];
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back = 0;
+    private int front = 2;
+
+    /**
+     * Create a new {@code TripleBuffer}.
+     *
+     * @param factory the {@link Supplier} that creates each of the three buffers
+     */
+    public TripleBuffer(Supplier<T> factory) {
+        for (var i = 0; i < buffers.length; i++) {
+            buffers[i] = factory.get();
+        }
+    }
+
+    /**
+     * Return the buffer that should be filled by the writer. It may contain the data of an earlier, skipped,
+     * publication.
+     *
+     * @return the write buffer
+     */
+    @SuppressWarnings("unchecked")
+    public T getWriteBuffer() {
+        return (T) buffers[back];
+    }
+
+    /**
+     * Publish the write buffer. After this call, {@link #getWriteBuffer()} returns another buffer.
+     */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Make the most recently published buffer the read buffer, if it has not been acquired yet.
+     *
+     * @return {@code true} if a new buffer was acquired, {@code false} if nothing was published since the last call
+     */
+    public boolean acquireLatest() {
+        if ((middle.get() & FRESH) == 0) {
+            return false;
+        }
+
+        front = middle.getAndSet(front) & INDEX_MASK;
+        return true;
+    }
+
+    /**
+     * Return the buffer that can be read by the reader.
+     *
+     * @return the read buffer
+     */
+    @SuppressWarnings("unchecked")
+    public T getReadBuffer() {
+        return (T) buffers[front];
+    }
+}
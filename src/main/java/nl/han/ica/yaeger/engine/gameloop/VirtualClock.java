@@ -0,0 +1,31 @@
+package nl.han.ica.yaeger.engine.gameloop;
+
+/**
+ * A {@code VirtualClock} is a clock that only moves when it is told to. It is used to simulate a game faster, or
+ * slower, than real time.
+ */
+public class VirtualClock {
+
+    private long now;
+
+    /**
+     * @return the current time of this {@code VirtualClock} in nanoseconds
+     */
+    public long now() {
+        return now;
+    }
+
+    /**
+     * Move this {@code VirtualClock} forward.
+     *
+     * @param nanos the number of nanoseconds to move forward
+     * @throws IllegalArgumentException if {@code nanos} is negative
+     */
+    public void advance(long nanos) {
+        if (nanos < 0) {
+            throw new IllegalArgumentException("A VirtualClock can not move backwards, but was asked to advance "
+                    + nanos + " nanoseconds");
+        }
+        now += nanos;
+    }
+}
@@ -0,0 +1,15 @@
+package nl.han.ica.yaeger.engine.headless;
+
+import nl.han.ica.yaeger.engine.scenes.delegates.ApplicationThreadDelegate;
+
+/**
+ * A {@code HeadlessApplicationThreadDelegate} is an {@link ApplicationThreadDelegate} that runs the code directly on
+ * the calling thread, since there is no JavaFX Application Thread without a display.
+ */
+public class HeadlessApplicationThreadDelegate extends ApplicationThreadDelegate {
+
+    @Override
+    public void runLater(Runnable runnable) {
+        runnable.run();
+    }
+}
@@ -0,0 +1,15 @@
+package nl.han.ica.yaeger.engine.headless;
+
+import nl.han.ica.yaeger.engine.scenes.delegates.BackgroundDelegate;
+
+/**
+ * A {@code HeadlessBackgroundDelegate} is a {@link BackgroundDelegate} that ignores background audio, since there is
+ * no audio device to play it on.
+ */
+public class HeadlessBackgroundDelegate extends BackgroundDelegate {
+
+    @Override
+    public void setBackgroundAudio(String backgroundAudioUrl) {
+        // Background audio is not played without a display.
+    }
+}
@@ -0,0 +1,33 @@
+package nl.han.ica.yaeger.engine.headless;
+
+import javafx.scene.Group;
+import nl.han.ica.yaeger.engine.debug.Debugger;
+import nl.han.ica.yaeger.engine.entities.EntityCollectionStatistics;
+
+/**
+ * A {@code HeadlessDebugger} is a {@link Debugger} that does not create any controls, since JavaFX controls can not
+ * be created without a display. The statistics can still be read from the
+ * {@link nl.han.ica.yaeger.engine.entities.EntityCollection}.
+ */
+public class HeadlessDebugger extends Debugger {
+
+    @Override
+    public void setup(Group group) {
+        // There is nothing to show without a display.
+    }
+
+    @Override
+    public void toFront() {
+        // There is nothing to show without a display.
+    }
+
+    @Override
+    public void toggle() {
+        // There is nothing to show without a display.
+    }
+
+    @Override
+    public void update(EntityCollectionStatistics entityCollectionStatistics) {
+        // There is nothing to show without a display.
+    }
+}
@@ -0,0 +1,27 @@
+package nl.han.ica.yaeger.engine.headless;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import nl.han.ica.yaeger.javafx.factories.image.ImageFactory;
+
+/**
+ * A {@code HeadlessImageFactory} is an {@link ImageFactory} that does not load any image files, since loading them
+ * requires a graphics pipeline. Instead it creates blank, in-memory instances of {@link Image} of the requested
+ * size, so the bounds of sprites, and therefore collision detection, behave as they would on screen.
+ */
+public class HeadlessImageFactory extends ImageFactory {
+
+    @Override
+    public Image create(String url) {
+        return new WritableImage(1, 1);
+    }
+
+    @Override
+    public Image create(String url, double requestedWidth, double requestedHeight, boolean preserveRatio) {
+        return new WritableImage(toPixels(requestedWidth), toPixels(requestedHeight));
+    }
+
+    private static int toPixels(double size) {
+        return Math.max(1, (int) Math.round(size));
+    }
+}
@@ -0,0 +1,43 @@
+package nl.han.ica.yaeger.engine.headless;
+
+import com.google.inject.AbstractModule;
+import nl.han.ica.yaeger.engine.debug.Debugger;
+import nl.han.ica.yaeger.engine.gameloop.GameLoop;
+import nl.han.ica.yaeger.engine.gameloop.HeadlessGameLoop;
+import nl.han.ica.yaeger.engine.scenes.delegates.ApplicationThreadDelegate;
+import nl.han.ica.yaeger.engine.scenes.delegates.BackgroundDelegate;
+import nl.han.ica.yaeger.javafx.factories.image.ImageFactory;
+import nl.han.ica.yaeger.module.factories.GameLoopFactory;
+
+/**
+ * The {@code HeadlessModule} replaces the bindings of the {@link nl.han.ica.yaeger.module.YaegerModule} that depend
+ * on a display, by their headless counterparts.
+ */
+public class HeadlessModule extends AbstractModule {
+
+    private final HeadlessGameLoop gameLoop;
+
+    /**
+     * Create a new {@code HeadlessModule}.
+     *
+     * @param gameLoop the {@link HeadlessGameLoop} that should be used by every
+     *                 {@link nl.han.ica.yaeger.engine.scenes.impl.DynamicScene}
+     */
+    public HeadlessModule(HeadlessGameLoop gameLoop) {
+        this.gameLoop = gameLoop;
+    }
+
+    @Override
+    protected void configure() {
+        bind(GameLoopFactory.class).toInstance(new GameLoopFactory() {
+            @Override
+            public GameLoop create() {
+                return gameLoop;
+            }
+        });
+        bind(ImageFactory.class).to(HeadlessImageFactory.class);
+        bind(Debugger.class).to(HeadlessDebugger.class);
+        bind(BackgroundDelegate.class).to(HeadlessBackgroundDelegate.class);
+        bind(ApplicationThreadDelegate.class).to(HeadlessApplicationThreadDelegate.class);
+    }
+}
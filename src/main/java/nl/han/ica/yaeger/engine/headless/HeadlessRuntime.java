@@ -0,0 +1,126 @@
+package nl.han.ica.yaeger.engine.headless;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.util.Modules;
+import nl.han.ica.yaeger.engine.Destroyable;
+import nl.han.ica.yaeger.engine.debug.jfr.SceneActivationEvent;
+import nl.han.ica.yaeger.engine.gameloop.HeadlessGameLoop;
+import nl.han.ica.yaeger.engine.gameloop.VirtualClock;
+import nl.han.ica.yaeger.engine.scenes.YaegerScene;
+import nl.han.ica.yaeger.module.YaegerModule;
+
+/**
+ * A {@code HeadlessRuntime} runs a {@link YaegerScene} without a {@link javafx.stage.Stage}, a display or an audio
+ * device. It is meant for server-side simulation, soak tests and benchmarks.
+ *
+ * <p>
+ * Instead of the JavaFX pulse, a {@link HeadlessGameLoop} drives the {@link YaegerScene} from a
+ * {@link VirtualClock}. Since nothing waits for real time to pass, frames are simulated as fast as the game logic
+ * allows. Images are replaced by blank in-memory images of the requested size and background audio is ignored.
+ * </p>
+ *
+ * <p>
+ * The JavaFX Application Thread is not used, so all methods should be called from a single thread.
+ * </p>
+ */
+public class HeadlessRuntime implements Destroyable {
+
+    /**
+     * The default duration of a frame in nanoseconds, which corresponds with 60 frames per second.
+     */
+    public static final long DEFAULT_FRAME_NANOS = 1_000_000_000L / 60;
+
+    private final VirtualClock clock = new VirtualClock();
+    private final HeadlessGameLoop gameLoop = new HeadlessGameLoop(clock);
+    private final Injector injector;
+
+    private YaegerScene activeScene;
+
+    /**
+     * Create a new {@code HeadlessRuntime}.
+     */
+    public HeadlessRuntime() {
+        injector = Guice.createInjector(Modules.override(new YaegerModule()).with(new HeadlessModule(gameLoop)));
+    }
+
+    /**
+     * Activate a {@link YaegerScene}, in the same way as {@link nl.han.ica.yaeger.engine.scenes.Scenes} does. The
+     * {@link YaegerScene} that was active before, is destroyed.
+     *
+     * @param scene the {@link YaegerScene} to be activated
+     */
+    public void activate(YaegerScene scene) {
+        if (activeScene != null) {
+            activeScene.destroy();
+        }
+
+        var event = new SceneActivationEvent();
+        event.begin();
+
+        scene.init(injector);
+        injector.injectMembers(scene);
+        scene.configure();
+        scene.setupScene();
+        scene.setupEntities();
+        activeScene = scene;
+        scene.postActivation();
+
+        if (event.shouldCommit()) {
+            event.scene = scene.getClass().getName();
+            event.commit();
+        }
+    }
+
+    /**
+     * Simulate the given number of frames of {@link #DEFAULT_FRAME_NANOS}.
+     *
+     * @param frames the number of frames
+     * @return the number of frames that were simulated, which is smaller than {@code frames} if the active
+     * {@link YaegerScene} stopped its {@code Gameloop}
+     */
+    public int runFrames(int frames) {
+        return runFrames(frames, DEFAULT_FRAME_NANOS);
+    }
+
+    /**
+     * Simulate the given number of frames.
+     *
+     * @param frames     the number of frames
+     * @param frameNanos the duration of a single frame in nanoseconds
+     * @return the number of frames that were simulated, which is smaller than {@code frames} if the active
+     * {@link YaegerScene} stopped its {@code Gameloop}
+     */
+    public int runFrames(int frames, long frameNanos) {
+        return gameLoop.runFrames(frames, frameNanos);
+    }
+
+    /**
+     * @return the {@link VirtualClock} that drives this {@code HeadlessRuntime}
+     */
+    public VirtualClock getClock() {
+        return clock;
+    }
+
+    /**
+     * @return the {@link YaegerScene} that is currently active, or {@code null} if none has been activated
+     */
+    public YaegerScene getActiveScene() {
+        return activeScene;
+    }
+
+    /**
+     * @return the {@link Injector} that is used for all instances of {@link YaegerScene} and their entities
+     */
+    public Injector getInjector() {
+        return injector;
+    }
+
+    @Override
+    public void destroy() {
+        if (activeScene != null) {
+            activeScene.destroy();
+            activeScene = null;
+        }
+    }
+}
@@ -3,19 +3,30 @@ package nl.han.ica.yaeger.engine.media.repositories;
 import com.google.inject.Singleton;
 import javafx.scene.media.AudioClip;
 import nl.han.ica.yaeger.engine.Destroyable;
+import nl.han.ica.yaeger.engine.debug.jfr.ResourceLoadEvent;
 import nl.han.ica.yaeger.engine.media.ResourceConsumer;
 
-import java.util.*;
 
 /**
  * An {@code AudioRepository} provides a central repository for acquiring audio files.
+ *
+ * <p>
+ * Loaded audio files are kept in a cache. Since an {@link AudioClip} does not expose its decoded size, the cache is
+ * bounded by the number of audio files. When the maximum is exceeded, the least recently used audio files are
+ * evicted.
+ * </p>
  */
 @Singleton
 public class AudioRepository implements ResourceConsumer, Destroyable {
 
+    /**
+     * The default maximum number of cached audio files.
+     */
+    public static final int DEFAULT_MAX_AUDIO_FILES = 64;
+
     private static final String CYCLECOUNT = "-cyclecount-";
 
-    private Map<String, AudioClip> audioMap = new WeakHashMap<>();
+    private final ResourceCache<AudioClip> cache = new ResourceCache<>(audioClip -> 1, DEFAULT_MAX_AUDIO_FILES);
 
     private static AudioRepository audioRepository;
 
@@ -49,11 +60,19 @@ public class AudioRepository implements ResourceConsumer, Destroyable {
         if (cycleCount != 0) {
             key = audiofile + CYCLECOUNT + cycleCount;
         }
-        if (audioMap.containsKey(key)) {
-            return audioMap.get(key);
+        var cached = cache.get(key);
+        if (cached != null) {
+            return cached;
         } else {
+            var event = new ResourceLoadEvent();
+            event.begin();
             var audioClip = new AudioClip(createPathForResource(audiofile));
-            audioMap.put(key, audioClip);
+            cache.put(key, audioClip);
+            if (event.shouldCommit()) {
+                event.type = ResourceLoadEvent.AUDIO;
+                event.resource = key;
+                event.commit();
+            }
             return audioClip;
         }
     }
@@ -66,11 +85,42 @@ public class AudioRepository implements ResourceConsumer, Destroyable {
      * @return the number of key-value mappings in this map
      */
     public int size() {
-        return audioMap.size();
+        return cache.size();
+    }
+
+    /**
+     * Set the maximum number of cached audio files. The default is {@link #DEFAULT_MAX_AUDIO_FILES}.
+     *
+     * @param maxAudioFiles the maximum number of audio files
+     * @throws IllegalArgumentException if {@code maxAudioFiles} is negative
+     */
+    public void setMaxAudioFiles(int maxAudioFiles) {
+        cache.setBudget(maxAudioFiles);
+    }
+
+    /**
+     * @return the number of times a requested audio file was found in the cache
+     */
+    public long getHits() {
+        return cache.getHits();
+    }
+
+    /**
+     * @return the number of times a requested audio file was not found in the cache
+     */
+    public long getMisses() {
+        return cache.getMisses();
+    }
+
+    /**
+     * @return the number of audio files that have been evicted from the cache
+     */
+    public long getEvictions() {
+        return cache.getEvictions();
     }
 
     @Override
     public void destroy() {
-        audioMap.clear();
+        cache.clear();
     }
 }
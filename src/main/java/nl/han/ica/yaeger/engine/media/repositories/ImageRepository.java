@@ -4,20 +4,57 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import javafx.scene.image.Image;
 import nl.han.ica.yaeger.engine.Destroyable;
+import nl.han.ica.yaeger.engine.debug.jfr.ResourceLoadEvent;
 import nl.han.ica.yaeger.javafx.factories.image.ImageFactory;
 import nl.han.ica.yaeger.engine.media.ResourceConsumer;
 
+import java.util.HashMap;
 import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * An {@code ImageRepository} provides a central repository for acquiring sprites.
+ *
+ * <p>
+ * Images can be loaded synchronously, through {@link #get(String)}, or asynchronously, through
+ * {@link #getAsync(String)}. Asynchronous loads are decoded in parallel on a bounded pool of daemon threads, and
+ * synchronous loads on the calling thread. When an image is requested while it is still being decoded, the caller
+ * waits for, or receives, that decode instead of decoding the image a second time.
+ * </p>
+ *
+ * <p>
+ * Loaded images are kept in a cache with a budget in bytes, estimated from the pixel dimensions of each image
+ * ({@link #BYTES_PER_PIXEL} bytes per pixel). When the budget is exceeded, the least recently used images are evicted.
+ * Images that are loaded through {@link #preload(PreloadManifest, PreloadListener)} are pinned and never evicted until
+ * {@link #unpinAll()} is called, so the images that the active {@link nl.han.ica.yaeger.engine.scenes.YaegerScene}
+ * declared stay loaded. Images that are only requested at run time can always be evicted.
+ * </p>
  */
 @Singleton
 public class ImageRepository implements ResourceConsumer, Destroyable {
 
-    private Map<String, Image> imageMap = new WeakHashMap<>();
+    /**
+     * The default maximum number of bytes of the cached images.
+     */
+    public static final long DEFAULT_MAX_BYTES = 128L * 1024 * 1024;
+
+    /**
+     * The number of bytes a single pixel of a decoded image is estimated to occupy.
+     */
+    public static final int BYTES_PER_PIXEL = 4;
+
+    private static final String THREAD_NAME = "yaeger-image-decoder-";
+    private static final int MAX_DECODER_THREADS = 4;
+
+    private final ResourceCache<Image> cache = new ResourceCache<>(ImageRepository::estimateBytes, DEFAULT_MAX_BYTES);
+    private final Map<String, CompletableFuture<Image>> pending = new HashMap<>();
     private ImageFactory factory;
+    private Executor executor;
 
     /**
      * Return an {@link Image} with content loaded from the specified
@@ -28,14 +65,7 @@ public class ImageRepository implements ResourceConsumer, Destroyable {
      * @return an {@link Image} with content loaded from the specified url
      */
     public Image get(String url) {
-
-        if (imageMap.containsKey(url)) {
-            return imageMap.get(url);
-        } else {
-            var image = factory.create(createPathForResource(url));
-            imageMap.put(url, image);
-            return image;
-        }
+        return load(url, () -> factory.create(createPathForResource(url)));
     }
 
     /**
@@ -51,16 +81,71 @@ public class ImageRepository implements ResourceConsumer, Destroyable {
      * @return an {@link Image} with content loaded from the specified url
      */
     public Image get(String url, int requestedWidth, int requestedHeight, boolean preserveRatio) {
+        return load(constructKey(url, requestedWidth, requestedHeight, preserveRatio),
+                () -> factory.create(createPathForResource(url), requestedWidth, requestedHeight, preserveRatio));
+    }
 
-        String imageKey = constructKey(url, requestedWidth, requestedHeight, preserveRatio);
+    /**
+     * Return a {@link CompletableFuture} that completes with an {@link Image} with content loaded from the specified
+     * url. The {@link Image} is decoded on a separate thread, unless it is already available.
+     *
+     * @param url the string representing the URL to use in fetching the pixel
+     *            data
+     * @return a {@link CompletableFuture} of the {@link Image}
+     */
+    public CompletableFuture<Image> getAsync(String url) {
+        return loadAsync(url, () -> factory.create(createPathForResource(url)));
+    }
 
-        if (imageMap.containsKey(imageKey)) {
-            return imageMap.get(imageKey);
-        } else {
-            var image = factory.create(createPathForResource(url), requestedWidth, requestedHeight, preserveRatio);
-            imageMap.put(imageKey, image);
-            return image;
+    /**
+     * Return a {@link CompletableFuture} that completes with an {@link Image} with the specified parameters. The
+     * {@link Image} is decoded on a separate thread, unless it is already available.
+     *
+     * @param url             the string representing the URL to use in fetching the pixel
+     *                        data
+     * @param requestedWidth  the image's bounding box width
+     * @param requestedHeight the image's bounding box height
+     * @param preserveRatio   indicates whether to preserve the aspect ratio of
+     *                        the original image when scaling to fit the image within the
+     *                        specified bounding box
+     * @return a {@link CompletableFuture} of the {@link Image}
+     */
+    public CompletableFuture<Image> getAsync(String url, int requestedWidth, int requestedHeight,
+                                             boolean preserveRatio) {
+        return loadAsync(constructKey(url, requestedWidth, requestedHeight, preserveRatio),
+                () -> factory.create(createPathForResource(url), requestedWidth, requestedHeight, preserveRatio));
+    }
+
+    /**
+     * Load all images of the given {@link PreloadManifest} in parallel and pin them, so they are not evicted until
+     * {@link #unpinAll()} is called. This method does not wait for the images to be loaded.
+     *
+     * @param manifest the {@link PreloadManifest} that contains the images to be loaded
+     * @param listener the {@link PreloadListener} that is informed every time an image has been loaded. It is called
+     *                 from the thread that loaded the image.
+     * @return a {@link CompletableFuture} that completes when all images have been loaded
+     */
+    public CompletableFuture<Void> preload(PreloadManifest manifest, PreloadListener listener) {
+        var entries = manifest.getEntries();
+        var total = entries.size();
+        var loaded = new AtomicInteger();
+        var futures = new CompletableFuture<?>[total];
+
+        for (var i = 0; i < total; i++) {
+            var entry = entries.get(i);
+            CompletableFuture<Image> future;
+            if (entry.isScaled()) {
+                pin(constructKey(entry.getUrl(), entry.getRequestedWidth(), entry.getRequestedHeight(), true));
+                future = getAsync(entry.getUrl(), entry.getRequestedWidth(), entry.getRequestedHeight(), true);
+            } else {
+                pin(entry.getUrl());
+                future = getAsync(entry.getUrl());
+            }
+            futures[i] = future.whenComplete((image, throwable) ->
+                    listener.onProgress(loaded.incrementAndGet(), total));
         }
+
+        return CompletableFuture.allOf(futures);
     }
 
     @Inject
@@ -68,6 +153,127 @@ public class ImageRepository implements ResourceConsumer, Destroyable {
         this.factory = factory;
     }
 
+    /**
+     * Set the {@link Executor} on which images are decoded asynchronously. By default, a bounded pool of daemon
+     * threads is used.
+     *
+     * @param executor the {@link Executor} to be used
+     */
+    void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    private Image load(String key, Supplier<Image> decoder) {
+        var future = new CompletableFuture<Image>();
+        CompletableFuture<Image> existing;
+
+        synchronized (this) {
+            existing = pending.get(key);
+            if (existing == null) {
+                var image = cache.get(key);
+                if (image != null) {
+                    return image;
+                }
+                pending.put(key, future);
+            }
+        }
+
+        if (existing != null) {
+            return join(existing);
+        }
+
+        complete(key, decoder, future);
+        return join(future);
+    }
+
+    private CompletableFuture<Image> loadAsync(String key, Supplier<Image> decoder) {
+        var future = new CompletableFuture<Image>();
+
+        synchronized (this) {
+            // A request for an image that is being decoded is neither a hit nor a miss of the cache
+            var existing = pending.get(key);
+            if (existing != null) {
+                return existing;
+            }
+
+            var image = cache.get(key);
+            if (image != null) {
+                return CompletableFuture.completedFuture(image);
+            }
+            pending.put(key, future);
+        }
+
+        getExecutor().execute(() -> complete(key, decoder, future));
+        return future;
+    }
+
+    private void complete(String key, Supplier<Image> decoder, CompletableFuture<Image> future) {
+        try {
+            var image = decode(key, decoder);
+            synchronized (this) {
+                // After destroy() the future is no longer pending, so the image is not cached
+                if (pending.remove(key, future)) {
+                    cache.put(key, image);
+                }
+            }
+            future.complete(image);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pending.remove(key, future);
+            }
+            future.completeExceptionally(e);
+        }
+    }
+
+    private synchronized void pin(String key) {
+        cache.pin(key);
+    }
+
+    private static long estimateBytes(Image image) {
+        return (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+    }
+
+    private static Image decode(String key, Supplier<Image> decoder) {
+        var event = new ResourceLoadEvent();
+        event.begin();
+        var image = decoder.get();
+        commit(event, key);
+        return image;
+    }
+
+    private static Image join(CompletableFuture<Image> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private synchronized Executor getExecutor() {
+        if (executor == null) {
+            var threads = Math.max(1, Math.min(MAX_DECODER_THREADS, Runtime.getRuntime().availableProcessors() - 1));
+            var counter = new AtomicInteger();
+
+            executor = Executors.newFixedThreadPool(threads, runnable -> {
+                var thread = new Thread(runnable, THREAD_NAME + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    private static void commit(ResourceLoadEvent event, String resource) {
+        if (event.shouldCommit()) {
+            event.type = ResourceLoadEvent.IMAGE;
+            event.resource = resource;
+            event.commit();
+        }
+    }
+
     private String constructKey(String url, int requestedWidth, int requestedHeight, boolean preserveRatio) {
         return requestedWidth + "-" + requestedHeight + "-" + preserveRatio + "-" + url;
     }
@@ -79,12 +285,64 @@ public class ImageRepository implements ResourceConsumer, Destroyable {
      *
      * @return the number of key-value mappings in this map
      */
-    public int size() {
-        return imageMap.size();
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    /**
+     * Set the maximum number of bytes of the cached images. The default is {@link #DEFAULT_MAX_BYTES}. Pinned images
+     * are never evicted, so the actual number of bytes can exceed this maximum.
+     *
+     * @param maxBytes the maximum number of bytes
+     * @throws IllegalArgumentException if {@code maxBytes} is negative
+     */
+    public synchronized void setMaxBytes(long maxBytes) {
+        cache.setBudget(maxBytes);
+    }
+
+    /**
+     * Unpin all images that were preloaded, so they can be evicted when the maximum number of bytes is exceeded. This
+     * method is called when a {@link nl.han.ica.yaeger.engine.scenes.YaegerScene} is destroyed.
+     */
+    public synchronized void unpinAll() {
+        cache.unpinAll();
+    }
+
+    /**
+     * @return the estimated number of bytes of the cached images
+     */
+    public synchronized long getBytes() {
+        return cache.getWeight();
+    }
+
+    /**
+     * @return the number of times a requested image was found in the cache
+     */
+    public synchronized long getHits() {
+        return cache.getHits();
+    }
+
+    /**
+     * @return the number of times a requested image was not found in the cache
+     */
+    public synchronized long getMisses() {
+        return cache.getMisses();
     }
 
+    /**
+     * @return the number of images that have been evicted from the cache
+     */
+    public synchronized long getEvictions() {
+        return cache.getEvictions();
+    }
+
+    /**
+     * Remove all images. Images that are still being decoded are passed to the callers that wait for them, but are
+     * not added to the cache.
+     */
     @Override
-    public void destroy() {
-        imageMap.clear();
+    public synchronized void destroy() {
+        cache.clear();
+        pending.clear();
     }
 }
@@ -0,0 +1,18 @@
+package nl.han.ica.yaeger.engine.media.repositories;
+
+/**
+ * A {@code PreloadListener} is informed about the progress of preloading the images of a {@link PreloadManifest}.
+ */
+@FunctionalInterface
+public interface PreloadListener {
+
+    /**
+     * Is called every time an image of the {@link PreloadManifest} has been loaded. This method is called from the
+     * thread that loaded the image, so changes to the scene graph should be passed to
+     * {@link javafx.application.Platform#runLater(Runnable)}.
+     *
+     * @param loaded the number of images that have been loaded
+     * @param total  the total number of images in the {@link PreloadManifest}
+     */
+    void onProgress(int loaded, int total);
+}
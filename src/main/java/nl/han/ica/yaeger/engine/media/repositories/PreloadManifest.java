@@ -0,0 +1,92 @@
+package nl.han.ica.yaeger.engine.media.repositories;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A {@code PreloadManifest} lists the images that are used by a {@link nl.han.ica.yaeger.engine.scenes.YaegerScene}.
+ * The {@link ImageRepository} can load all of them in parallel, before they are first needed.
+ */
+public class PreloadManifest {
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * Add an image at its original size.
+     *
+     * @param url the url of the image file, relative to the resources folder
+     * @return this {@code PreloadManifest}
+     */
+    public PreloadManifest add(String url) {
+        entries.add(new Entry(url, 0, 0, false));
+        return this;
+    }
+
+    /**
+     * Add an image that is scaled to the given size, while preserving its ratio. This is how a
+     * {@link nl.han.ica.yaeger.engine.entities.entity.sprites.SpriteEntity} loads its image, where the width is the
+     * width of a single frame, times the number of frames.
+     *
+     * @param url             the url of the image file, relative to the resources folder
+     * @param requestedWidth  the width of the bounding box of the image
+     * @param requestedHeight the height of the bounding box of the image
+     * @return this {@code PreloadManifest}
+     */
+    public PreloadManifest add(String url, int requestedWidth, int requestedHeight) {
+        entries.add(new Entry(url, requestedWidth, requestedHeight, true));
+        return this;
+    }
+
+    /**
+     * @return {@code true} if this {@code PreloadManifest} contains no images
+     */
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * @return the number of images in this {@code PreloadManifest}
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    List<Entry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * A single image of a {@code PreloadManifest}.
+     */
+    static final class Entry {
+
+        private final String url;
+        private final int requestedWidth;
+        private final int requestedHeight;
+        private final boolean scaled;
+
+        private Entry(String url, int requestedWidth, int requestedHeight, boolean scaled) {
+            this.url = url;
+            this.requestedWidth = requestedWidth;
+            this.requestedHeight = requestedHeight;
+            this.scaled = scaled;
+        }
+
+        String getUrl() {
+            return url;
+        }
+
+        int getRequestedWidth() {
+            return requestedWidth;
+        }
+
+        int getRequestedHeight() {
+            return requestedHeight;
+        }
+
+        boolean isScaled() {
+            return scaled;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package nl.han.ica.yaeger.engine.media.repositories;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+/**
+ * A {@code ResourceCache} holds strong references to the resources of a repository, up to a budget. The size of each
+ * resource is estimated by a weigher. When the total size exceeds the budget, the least recently used resources are
+ * evicted.
+ *
+ * <p>
+ * Resources can be pinned explicitly through {@link #pin(String)}, until {@link #unpinAll()} is called. Pinned
+ * resources are never evicted, so the resources that the active {@link nl.han.ica.yaeger.engine.scenes.YaegerScene}
+ * declared up front stay available, even if they do not fit within the budget. All other resources can be evicted.
+ * The {@code ResourceCache} is not thread safe.
+ * </p>
+ *
+ * @param <V> the type of the resources
+ */
+class ResourceCache<V> {
+
+    private final Map<String, V> resources = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Long> weights = new HashMap<>();
+    private final Set<String> pinned = new HashSet<>();
+    private final ToLongFunction<V> weigher;
+
+    private long budget;
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Create a new {@code ResourceCache}.
+     *
+     * @param weigher the function that estimates the size of a resource
+     * @param budget  the maximum total size of the unpinned and pinned resources
+     */
+    ResourceCache(ToLongFunction<V> weigher, long budget) {
+        this.weigher = weigher;
+        this.budget = budget;
+    }
+
+    /**
+     * Return the resource for the given key, or {@code null} if it is not cached.
+     *
+     * @param key the key of the resource
+     * @return the resource, or {@code null}
+     */
+    V get(String key) {
+        var resource = resources.get(key);
+
+        if (resource == null && !resources.containsKey(key)) {
+            misses++;
+            return null;
+        }
+
+        hits++;
+        return resource;
+    }
+
+    /**
+     * Add a resource. Unpinned resources are evicted if the budget is exceeded.
+     *
+     * @param key      the key of the resource
+     * @param resource the resource
+     */
+    void put(String key, V resource) {
+        var resourceWeight = resource == null ? 0 : Math.max(0, weigher.applyAsLong(resource));
+
+        resources.put(key, resource);
+        var previous = weights.put(key, resourceWeight);
+        weight += resourceWeight - (previous == null ? 0 : previous);
+
+        evict();
+    }
+
+    /**
+     * Pin the resource for the given key, so it is never evicted. The resource does not need to be cached yet.
+     *
+     * @param key the key of the resource
+     */
+    void pin(String key) {
+        pinned.add(key);
+    }
+
+    /**
+     * Unpin all resources, so they can be evicted when the budget is exceeded.
+     */
+    void unpinAll() {
+        pinned.clear();
+        evict();
+    }
+
+    /**
+     * Set the maximum total size of the resources.
+     *
+     * @param budget the budget
+     * @throws IllegalArgumentException if the budget is negative
+     */
+    void setBudget(long budget) {
+        if (budget < 0) {
+            throw new IllegalArgumentException("The budget should not be negative, but was " + budget);
+        }
+        this.budget = budget;
+        evict();
+    }
+
+    long getWeight() {
+        return weight;
+    }
+
+    long getHits() {
+        return hits;
+    }
+
+    long getMisses() {
+        return misses;
+    }
+
+    long getEvictions() {
+        return evictions;
+    }
+
+    int size() {
+        return resources.size();
+    }
+
+    /**
+     * Remove all resources. The counters are not reset.
+     */
+    void clear() {
+        resources.clear();
+        weights.clear();
+        pinned.clear();
+        weight = 0;
+    }
+
+    private void evict() {
+        if (weight <= budget) {
+            return;
+        }
+
+        var iterator = resources.keySet().iterator();
+        while (weight > budget && iterator.hasNext()) {
+            var key = iterator.next();
+
+            if (!pinned.contains(key)) {
+                iterator.remove();
+                weight -= weights.remove(key);
+                evictions++;
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package nl.han.ica.yaeger.engine.metrics;
+
+import com.google.inject.Inject;
+import nl.han.ica.yaeger.engine.debug.StatisticsObservable;
+import nl.han.ica.yaeger.engine.exceptions.YaegerMetricsException;
+import nl.han.ica.yaeger.engine.media.repositories.AudioRepository;
+import nl.han.ica.yaeger.engine.media.repositories.ImageRepository;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * A {@code MetricsPublisher} publishes the {@link SceneMetrics} of a {@link nl.han.ica.yaeger.engine.scenes.YaegerScene}
+ * as an MBean, so they can be watched through JMX, for instance with JConsole. The MBean is registered under the name
+ * {@code nl.han.ica.yaeger:type=Scene,name=<scene>} while the {@link nl.han.ica.yaeger.engine.scenes.YaegerScene} is
+ * active.
+ */
+public class MetricsPublisher {
+
+    static final String DOMAIN = "nl.han.ica.yaeger";
+
+    private final MBeanServer mBeanServer;
+    private AudioRepository audioRepository;
+    private ImageRepository imageRepository;
+
+    private StatisticsObservable observable;
+    private SceneMetrics sceneMetrics;
+    private ObjectName objectName;
+
+    /**
+     * Create a new {@code MetricsPublisher} that uses the platform {@link MBeanServer}.
+     */
+    public MetricsPublisher() {
+        this(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    /**
+     * Create a new {@code MetricsPublisher} that uses the given {@link MBeanServer}.
+     *
+     * @param mBeanServer the {@link MBeanServer} with which the MBeans are registered
+     */
+    MetricsPublisher(MBeanServer mBeanServer) {
+        this.mBeanServer = mBeanServer;
+    }
+
+    /**
+     * Publish the metrics of a {@link nl.han.ica.yaeger.engine.scenes.YaegerScene}. Metrics that were published
+     * before are unpublished first. An MBean that was left behind under the same name is replaced.
+     *
+     * @param sceneName  the name of the {@link nl.han.ica.yaeger.engine.scenes.YaegerScene}
+     * @param observable the {@link StatisticsObservable} of which the statistics are published
+     * @throws YaegerMetricsException if the MBean could not be registered
+     */
+    public void publish(String sceneName, StatisticsObservable observable) {
+        unpublish();
+
+        try {
+            var name = new ObjectName(DOMAIN + ":type=Scene,name=" + ObjectName.quote(sceneName));
+            if (mBeanServer.isRegistered(name)) {
+                mBeanServer.unregisterMBean(name);
+            }
+
+            var metrics = new SceneMetrics(audioRepository, imageRepository);
+            mBeanServer.registerMBean(metrics, name);
+            observable.addStatisticsObserver(metrics);
+
+            this.objectName = name;
+            this.sceneMetrics = metrics;
+            this.observable = observable;
+        } catch (JMException e) {
+            throw new YaegerMetricsException("The metrics of scene " + sceneName + " could not be published", e);
+        }
+    }
+
+    /**
+     * Unpublish the metrics that were published last, if any.
+     *
+     * @throws YaegerMetricsException if the MBean could not be unregistered
+     */
+    public void unpublish() {
+        if (objectName == null) {
+            return;
+        }
+
+        observable.removeStatisticsObserver(sceneMetrics);
+        var name = objectName;
+        objectName = null;
+        sceneMetrics = null;
+        observable = null;
+
+        try {
+            if (mBeanServer.isRegistered(name)) {
+                mBeanServer.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            throw new YaegerMetricsException("The metrics " + name + " could not be unpublished", e);
+        }
+    }
+
+    @Inject
+    public void setAudioRepository(AudioRepository audioRepository) {
+        this.audioRepository = audioRepository;
+    }
+
+    @Inject
+    public void setImageRepository(ImageRepository imageRepository) {
+        this.imageRepository = imageRepository;
+    }
+}
@@ -0,0 +1,283 @@
+package nl.han.ica.yaeger.engine.metrics;
+
+import nl.han.ica.yaeger.engine.debug.StatisticsObserver;
+import nl.han.ica.yaeger.engine.debug.TimingHistogram;
+import nl.han.ica.yaeger.engine.entities.EntityCollectionStatistics;
+import nl.han.ica.yaeger.engine.entities.UpdatePhase;
+import nl.han.ica.yaeger.engine.media.repositories.AudioRepository;
+import nl.han.ica.yaeger.engine.media.repositories.ImageRepository;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The {@code SceneMetrics} implement the {@link SceneMetricsMXBean} of a single
+ * {@link nl.han.ica.yaeger.engine.scenes.YaegerScene}.
+ *
+ * <p>
+ * The {@link EntityCollectionStatistics} are updated on the JavaFX Application Thread, while the MBean is read by the
+ * threads of JMX. As a {@link StatisticsObserver}, the {@code SceneMetrics} therefore copy the statistics into an
+ * immutable sample, which is published through a single volatile write. To keep the cost per frame low, a sample is
+ * taken at most once every {@link #SAMPLE_INTERVAL_NANOS}.
+ * </p>
+ */
+public class SceneMetrics implements SceneMetricsMXBean, StatisticsObserver {
+
+    /**
+     * The minimal time, in nanoseconds, between two samples.
+     */
+    public static final long SAMPLE_INTERVAL_NANOS = 250_000_000L;
+
+    private static final double NANOS_PER_MICRO = 1_000d;
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    private final AudioRepository audioRepository;
+    private final ImageRepository imageRepository;
+
+    private volatile Sample sample = new Sample();
+    private long lastSample;
+    private boolean sampled;
+
+    /**
+     * Create new {@code SceneMetrics}.
+     *
+     * @param audioRepository the {@link AudioRepository} of which the size and cache counters are published
+     * @param imageRepository the {@link ImageRepository} of which the size and cache counters are published
+     */
+    public SceneMetrics(AudioRepository audioRepository, ImageRepository imageRepository) {
+        this.audioRepository = audioRepository;
+        this.imageRepository = imageRepository;
+    }
+
+    @Override
+    public void update(EntityCollectionStatistics statistics) {
+        update(statistics, System.nanoTime());
+    }
+
+    /**
+     * Take a sample of the given {@link EntityCollectionStatistics}, unless the previous sample was taken less than
+     * {@link #SAMPLE_INTERVAL_NANOS} ago.
+     *
+     * @param statistics the {@link EntityCollectionStatistics} to be sampled
+     * @param now        the current time in nanoseconds
+     */
+    void update(EntityCollectionStatistics statistics, long now) {
+        if (sampled && now - lastSample < SAMPLE_INTERVAL_NANOS) {
+            return;
+        }
+
+        sampled = true;
+        lastSample = now;
+        sample = new Sample(statistics, new Resources(audioRepository, imageRepository));
+    }
+
+    @Override
+    public int getUpdatables() {
+        return sample.updatables;
+    }
+
+    @Override
+    public int getStatics() {
+        return sample.statics;
+    }
+
+    @Override
+    public int getSuppliers() {
+        return sample.suppliers;
+    }
+
+    @Override
+    public int getKeyListeners() {
+        return sample.keyListeners;
+    }
+
+    @Override
+    public int getGarbage() {
+        return sample.garbage;
+    }
+
+    @Override
+    public int getStoredEntities() {
+        return sample.storedEntities;
+    }
+
+    @Override
+    public long getSpawnedEntities() {
+        return sample.spawnedEntities;
+    }
+
+    @Override
+    public long getRemovedEntities() {
+        return sample.removedEntities;
+    }
+
+    @Override
+    public double getSpawnRate() {
+        return sample.spawnRate;
+    }
+
+    @Override
+    public double getRemovalRate() {
+        return sample.removalRate;
+    }
+
+    @Override
+    public int getAudioFiles() {
+        return sample.resources.audioFiles;
+    }
+
+    @Override
+    public int getImageFiles() {
+        return sample.resources.imageFiles;
+    }
+
+    @Override
+    public long getAudioCacheHits() {
+        return sample.resources.audioCacheHits;
+    }
+
+    @Override
+    public long getAudioCacheMisses() {
+        return sample.resources.audioCacheMisses;
+    }
+
+    @Override
+    public long getAudioCacheEvictions() {
+        return sample.resources.audioCacheEvictions;
+    }
+
+    @Override
+    public long getImageCacheBytes() {
+        return sample.resources.imageCacheBytes;
+    }
+
+    @Override
+    public long getImageCacheHits() {
+        return sample.resources.imageCacheHits;
+    }
+
+    @Override
+    public long getImageCacheMisses() {
+        return sample.resources.imageCacheMisses;
+    }
+
+    @Override
+    public long getImageCacheEvictions() {
+        return sample.resources.imageCacheEvictions;
+    }
+
+    @Override
+    public double getFrameTimeAverageMillis() {
+        return sample.frameTimeAverage;
+    }
+
+    @Override
+    public double getFrameTimeP99Millis() {
+        return sample.frameTimeP99;
+    }
+
+    @Override
+    public Map<String, Double> getPhaseAverageMicros() {
+        return sample.phaseAverages;
+    }
+
+    @Override
+    public Map<String, Double> getPhaseP99Micros() {
+        return sample.phaseP99s;
+    }
+
+    /**
+     * An immutable copy of the statistics at the moment of sampling.
+     */
+    private static final class Sample {
+
+        private final int updatables;
+        private final int statics;
+        private final int suppliers;
+        private final int keyListeners;
+        private final int garbage;
+        private final int storedEntities;
+        private final long spawnedEntities;
+        private final long removedEntities;
+        private final double spawnRate;
+        private final double removalRate;
+        private final Resources resources;
+        private final double frameTimeAverage;
+        private final double frameTimeP99;
+        private final Map<String, Double> phaseAverages;
+        private final Map<String, Double> phaseP99s;
+
+        private Sample() {
+            this(new EntityCollectionStatistics(), new Resources());
+        }
+
+        private Sample(EntityCollectionStatistics statistics, Resources resources) {
+            this.updatables = statistics.getUpdatables();
+            this.statics = statistics.getStatics();
+            this.suppliers = statistics.getSuppliers();
+            this.keyListeners = statistics.getKeyListeners();
+            this.garbage = statistics.getGarbage();
+            this.storedEntities = statistics.getStoredEntities();
+            this.spawnedEntities = statistics.getSpawnedEntities();
+            this.removedEntities = statistics.getRemovedEntities();
+            this.spawnRate = statistics.getSpawnRate();
+            this.removalRate = statistics.getRemovalRate();
+            this.resources = resources;
+
+            var frameTimes = statistics.getFrameTimes();
+            this.frameTimeAverage = frameTimes.getAverage() / NANOS_PER_MILLI;
+            this.frameTimeP99 = frameTimes.getP99() / NANOS_PER_MILLI;
+
+            var averages = new LinkedHashMap<String, Double>();
+            var p99s = new LinkedHashMap<String, Double>();
+            for (var phase : UpdatePhase.values()) {
+                TimingHistogram timing = statistics.getTiming(phase);
+                averages.put(phase.name(), timing.getAverage() / NANOS_PER_MICRO);
+                p99s.put(phase.name(), timing.getP99() / NANOS_PER_MICRO);
+            }
+            this.phaseAverages = Collections.unmodifiableMap(averages);
+            this.phaseP99s = Collections.unmodifiableMap(p99s);
+        }
+    }
+
+    /**
+     * An immutable copy of the sizes and cache counters of the repositories at the moment of sampling.
+     */
+    private static final class Resources {
+
+        private final int audioFiles;
+        private final int imageFiles;
+        private final long audioCacheHits;
+        private final long audioCacheMisses;
+        private final long audioCacheEvictions;
+        private final long imageCacheBytes;
+        private final long imageCacheHits;
+        private final long imageCacheMisses;
+        private final long imageCacheEvictions;
+
+        private Resources() {
+            this.audioFiles = 0;
+            this.imageFiles = 0;
+            this.audioCacheHits = 0;
+            this.audioCacheMisses = 0;
+            this.audioCacheEvictions = 0;
+            this.imageCacheBytes = 0;
+            this.imageCacheHits = 0;
+            this.imageCacheMisses = 0;
+            this.imageCacheEvictions = 0;
+        }
+
+        private Resources(AudioRepository audioRepository, ImageRepository imageRepository) {
+            this.audioFiles = audioRepository.size();
+            this.imageFiles = imageRepository.size();
+            this.audioCacheHits = audioRepository.getHits();
+            this.audioCacheMisses = audioRepository.getMisses();
+            this.audioCacheEvictions = audioRepository.getEvictions();
+            this.imageCacheBytes = imageRepository.getBytes();
+            this.imageCacheHits = imageRepository.getHits();
+            this.imageCacheMisses = imageRepository.getMisses();
+            this.imageCacheEvictions = imageRepository.getEvictions();
+        }
+    }
+}
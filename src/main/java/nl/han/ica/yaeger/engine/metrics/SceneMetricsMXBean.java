@@ -0,0 +1,133 @@
+package nl.han.ica.yaeger.engine.metrics;
+
+import java.util.Map;
+
+/**
+ * The management interface of the metrics of a {@link nl.han.ica.yaeger.engine.scenes.YaegerScene}, as published
+ * through JMX by the {@link MetricsPublisher}. All values are taken from the latest sample.
+ */
+public interface SceneMetricsMXBean {
+
+    /**
+     * @return the number of instances of {@link nl.han.ica.yaeger.engine.entities.entity.Updatable}
+     */
+    int getUpdatables();
+
+    /**
+     * @return the number of static instances of {@link nl.han.ica.yaeger.engine.entities.entity.Entity}
+     */
+    int getStatics();
+
+    /**
+     * @return the number of instances of {@link nl.han.ica.yaeger.engine.entities.EntitySupplier}
+     */
+    int getSuppliers();
+
+    /**
+     * @return the number of instances of {@link nl.han.ica.yaeger.engine.userinput.KeyListener}
+     */
+    int getKeyListeners();
+
+    /**
+     * @return the number of entities that are marked as garbage
+     */
+    int getGarbage();
+
+    /**
+     * @return the number of entities in the {@link nl.han.ica.yaeger.engine.entities.EntityStore}
+     */
+    int getStoredEntities();
+
+    /**
+     * @return the total number of entities that have been spawned
+     */
+    long getSpawnedEntities();
+
+    /**
+     * @return the total number of entities that have been removed
+     */
+    long getRemovedEntities();
+
+    /**
+     * @return the number of entities spawned per second
+     */
+    double getSpawnRate();
+
+    /**
+     * @return the number of entities removed per second
+     */
+    double getRemovalRate();
+
+    /**
+     * @return the number of audio files in the {@link nl.han.ica.yaeger.engine.media.repositories.AudioRepository}
+     */
+    int getAudioFiles();
+
+    /**
+     * @return the number of image files in the {@link nl.han.ica.yaeger.engine.media.repositories.ImageRepository}
+     */
+    int getImageFiles();
+
+    /**
+     * @return the number of times a requested audio file was found in the cache of the
+     * {@link nl.han.ica.yaeger.engine.media.repositories.AudioRepository}
+     */
+    long getAudioCacheHits();
+
+    /**
+     * @return the number of times a requested audio file was not found in the cache of the
+     * {@link nl.han.ica.yaeger.engine.media.repositories.AudioRepository}
+     */
+    long getAudioCacheMisses();
+
+    /**
+     * @return the number of audio files that have been evicted from the cache of the
+     * {@link nl.han.ica.yaeger.engine.media.repositories.AudioRepository}
+     */
+    long getAudioCacheEvictions();
+
+    /**
+     * @return the estimated number of bytes of the images in the cache of the
+     * {@link nl.han.ica.yaeger.engine.media.repositories.ImageRepository}
+     */
+    long getImageCacheBytes();
+
+    /**
+     * @return the number of times a requested image was found in the cache of the
+     * {@link nl.han.ica.yaeger.engine.media.repositories.ImageRepository}
+     */
+    long getImageCacheHits();
+
+    /**
+     * @return the number of times a requested image was not found in the cache of the
+     * {@link nl.han.ica.yaeger.engine.media.repositories.ImageRepository}
+     */
+    long getImageCacheMisses();
+
+    /**
+     * @return the number of images that have been evicted from the cache of the
+     * {@link nl.han.ica.yaeger.engine.media.repositories.ImageRepository}
+     */
+    long getImageCacheEvictions();
+
+    /**
+     * @return the average duration of a frame in milliseconds
+     */
+    double getFrameTimeAverageMillis();
+
+    /**
+     * @return the 99th percentile of the duration of a frame in milliseconds
+     */
+    double getFrameTimeP99Millis();
+
+    /**
+     * @return the average duration in microseconds of each {@link nl.han.ica.yaeger.engine.entities.UpdatePhase}
+     */
+    Map<String, Double> getPhaseAverageMicros();
+
+    /**
+     * @return the 99th percentile of the duration in microseconds of each
+     * {@link nl.han.ica.yaeger.engine.entities.UpdatePhase}
+     */
+    Map<String, Double> getPhaseP99Micros();
+}
@@ -3,6 +3,7 @@ package nl.han.ica.yaeger.engine.scenes;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 import javafx.stage.Stage;
+import nl.han.ica.yaeger.engine.debug.jfr.SceneActivationEvent;
 import nl.han.ica.yaeger.engine.exceptions.YaegerSceneNotAvailableException;
 import nl.han.ica.yaeger.module.YaegerModule;
 
@@ -72,6 +73,9 @@ public class Scenes extends LinkedHashMap<SceneType, YaegerScene> {
     }
 
     private void activate(YaegerScene scene) {
+        var event = new SceneActivationEvent();
+        event.begin();
+
         injector.injectMembers(scene);
         scene.configure();
         scene.setupScene();
@@ -79,6 +83,11 @@ public class Scenes extends LinkedHashMap<SceneType, YaegerScene> {
         activeScene = scene;
         setActiveSceneOnStage();
         scene.postActivation();
+
+        if (event.shouldCommit()) {
+            event.scene = scene.getClass().getName();
+            event.commit();
+        }
     }
 
     private void setActiveSceneOnStage() {
@@ -0,0 +1,19 @@
+package nl.han.ica.yaeger.engine.scenes.delegates;
+
+import javafx.application.Platform;
+
+/**
+ * An {@link ApplicationThreadDelegate} runs code that is triggered from another thread, such as a thread that decodes
+ * images, on the JavaFX Application Thread, so it can safely change the scene graph.
+ */
+public class ApplicationThreadDelegate {
+
+    /**
+     * Run the given {@link Runnable} on the JavaFX Application Thread at some unspecified time in the future.
+     *
+     * @param runnable the {@link Runnable} to be run
+     */
+    public void runLater(Runnable runnable) {
+        Platform.runLater(runnable);
+    }
+}
@@ -1,19 +1,32 @@
 package nl.han.ica.yaeger.engine.scenes.impl;
 
-import javafx.animation.AnimationTimer;
+import com.google.inject.Inject;
 import javafx.scene.input.KeyCode;
 import nl.han.ica.yaeger.engine.entities.entity.Entity;
 import nl.han.ica.yaeger.engine.entities.EntitySpawner;
+import nl.han.ica.yaeger.engine.gameloop.FixedTimestep;
+import nl.han.ica.yaeger.engine.gameloop.GameLoop;
+import nl.han.ica.yaeger.module.factories.GameLoopFactory;
 
 import java.util.Set;
 
 /**
  * Instantiate a new  {@code DynamicScene}. A {@code DynamicScene} extends a {@link StaticScene}, but adds its
  * own {@code Gameloop}.
+ *
+ * <p>
+ * The {@code Gameloop} uses a {@link FixedTimestep}: the {@link nl.han.ica.yaeger.engine.entities.EntityCollection}
+ * is updated a fixed number of times per second, independent of the refresh rate of the display. The pulses that
+ * drive it are delivered by a {@link GameLoop}, which is created by the {@link GameLoopFactory}.
+ * </p>
  */
 public abstract class DynamicScene extends StaticScene {
 
-    private AnimationTimer animator;
+    private GameLoopFactory gameLoopFactory;
+    private GameLoop gameLoop;
+    private final FixedTimestep fixedTimestep = new FixedTimestep();
+    private boolean simulationThreadEnabled;
+    private boolean activated;
 
     @Override
     public void configure() {
@@ -28,6 +41,14 @@ public abstract class DynamicScene extends StaticScene {
 
     protected abstract void setupSpawners();
 
+    @Override
+    public void postActivation() {
+        super.postActivation();
+
+        activated = true;
+        entityCollection.setSimulationThreadEnabled(simulationThreadEnabled, fixedTimestep);
+    }
+
     @Override
     public void onInputChanged(Set<KeyCode> input) {
         entityCollection.notifyGameObjectsOfPressedKeys(input);
@@ -43,6 +64,56 @@ public abstract class DynamicScene extends StaticScene {
         entityCollection.registerSupplier(spawner);
     }
 
+    /**
+     * Set the number of times per second the {@link nl.han.ica.yaeger.engine.entities.EntityCollection} is updated.
+     * The default is {@link FixedTimestep#DEFAULT_TICKS_PER_SECOND}.
+     *
+     * @param ticksPerSecond the number of updates per second
+     */
+    protected void setTicksPerSecond(int ticksPerSecond) {
+        fixedTimestep.setTicksPerSecond(ticksPerSecond);
+    }
+
+    /**
+     * Set the maximum number of updates that are performed to catch up after a slow frame. The default is
+     * {@link FixedTimestep#DEFAULT_MAX_STEPS_PER_FRAME}.
+     *
+     * @param maxStepsPerFrame the maximum number of updates per frame
+     */
+    protected void setMaxStepsPerFrame(int maxStepsPerFrame) {
+        fixedTimestep.setMaxStepsPerFrame(maxStepsPerFrame);
+    }
+
+    /**
+     * Set whether the {@link nl.han.ica.yaeger.engine.entities.EntityStore} should be simulated on a separate thread,
+     * instead of on the JavaFX Application Thread. The simulation thread uses the same tick rate as this
+     * {@code DynamicScene}. When called from {@link #setupScene()}, the simulation thread is only started after
+     * {@link #setupEntities()}, so the {@link nl.han.ica.yaeger.engine.entities.EntityStore} can be filled directly.
+     * See
+     * {@link nl.han.ica.yaeger.engine.entities.EntityCollection#setSimulationThreadEnabled(boolean, FixedTimestep)}.
+     *
+     * @param simulationThreadEnabled {@code true} if a separate simulation thread should be used
+     */
+    protected void setSimulationThreadEnabled(boolean simulationThreadEnabled) {
+        this.simulationThreadEnabled = simulationThreadEnabled;
+
+        if (activated) {
+            entityCollection.setSimulationThreadEnabled(simulationThreadEnabled, fixedTimestep);
+        }
+    }
+
+    /**
+     * Return the fraction of an update that has passed since the last update of the
+     * {@link nl.han.ica.yaeger.engine.entities.EntityCollection}. It is used to place the entities of the
+     * {@link nl.han.ica.yaeger.engine.entities.EntityStore} in between two updates, and can be used in the same way
+     * for other rendering.
+     *
+     * @return a value between {@code 0} (inclusive) and {@code 1} (exclusive)
+     */
+    public double getInterpolationAlpha() {
+        return fixedTimestep.getInterpolationAlpha();
+    }
+
     @Override
     public void destroy() {
         stopGameLoop();
@@ -53,21 +124,33 @@ public abstract class DynamicScene extends StaticScene {
     }
 
     private void startGameLoop() {
-        animator.start();
+        gameLoop.start(this::handlePulse);
     }
 
     private void stopGameLoop() {
-        animator.stop();
-        animator = null;
+        activated = false;
+        gameLoop.stop();
+        gameLoop = null;
+        fixedTimestep.reset();
+    }
+
+    /**
+     * Handle a pulse of the {@link GameLoop} by performing as many updates as fit in the elapsed time, after
+     * which the state in between the last two updates is rendered, using the interpolation alpha.
+     *
+     * @param now the timestamp of the pulse in nanoseconds
+     */
+    void handlePulse(long now) {
+        fixedTimestep.advance(now, entityCollection::update);
+        entityCollection.render(now, fixedTimestep.getInterpolationAlpha());
     }
 
     private void createGameLoop() {
-        animator = new AnimationTimer() {
-            @Override
-            public void handle(long arg0) {
+        gameLoop = gameLoopFactory.create();
+    }
 
-                entityCollection.update(arg0);
-            }
-        };
+    @Inject
+    public void setGameLoopFactory(GameLoopFactory gameLoopFactory) {
+        this.gameLoopFactory = gameLoopFactory;
     }
 }
@@ -7,11 +7,16 @@ import javafx.scene.Scene;
 import javafx.scene.input.KeyCode;
 import nl.han.ica.yaeger.engine.entities.EntityCollection;
 import nl.han.ica.yaeger.engine.entities.EntitySupplier;
+import nl.han.ica.yaeger.engine.entities.collisions.CollisionStrategy;
 import nl.han.ica.yaeger.engine.userinput.KeyListener;
 import nl.han.ica.yaeger.engine.debug.Debugger;
 import nl.han.ica.yaeger.engine.entities.entity.Entity;
 import nl.han.ica.yaeger.engine.entities.EntitySpawner;
+import nl.han.ica.yaeger.engine.media.repositories.ImageRepository;
+import nl.han.ica.yaeger.engine.media.repositories.PreloadManifest;
+import nl.han.ica.yaeger.engine.metrics.MetricsPublisher;
 import nl.han.ica.yaeger.engine.scenes.YaegerScene;
+import nl.han.ica.yaeger.engine.scenes.delegates.ApplicationThreadDelegate;
 import nl.han.ica.yaeger.engine.scenes.delegates.BackgroundDelegate;
 import nl.han.ica.yaeger.engine.scenes.delegates.KeyListenerDelegate;
 import nl.han.ica.yaeger.module.factories.EntityCollectionFactory;
@@ -30,10 +35,14 @@ public abstract class StaticScene implements YaegerScene, KeyListener {
     EntitySupplier entitySupplier;
     private KeyListenerDelegate keyListenerDelegate;
     private BackgroundDelegate backgroundDelegate;
+    private CollisionStrategy collisionStrategy;
 
     private Scene scene;
     private Group root;
     Debugger debugger;
+    private MetricsPublisher metricsPublisher;
+    private ImageRepository imageRepository;
+    private ApplicationThreadDelegate applicationThreadDelegate;
 
     @Override
     public void init(Injector injector) {
@@ -42,13 +51,19 @@ public abstract class StaticScene implements YaegerScene, KeyListener {
 
     @Override
     public void configure() {
+        preload();
+
         scene = sceneFactory.create(root);
 
         entityCollection = entityCollectionFactory.create(root);
         entityCollection.init(injector);
-        entityCollection.addStatisticsObserver(debugger);
+        if (collisionStrategy != null) {
+            entityCollection.setCollisionStrategy(collisionStrategy);
+        }
 
         debugger.setup(root);
+        debugger.observe(entityCollection);
+        metricsPublisher.publish(getClass().getName(), entityCollection);
         keyListenerDelegate.setup(scene, this);
         backgroundDelegate.setup(scene);
     }
@@ -60,6 +75,38 @@ public abstract class StaticScene implements YaegerScene, KeyListener {
         debugger.toFront();
     }
 
+    /**
+     * Implement this method to list the images that are used by this {@link YaegerScene}. These images are decoded
+     * in parallel, on separate threads, as soon as this {@link YaegerScene} is activated. An {@link Entity} that
+     * requests one of these images while it is still being decoded waits for that decode to finish. These images stay
+     * loaded until this {@link YaegerScene} is destroyed, while images that are not listed can be evicted.
+     *
+     * @param manifest the {@link PreloadManifest} to which the images should be added
+     */
+    protected void setupPreloadManifest(PreloadManifest manifest) {
+    }
+
+    /**
+     * Implement this method to be informed about the progress of preloading the images of the
+     * {@link PreloadManifest}. This method is called on the JavaFX Application Thread, so it can update the scene
+     * graph.
+     *
+     * @param loaded the number of images that have been loaded
+     * @param total  the total number of images in the {@link PreloadManifest}
+     */
+    protected void onPreloadProgress(int loaded, int total) {
+    }
+
+    private void preload() {
+        var manifest = new PreloadManifest();
+        setupPreloadManifest(manifest);
+
+        if (!manifest.isEmpty()) {
+            imageRepository.preload(manifest,
+                    (loaded, total) -> applicationThreadDelegate.runLater(() -> onPreloadProgress(loaded, total)));
+        }
+    }
+
     /**
      * Add an {@link Entity} to this {@link YaegerScene}. An {@link Entity} can only be added once.
      * <p>
@@ -111,8 +158,10 @@ public abstract class StaticScene implements YaegerScene, KeyListener {
 
     @Override
     public void destroy() {
+        metricsPublisher.unpublish();
         keyListenerDelegate.tearDown(scene);
         backgroundDelegate.destroy();
+        imageRepository.unpinAll();
         clear();
     }
 
@@ -174,6 +223,54 @@ public abstract class StaticScene implements YaegerScene, KeyListener {
         this.debugger = debugger;
     }
 
+    /**
+     * Set the {@link MetricsPublisher} that should be used to publish the metrics of this {@link YaegerScene}.
+     *
+     * @param metricsPublisher the {@link MetricsPublisher} to be used
+     */
+    @Inject
+    public void setMetricsPublisher(MetricsPublisher metricsPublisher) {
+        this.metricsPublisher = metricsPublisher;
+    }
+
+    /**
+     * Set the {@link CollisionStrategy} that should be used for collision detection. By default, the
+     * {@link CollisionStrategy} is injected. To use a different one for this {@link YaegerScene}, call this method
+     * from {@link #setupScene()}.
+     *
+     * @param collisionStrategy the {@link CollisionStrategy} to be used
+     */
+    @Inject
+    public void setCollisionStrategy(CollisionStrategy collisionStrategy) {
+        this.collisionStrategy = collisionStrategy;
+
+        if (entityCollection != null) {
+            entityCollection.setCollisionStrategy(collisionStrategy);
+        }
+    }
+
+    /**
+     * Set the {@link ImageRepository} that should be used to preload the images of this {@link YaegerScene}. When this
+     * {@link YaegerScene} is destroyed, its images are unpinned.
+     *
+     * @param imageRepository the {@link ImageRepository} to be used
+     */
+    @Inject
+    public void setImageRepository(ImageRepository imageRepository) {
+        this.imageRepository = imageRepository;
+    }
+
+    /**
+     * Set the {@link ApplicationThreadDelegate} that is used to report the progress of preloading the images on the
+     * JavaFX Application Thread.
+     *
+     * @param applicationThreadDelegate the {@link ApplicationThreadDelegate} to be used
+     */
+    @Inject
+    public void setApplicationThreadDelegate(ApplicationThreadDelegate applicationThreadDelegate) {
+        this.applicationThreadDelegate = applicationThreadDelegate;
+    }
+
     @Inject
     public void setBackgroundDelegate(BackgroundDelegate backgroundDelegate) {
         this.backgroundDelegate = backgroundDelegate;
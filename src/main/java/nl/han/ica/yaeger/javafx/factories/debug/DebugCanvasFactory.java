@@ -0,0 +1,21 @@
+package nl.han.ica.yaeger.javafx.factories.debug;
+
+import javafx.scene.canvas.Canvas;
+
+/**
+ * A {@code DebugCanvasFactory} should be used for creating instances of {@link Canvas} for use in the
+ * {@link nl.han.ica.yaeger.engine.debug.Debugger}.
+ */
+public class DebugCanvasFactory {
+
+    /**
+     * Construct a new {@link Canvas} that can be used by the {@link nl.han.ica.yaeger.engine.debug.Debugger}
+     *
+     * @param width  the width of the {@link Canvas}
+     * @param height the height of the {@link Canvas}
+     * @return an instance of {@link Canvas}
+     */
+    public Canvas create(double width, double height) {
+        return new Canvas(width, height);
+    }
+}
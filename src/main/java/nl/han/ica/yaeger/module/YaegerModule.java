@@ -1,6 +1,15 @@
 package nl.han.ica.yaeger.module;
 
 import com.google.inject.AbstractModule;
+import nl.han.ica.yaeger.engine.entities.collisions.BruteForceCollisionStrategy;
+import nl.han.ica.yaeger.engine.entities.collisions.CollisionStrategy;
+import nl.han.ica.yaeger.engine.media.repositories.AudioRepository;
 
 public class YaegerModule extends AbstractModule {
+
+    @Override
+    protected void configure() {
+        bind(CollisionStrategy.class).to(BruteForceCollisionStrategy.class);
+        bind(AudioRepository.class).toInstance(AudioRepository.getInstance());
+    }
 }
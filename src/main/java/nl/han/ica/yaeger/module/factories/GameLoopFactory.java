@@ -0,0 +1,19 @@
+package nl.han.ica.yaeger.module.factories;
+
+import nl.han.ica.yaeger.engine.gameloop.AnimationTimerGameLoop;
+import nl.han.ica.yaeger.engine.gameloop.GameLoop;
+
+/**
+ * A {@link GameLoopFactory} can be used to create instances of {@link GameLoop}.
+ */
+public class GameLoopFactory {
+
+    /**
+     * Create a {@link GameLoop}.
+     *
+     * @return an instance of {@link GameLoop}
+     */
+    public GameLoop create() {
+        return new AnimationTimerGameLoop();
+    }
+}
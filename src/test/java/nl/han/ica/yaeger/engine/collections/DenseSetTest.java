@@ -0,0 +1,171 @@
+package nl.han.ica.yaeger.engine.collections;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+
+class DenseSetTest {
+
+    private DenseSet<String> denseSet;
+
+    @BeforeEach
+    void setup() {
+        denseSet = new DenseSet<>();
+    }
+
+    @Test
+    void elementsAreIteratedInInsertionOrder() {
+        // Setup
+        denseSet.add("c");
+        denseSet.add("a");
+        denseSet.add("b");
+
+        // Test
+        var result = new ArrayList<>(denseSet);
+
+        // Verify
+        Assertions.assertEquals(List.of("c", "a", "b"), result);
+    }
+
+    @Test
+    void identitySetKeepsEqualButDistinctElements() {
+        // Setup
+        DenseSet<List<String>> identitySet = DenseSet.withIdentity();
+        var first = new ArrayList<String>();
+        var second = new ArrayList<String>();
+
+        // Test
+        identitySet.add(first);
+        var addedSecond = identitySet.add(second);
+        first.add("a");
+
+        // Verify
+        Assertions.assertTrue(addedSecond);
+        Assertions.assertEquals(2, identitySet.size());
+        Assertions.assertTrue(identitySet.remove(first));
+        Assertions.assertSame(second, identitySet.get(0));
+    }
+
+    @Test
+    void addingAnElementTwiceIsIgnored() {
+        // Setup
+        denseSet.add("a");
+
+        // Test
+        var added = denseSet.add("a");
+
+        // Verify
+        Assertions.assertFalse(added);
+        Assertions.assertEquals(1, denseSet.size());
+    }
+
+    @Test
+    void removeMovesTheLastElementIntoTheHole() {
+        // Setup
+        denseSet.add("a");
+        denseSet.add("b");
+        denseSet.add("c");
+
+        // Test
+        var removed = denseSet.remove("a");
+
+        // Verify
+        Assertions.assertTrue(removed);
+        Assertions.assertFalse(denseSet.contains("a"));
+        Assertions.assertEquals("c", denseSet.get(0));
+        Assertions.assertEquals("b", denseSet.get(1));
+    }
+
+    @Test
+    void removingAnUnknownElementReturnsFalse() {
+        // Test & Verify
+        Assertions.assertFalse(denseSet.remove("a"));
+    }
+
+    @Test
+    void iteratorRemoveVisitsTheMovedElement() {
+        // Setup
+        denseSet.addAll(List.of("a", "b", "c", "d"));
+        List<String> visited = new ArrayList<>();
+
+        // Test
+        var iterator = denseSet.iterator();
+        while (iterator.hasNext()) {
+            var element = iterator.next();
+            visited.add(element);
+            if (!element.equals("c")) {
+                iterator.remove();
+            }
+        }
+
+        // Verify
+        Assertions.assertEquals(List.of("a", "d", "c", "b"), visited);
+        Assertions.assertEquals(List.of("c"), new ArrayList<>(denseSet));
+    }
+
+    @Test
+    void removeAllKeepsTheIndexConsistent() {
+        // Setup
+        denseSet.addAll(List.of("a", "b", "c", "d", "e"));
+
+        // Test
+        denseSet.removeAll(List.of("b", "d"));
+
+        // Verify
+        Assertions.assertEquals(3, denseSet.size());
+        for (var i = 0; i < denseSet.size(); i++) {
+            Assertions.assertTrue(denseSet.contains(denseSet.get(i)));
+        }
+        Assertions.assertTrue(denseSet.remove("e"));
+        Assertions.assertTrue(denseSet.remove("a"));
+        Assertions.assertTrue(denseSet.remove("c"));
+        Assertions.assertTrue(denseSet.isEmpty());
+    }
+
+    @Test
+    void setGrowsBeyondItsInitialCapacity() {
+        // Test
+        for (var i = 0; i < 100; i++) {
+            denseSet.add(String.valueOf(i));
+        }
+
+        // Verify
+        Assertions.assertEquals(100, denseSet.size());
+        Assertions.assertEquals("99", denseSet.get(99));
+    }
+
+    @Test
+    void getOutsideOfTheSizeIsRejected() {
+        // Setup
+        denseSet.add("a");
+
+        // Test & Verify
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> denseSet.get(1));
+    }
+
+    @Test
+    void modifyingTheSetDuringForEachIsRejected() {
+        // Setup
+        denseSet.addAll(List.of("a", "b"));
+
+        // Test & Verify
+        Assertions.assertThrows(ConcurrentModificationException.class, () -> denseSet.forEach(denseSet::remove));
+    }
+
+    @Test
+    void clearRemovesAllElements() {
+        // Setup
+        denseSet.addAll(List.of("a", "b"));
+
+        // Test
+        denseSet.clear();
+
+        // Verify
+        Assertions.assertTrue(denseSet.isEmpty());
+        Assertions.assertFalse(denseSet.contains("a"));
+    }
+}
@@ -0,0 +1,42 @@
+package nl.han.ica.yaeger.engine.debug;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class DebugValueTest {
+
+    private List<String> texts;
+    private DebugValue sut;
+
+    @BeforeEach
+    void setup() {
+        texts = new ArrayList<>();
+        sut = new DebugValue(texts::add);
+    }
+
+    @Test
+    void showOnlyWritesChangedValues() {
+        // Test
+        sut.show(1);
+        sut.show(1);
+        sut.show(2);
+
+        // Verify
+        Assertions.assertEquals(List.of("1", "2"), texts);
+    }
+
+    @Test
+    void showTenthsFormatsBothValues() {
+        // Test
+        sut.showTenths(15, 203);
+        sut.showTenths(15, 203);
+        sut.showTenths(15, 204);
+
+        // Verify
+        Assertions.assertEquals(List.of("1.5 / 20.3", "1.5 / 20.4"), texts);
+    }
+}
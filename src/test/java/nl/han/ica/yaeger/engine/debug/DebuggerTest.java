@@ -3,11 +3,16 @@ package nl.han.ica.yaeger.engine.debug;
 import javafx.collections.ObservableList;
 import javafx.scene.Group;
 import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.layout.GridPane;
+import nl.han.ica.yaeger.engine.entities.EntityCollectionStatistics;
 import nl.han.ica.yaeger.engine.media.repositories.AudioRepository;
 import nl.han.ica.yaeger.engine.media.repositories.ImageRepository;
+import nl.han.ica.yaeger.javafx.factories.debug.DebugCanvasFactory;
 import nl.han.ica.yaeger.javafx.factories.debug.DebugGridPaneFactory;
 import nl.han.ica.yaeger.javafx.factories.debug.DebugLabelFactory;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -24,6 +29,8 @@ class DebuggerTest {
 
     private DebugGridPaneFactory debugGridPaneFactory;
     private DebugLabelFactory debugLabelFactory;
+    private DebugCanvasFactory debugCanvasFactory;
+    private GraphicsContext graphicsContext;
 
     private Debugger sut;
 
@@ -42,11 +49,18 @@ class DebuggerTest {
 
         debugLabelFactory = mock(DebugLabelFactory.class);
 
+        var canvas = mock(Canvas.class);
+        graphicsContext = mock(GraphicsContext.class);
+        when(canvas.getGraphicsContext2D()).thenReturn(graphicsContext);
+        debugCanvasFactory = mock(DebugCanvasFactory.class);
+        when(debugCanvasFactory.create(anyDouble(), anyDouble())).thenReturn(canvas);
+
         sut = new Debugger();
         sut.setAudioRepository(audioRepository);
         sut.setImageRepository(imageRepository);
         sut.setDebugGridPaneFactory(debugGridPaneFactory);
         sut.setDebugLabelFactory(debugLabelFactory);
+        sut.setDebugCanvasFactory(debugCanvasFactory);
     }
 
     @Test
@@ -86,4 +100,95 @@ class DebuggerTest {
         // Verify
         verify(gridPane).setVisible(false);
     }
-}
\ No newline at end of file
+
+    @Test
+    void setupAddsTheFrameTimeGraph() {
+        // Test
+        sut.setup(group);
+
+        // Verify
+        verify(debugCanvasFactory).create(anyDouble(), anyDouble());
+    }
+
+    @Test
+    void updateDoesNotDrawWhenHidden() {
+        // Setup
+        when(gridPane.isVisible()).thenReturn(false);
+        sut.setup(group);
+
+        // Test
+        sut.update(new EntityCollectionStatistics());
+
+        // Verify
+        verifyZeroInteractions(graphicsContext);
+    }
+
+    @Test
+    void observeDoesNotRegisterWhileHidden() {
+        // Setup
+        var observable = mock(StatisticsObservable.class);
+        when(gridPane.isVisible()).thenReturn(false);
+        sut.setup(group);
+
+        // Test
+        sut.observe(observable);
+
+        // Verify
+        verify(observable, never()).addStatisticsObserver(sut);
+    }
+
+    @Test
+    void toggleRegistersWhenShownAndUnregistersWhenHidden() {
+        // Setup
+        var observable = mock(StatisticsObservable.class);
+        when(gridPane.isVisible()).thenReturn(false);
+        sut.setup(group);
+        sut.observe(observable);
+
+        // Test
+        sut.toggle();
+        when(gridPane.isVisible()).thenReturn(true);
+        sut.toggle();
+
+        // Verify
+        var inOrder = inOrder(observable);
+        inOrder.verify(observable).addStatisticsObserver(sut);
+        inOrder.verify(observable).removeStatisticsObserver(sut);
+    }
+
+    @Test
+    void observingAnotherObservableUnregistersFromThePreviousOne() {
+        // Setup
+        var first = mock(StatisticsObservable.class);
+        var second = mock(StatisticsObservable.class);
+        sut.observe(first);
+
+        // Test
+        sut.observe(second);
+
+        // Verify
+        verify(first).removeStatisticsObserver(sut);
+    }
+
+    @Test
+    void sampleIsThrottledToTheSampleRate() {
+        // Setup
+        sut.setSampleRate(4);
+
+        // Test
+        var first = sut.sample(0);
+        var tooSoon = sut.sample(100_000_000L);
+        var intime = sut.sample(250_000_000L);
+
+        // Verify
+        Assertions.assertTrue(first);
+        Assertions.assertFalse(tooSoon);
+        Assertions.assertTrue(intime);
+    }
+
+    @Test
+    void sampleRateShouldBePositive() {
+        // Test & Verify
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sut.setSampleRate(0));
+    }
+}
@@ -0,0 +1,68 @@
+package nl.han.ica.yaeger.engine.debug;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.*;
+
+class FrameTimeGraphTest {
+
+    private GraphicsContext graphicsContext;
+    private TimingHistogram frameTimes;
+    private FrameTimeGraph sut;
+
+    @BeforeEach
+    void setup() {
+        var canvas = mock(Canvas.class);
+        graphicsContext = mock(GraphicsContext.class);
+        when(canvas.getGraphicsContext2D()).thenReturn(graphicsContext);
+
+        frameTimes = new TimingHistogram(10);
+        sut = new FrameTimeGraph(canvas);
+    }
+
+    @Test
+    void drawClearsTheCanvasAndDrawsABarPerFrame() {
+        // Setup
+        frameTimes.record(16_000_000);
+        frameTimes.record(40_000_000);
+
+        // Test
+        sut.draw(frameTimes, 0, 0);
+
+        // Verify
+        verify(graphicsContext).clearRect(0, 0, FrameTimeGraph.WIDTH, FrameTimeGraph.HEIGHT);
+        verify(graphicsContext, times(2)).fillRect(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    void drawWritesTheFrameRateAndGarbageCollections() {
+        // Setup
+        frameTimes.record(16_000_000);
+        frameTimes.record(40_000_000);
+
+        // Test
+        sut.draw(frameTimes, 3, 12);
+
+        // Verify
+        verify(graphicsContext).fillText(eq("FPS 25 (avg 36)  worst 40.0 ms  GC 3 / 12 ms"), anyDouble(),
+                anyDouble());
+    }
+
+    @Test
+    void drawMarksTheWorstFrame() {
+        // Setup
+        frameTimes.record(40_000_000);
+        frameTimes.record(16_000_000);
+
+        // Test
+        sut.draw(frameTimes, 0, 0);
+
+        // Verify
+        var barWidth = FrameTimeGraph.WIDTH / 10;
+        var worstX = FrameTimeGraph.WIDTH - 2 * barWidth;
+        verify(graphicsContext).strokeLine(eq(worstX), anyDouble(), eq(worstX), eq(FrameTimeGraph.HEIGHT));
+    }
+}
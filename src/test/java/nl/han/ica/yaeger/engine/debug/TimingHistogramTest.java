@@ -0,0 +1,114 @@
+package nl.han.ica.yaeger.engine.debug;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TimingHistogramTest {
+
+    private TimingHistogram timingHistogram;
+
+    @BeforeEach
+    void setup() {
+        timingHistogram = new TimingHistogram(100);
+    }
+
+    @Test
+    void newInstanceIsEmpty() {
+        // Verify
+        Assertions.assertEquals(0, timingHistogram.getCount());
+        Assertions.assertEquals(0, timingHistogram.getMin());
+        Assertions.assertEquals(0, timingHistogram.getMax());
+        Assertions.assertEquals(0, timingHistogram.getAverage());
+        Assertions.assertEquals(0, timingHistogram.getP99());
+    }
+
+    @Test
+    void minAverageAndMaxAreExact() {
+        // Test
+        timingHistogram.record(1000);
+        timingHistogram.record(3000);
+        timingHistogram.record(2000);
+
+        // Verify
+        Assertions.assertEquals(1000, timingHistogram.getMin());
+        Assertions.assertEquals(2000, timingHistogram.getAverage(), 0.0001);
+        Assertions.assertEquals(3000, timingHistogram.getMax());
+        Assertions.assertEquals(2000, timingHistogram.getLast());
+    }
+
+    @Test
+    void p99IsWithinTheBucketPrecision() {
+        // Setup
+        for (var i = 1; i <= 100; i++) {
+            timingHistogram.record(i * 1000L);
+        }
+
+        // Test
+        var p99 = timingHistogram.getP99();
+
+        // Verify
+        Assertions.assertTrue(p99 >= 99_000, "p99 was " + p99);
+        Assertions.assertTrue(p99 <= 99_000 * 1.125, "p99 was " + p99);
+    }
+
+    @Test
+    void percentileNeverExceedsTheMax() {
+        // Setup
+        timingHistogram.record(1000);
+
+        // Test & Verify
+        Assertions.assertEquals(1000, timingHistogram.getPercentile(1));
+    }
+
+    @Test
+    void oldestDurationsLeaveTheWindow() {
+        // Setup
+        timingHistogram.record(1_000_000);
+
+        // Test
+        for (var i = 0; i < 100; i++) {
+            timingHistogram.record(10);
+        }
+
+        // Verify
+        Assertions.assertEquals(100, timingHistogram.getCount());
+        Assertions.assertEquals(10, timingHistogram.getMax());
+        Assertions.assertEquals(10, timingHistogram.getP99());
+        Assertions.assertEquals(10, timingHistogram.getAverage(), 0.0001);
+    }
+
+    @Test
+    void recentDurationsAreReturnedNewestFirst() {
+        // Setup
+        var small = new TimingHistogram(2);
+        small.record(1);
+        small.record(2);
+        small.record(3);
+
+        // Test & Verify
+        Assertions.assertEquals(3, small.getRecent(0));
+        Assertions.assertEquals(2, small.getRecent(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> small.getRecent(2));
+    }
+
+    @Test
+    void clearDiscardsAllDurations() {
+        // Setup
+        timingHistogram.record(1000);
+
+        // Test
+        timingHistogram.clear();
+
+        // Verify
+        Assertions.assertEquals(0, timingHistogram.getCount());
+        Assertions.assertEquals(0, timingHistogram.getP99());
+    }
+
+    @Test
+    void invalidArgumentsAreRejected() {
+        // Test & Verify
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TimingHistogram(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> timingHistogram.getPercentile(1.5));
+    }
+}
@@ -0,0 +1,35 @@
+package nl.han.ica.yaeger.engine.entities;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EntityCollectionStatisticsTest {
+
+    private EntityCollectionStatistics sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new EntityCollectionStatistics();
+    }
+
+    @Test
+    void ratesAreMeasuredPerWindow() {
+        // Setup
+        sut.updateRates(0);
+        sut.recordSpawned(30);
+        sut.recordRemoved(10);
+
+        // Test
+        sut.updateRates(EntityCollectionStatistics.RATE_WINDOW_NANOS / 2);
+        var halfway = sut.getSpawnRate();
+        sut.updateRates(EntityCollectionStatistics.RATE_WINDOW_NANOS * 2);
+
+        // Verify
+        Assertions.assertEquals(0, halfway);
+        Assertions.assertEquals(15, sut.getSpawnRate(), 0.001);
+        Assertions.assertEquals(5, sut.getRemovalRate(), 0.001);
+        Assertions.assertEquals(30, sut.getSpawnedEntities());
+        Assertions.assertEquals(10, sut.getRemovedEntities());
+    }
+}
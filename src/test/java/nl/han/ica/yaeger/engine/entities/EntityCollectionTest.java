@@ -1,13 +1,19 @@
 package nl.han.ica.yaeger.engine.entities;
 
 import com.google.inject.Injector;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.scene.Group;
 import javafx.scene.Node;
 import javafx.scene.input.KeyCode;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
 import nl.han.ica.yaeger.engine.debug.Debugger;
+import nl.han.ica.yaeger.engine.debug.jfr.TickEvent;
 import nl.han.ica.yaeger.engine.userinput.KeyListener;
 import nl.han.ica.yaeger.engine.entities.entity.Entity;
+import nl.han.ica.yaeger.engine.entities.entity.Poolable;
 import nl.han.ica.yaeger.engine.entities.entity.Position;
 import nl.han.ica.yaeger.engine.entities.entity.Updatable;
 import org.junit.jupiter.api.Assertions;
@@ -15,6 +21,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.nio.file.Files;
 import java.util.*;
 
 import static org.mockito.Mockito.*;
@@ -68,6 +75,7 @@ class EntityCollectionTest {
         // Setup
         UpdatableEntity updatableEntity = mock(UpdatableEntity.class);
         Node node = mock(Node.class);
+        when(node.getProperties()).thenReturn(FXCollections.observableHashMap());
         when(updatableEntity.getGameNode()).thenReturn(node);
 
         Set<Entity> updatables = new HashSet<>();
@@ -96,6 +104,7 @@ class EntityCollectionTest {
         // Setup
         KeyListeningEntity keyListeningEntity = mock(KeyListeningEntity.class);
         Node node = mock(Node.class);
+        when(node.getProperties()).thenReturn(FXCollections.observableHashMap());
         when(keyListeningEntity.getGameNode()).thenReturn(node);
 
         Group group = mock(Group.class);
@@ -123,6 +132,7 @@ class EntityCollectionTest {
         // Setup
         KeyListeningEntity keyListeningEntity = mock(KeyListeningEntity.class);
         Node node = mock(Node.class);
+        when(node.getProperties()).thenReturn(FXCollections.observableHashMap());
         when(keyListeningEntity.getGameNode()).thenReturn(node);
 
         Group group = mock(Group.class);
@@ -150,6 +160,267 @@ class EntityCollectionTest {
         // Verify
         verify(keyListeningEntity).onPressedKeysChange(keycodes);
     }
+
+    @Test
+    void updateRecordsTheDurationOfEachPhase() {
+        // Setup
+        Group group = mock(Group.class);
+        entityCollection = new EntityCollection(group);
+
+        // Test
+        entityCollection.update(0);
+        entityCollection.update(1);
+
+        // Verify
+        for (var phase : UpdatePhase.values()) {
+            Assertions.assertEquals(2, entityCollection.getStatistics().getTiming(phase).getCount());
+        }
+    }
+
+    @Test
+    void renderRecordsTheTimeBetweenFrames() {
+        // Setup
+        Group group = mock(Group.class);
+        entityCollection = new EntityCollection(group);
+
+        // Test
+        entityCollection.render(0, 1);
+        entityCollection.render(10, 1);
+        entityCollection.render(30, 1);
+
+        // Verify
+        Assertions.assertEquals(2, entityCollection.getStatistics().getFrameTimes().getCount());
+        Assertions.assertEquals(20, entityCollection.getStatistics().getFrameTimes().getLast());
+    }
+
+    @Test
+    void clearStopsTheSimulationThread() {
+        // Setup
+        Group group = mock(Group.class);
+        entityCollection = new EntityCollection(group);
+        entityCollection.setSimulationThreadEnabled(true);
+        var enabledBeforeClear = entityCollection.isSimulationThreadEnabled();
+
+        // Test
+        entityCollection.clear();
+
+        // Verify
+        Assertions.assertTrue(enabledBeforeClear);
+        Assertions.assertFalse(entityCollection.isSimulationThreadEnabled());
+    }
+
+    @Test
+    void removedPoolableIsReturnedToItsSpawnerAndItsNodeIsReused() {
+        // Setup
+        var group = new Group();
+        var spawner = new PoolingEntitySpawner();
+        var poolable = new PoolableEntity();
+        spawner.spawn(poolable);
+
+        entityCollection = new EntityCollection(group);
+        entityCollection.init(injector);
+        entityCollection.registerSupplier(spawner);
+        entityCollection.update(0);
+
+        // Test
+        poolable.remove();
+        entityCollection.update(1);
+        var hiddenInGroup = group.getChildren().contains(poolable.node) && !poolable.node.isVisible();
+        var acquired = spawner.acquire(PoolableEntity.class, PoolableEntity::new);
+        spawner.spawn(acquired);
+        entityCollection.update(2);
+
+        // Verify
+        Assertions.assertTrue(hiddenInGroup);
+        Assertions.assertSame(poolable, acquired);
+        Assertions.assertTrue(poolable.node.isVisible());
+        Assertions.assertEquals(1, group.getChildren().size());
+        Assertions.assertEquals(1, poolable.initialized);
+        verify(injector, times(1)).injectMembers(poolable);
+    }
+
+    @Test
+    void removedPoolableIsRemovedFromTheGroupWhenThePoolIsFull() {
+        // Setup
+        var group = new Group();
+        var spawner = new PoolingEntitySpawner();
+        spawner.setMaxPoolSize(0);
+        var poolable = new PoolableEntity();
+        spawner.spawn(poolable);
+
+        entityCollection = new EntityCollection(group);
+        entityCollection.init(injector);
+        entityCollection.registerSupplier(spawner);
+        entityCollection.update(0);
+
+        // Test
+        poolable.remove();
+        entityCollection.update(1);
+
+        // Verify
+        Assertions.assertTrue(group.getChildren().isEmpty());
+        Assertions.assertEquals(0, spawner.getPoolSize(PoolableEntity.class));
+    }
+
+    @Test
+    void parkedNodesAreRemovedFromTheGroupWhenTheSpawnerIsDestroyed() {
+        // Setup
+        var group = new Group();
+        var spawner = new PoolingEntitySpawner();
+        var poolable = new PoolableEntity();
+        spawner.spawn(poolable);
+
+        entityCollection = new EntityCollection(group);
+        entityCollection.init(injector);
+        entityCollection.registerSupplier(spawner);
+        entityCollection.update(0);
+        poolable.remove();
+        entityCollection.update(1);
+
+        // Test
+        spawner.destroy();
+        entityCollection.update(2);
+
+        // Verify
+        Assertions.assertTrue(group.getChildren().isEmpty());
+    }
+
+    @Test
+    void clearRemovesParkedNodesFromTheGroup() {
+        // Setup
+        var group = new Group();
+        var spawner = new PoolingEntitySpawner();
+        var poolable = new PoolableEntity();
+        spawner.spawn(poolable);
+
+        entityCollection = new EntityCollection(group);
+        entityCollection.init(injector);
+        entityCollection.registerSupplier(spawner);
+        entityCollection.update(0);
+        poolable.remove();
+        entityCollection.update(1);
+
+        // Test
+        entityCollection.clear();
+
+        // Verify
+        Assertions.assertTrue(group.getChildren().isEmpty());
+        Assertions.assertEquals(0, spawner.getPoolSize(PoolableEntity.class));
+    }
+
+    @Test
+    void spawnedAndRemovedNodesAreChangedInBulk() {
+        // Setup
+        var group = new Group();
+        List<Integer> changes = new ArrayList<>();
+        group.getChildren().addListener((ListChangeListener<Node>) change -> changes.add(group.getChildren().size()));
+
+        var supplier = new EntitySupplier();
+        List<RemovableEntity> entities = new ArrayList<>();
+        for (var i = 0; i < 3; i++) {
+            var entity = new RemovableEntity();
+            entities.add(entity);
+            supplier.add(entity);
+        }
+
+        entityCollection = new EntityCollection(group);
+        entityCollection.init(injector);
+        entityCollection.registerSupplier(supplier);
+
+        // Test
+        entityCollection.update(0);
+        entities.get(0).remove();
+        entities.get(2).remove();
+        entityCollection.update(1);
+
+        // Verify
+        Assertions.assertEquals(List.of(3, 1), changes);
+        Assertions.assertEquals(List.of(entities.get(1).getGameNode()), group.getChildren());
+    }
+
+    @Test
+    void removedEntityIsCollectedWithoutAnEventHandler() {
+        // Setup
+        var group = new Group();
+        var supplier = new EntitySupplier();
+        var entity = new RemovableEntity();
+        supplier.add(entity);
+
+        entityCollection = new EntityCollection(group);
+        entityCollection.init(injector);
+        entityCollection.registerSupplier(supplier);
+        entityCollection.update(0);
+
+        // Test
+        entity.remove();
+        entityCollection.update(1);
+
+        // Verify
+        Assertions.assertTrue(group.getChildren().isEmpty());
+        Assertions.assertEquals(1, entityCollection.getStatistics().getRemovedEntities());
+    }
+
+    @Test
+    void registeredSpawnerIsTickedDuringUpdate() {
+        // Setup
+        Group group = mock(Group.class);
+        var spawner = mock(PoolingEntitySpawner.class, withSettings().useConstructor().defaultAnswer(CALLS_REAL_METHODS));
+        entityCollection = new EntityCollection(group);
+        entityCollection.registerSupplier(spawner);
+
+        // Test
+        entityCollection.update(0);
+        entityCollection.update(999_000_000L);
+        entityCollection.update(1_000_000_000L);
+
+        // Verify
+        verify(spawner, times(2)).tick();
+    }
+
+    @Test
+    void equalButDistinctSpawnersAreBothCollected() {
+        // Setup
+        var group = new Group();
+        var first = new PoolingEntitySpawner();
+        var second = new PoolingEntitySpawner();
+        var equalBeforeSpawning = first.equals(second);
+        entityCollection = new EntityCollection(group);
+        entityCollection.init(injector);
+        entityCollection.registerSupplier(first);
+        entityCollection.registerSupplier(second);
+
+        // Test
+        first.spawn(new RemovableEntity());
+        second.spawn(new RemovableEntity());
+        entityCollection.update(0);
+
+        // Verify
+        Assertions.assertTrue(equalBeforeSpawning);
+        Assertions.assertEquals(2, group.getChildren().size());
+    }
+
+    @Test
+    void updateEmitsATickEventWhenItIsEnabled() throws Exception {
+        // Setup
+        Group group = mock(Group.class);
+        entityCollection = new EntityCollection(group);
+        var file = Files.createTempFile("yaeger", ".jfr");
+
+        // Test
+        try (var recording = new Recording()) {
+            recording.enable(TickEvent.class);
+            recording.start();
+            entityCollection.update(42);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Verify
+        var events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertEquals(42, events.get(0).getLong("simulationTime"));
+    }
 }
 
 class UpdatableEntity implements Entity, Updatable {
@@ -207,3 +478,71 @@ class KeyListeningEntity implements Entity, KeyListener {
         // Not required here.
     }
 }
+
+class PoolingEntitySpawner extends EntitySpawner {
+
+    PoolingEntitySpawner() {
+        super(1000);
+    }
+
+    @Override
+    public void tick() {
+        // Not required here.
+    }
+}
+
+class PoolableEntity implements Poolable {
+
+    final Node node = new Group();
+    int initialized;
+
+    @Override
+    public void reset() {
+        // Not required here.
+    }
+
+    @Override
+    public void remove() {
+        notifyRemove();
+    }
+
+    @Override
+    public Node getGameNode() {
+        return node;
+    }
+
+    @Override
+    public Position getPosition() {
+        return null;
+    }
+
+    @Override
+    public void init(Injector injector) {
+        initialized++;
+    }
+}
+
+class RemovableEntity implements Entity {
+
+    private final Node node = new Group();
+
+    @Override
+    public void remove() {
+        notifyRemove();
+    }
+
+    @Override
+    public Node getGameNode() {
+        return node;
+    }
+
+    @Override
+    public Position getPosition() {
+        return null;
+    }
+
+    @Override
+    public void init(Injector injector) {
+        // Not required here.
+    }
+}
@@ -3,11 +3,15 @@ package nl.han.ica.yaeger.engine.entities;
 import com.google.inject.Injector;
 import javafx.scene.Node;
 import nl.han.ica.yaeger.engine.entities.entity.Entity;
+import nl.han.ica.yaeger.engine.entities.entity.Poolable;
 import nl.han.ica.yaeger.engine.entities.entity.Position;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class EntitySpawnerTest {
@@ -109,6 +113,116 @@ class EntitySpawnerTest {
         Assertions.assertNotEquals(entitySpawner.hashCode(), otherEntitySpawner.hashCode());
     }
 
+    @Test
+    void acquireCreatesANewInstanceWhenThePoolIsEmpty() {
+        // Setup
+        var created = new TestPoolable();
+
+        // Test
+        var acquired = entitySpawner.acquire(TestPoolable.class, () -> created);
+
+        // Verify
+        Assertions.assertSame(created, acquired);
+        Assertions.assertFalse(created.reset);
+    }
+
+    @Test
+    void acquireResetsAndReturnsAReleasedInstance() {
+        // Setup
+        var released = new TestPoolable();
+        entitySpawner.release(released);
+
+        // Test
+        var acquired = entitySpawner.acquire(TestPoolable.class, TestPoolable::new);
+
+        // Verify
+        Assertions.assertSame(released, acquired);
+        Assertions.assertTrue(released.reset);
+        Assertions.assertEquals(0, entitySpawner.getPoolSize(TestPoolable.class));
+    }
+
+    @Test
+    void destroyClearsThePools() {
+        // Setup
+        entitySpawner.release(new TestPoolable());
+
+        // Test
+        entitySpawner.destroy();
+
+        // Verify
+        Assertions.assertEquals(0, entitySpawner.getPoolSize(TestPoolable.class));
+    }
+
+    @Test
+    void acquireRejectsAFactoryThatCreatesASubtype() {
+        // Setup
+
+        // Test
+
+        // Verify
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> entitySpawner.acquire(Poolable.class, TestPoolable::new));
+    }
+
+    @Test
+    void releaseIsRejectedWhenThePoolIsFull() {
+        // Setup
+        entitySpawner.setMaxPoolSize(1);
+        entitySpawner.release(new TestPoolable());
+
+        // Test
+        var released = entitySpawner.release(new TestPoolable());
+
+        // Verify
+        Assertions.assertFalse(released);
+        Assertions.assertEquals(1, entitySpawner.getPoolSize(TestPoolable.class));
+    }
+
+    @Test
+    void setMaxPoolSizeDiscardsTheExcessInstances() {
+        // Setup
+        var first = new TestPoolable();
+        var second = new TestPoolable();
+        entitySpawner.release(first);
+        entitySpawner.release(second);
+        List<Poolable> discarded = new ArrayList<>();
+
+        // Test
+        entitySpawner.setMaxPoolSize(1);
+        entitySpawner.takeDiscarded(discarded::add);
+
+        // Verify
+        Assertions.assertEquals(List.of(first), discarded);
+        Assertions.assertEquals(1, entitySpawner.getPoolSize(TestPoolable.class));
+    }
+
+    @Test
+    void setMaxPoolSizeRejectsANegativeSize() {
+        // Setup
+
+        // Test
+
+        // Verify
+        Assertions.assertThrows(IllegalArgumentException.class, () -> entitySpawner.setMaxPoolSize(-1));
+    }
+
+    @Test
+    void destroyDiscardsThePooledInstancesAndRejectsNewReleases() {
+        // Setup
+        var pooled = new TestPoolable();
+        entitySpawner.release(pooled);
+        List<Poolable> discarded = new ArrayList<>();
+
+        // Test
+        entitySpawner.destroy();
+        entitySpawner.takeDiscarded(discarded::add);
+        var released = entitySpawner.release(new TestPoolable());
+
+        // Verify
+        Assertions.assertEquals(List.of(pooled), discarded);
+        Assertions.assertFalse(released);
+    }
+
     private class TestEntitySpawner extends EntitySpawner {
 
         TestEntitySpawner(long interval) {
@@ -142,4 +256,34 @@ class EntitySpawnerTest {
             // Not required here.
         }
     }
+
+    private static class TestPoolable implements Poolable {
+
+        private boolean reset;
+
+        @Override
+        public void reset() {
+            reset = true;
+        }
+
+        @Override
+        public void remove() {
+            // Not required here.
+        }
+
+        @Override
+        public Node getGameNode() {
+            return null;
+        }
+
+        @Override
+        public Position getPosition() {
+            return null;
+        }
+
+        @Override
+        public void init(Injector injector) {
+            // Not required here.
+        }
+    }
 }
@@ -0,0 +1,345 @@
+package nl.han.ica.yaeger.engine.entities;
+
+import javafx.collections.ObservableList;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class EntityStoreTest {
+
+    private ObservableList<Node> children;
+    private EntityStore entityStore;
+
+    @BeforeEach
+    void setup() {
+        Group group = mock(Group.class);
+        children = mock(ObservableList.class);
+        when(group.getChildren()).thenReturn(children);
+
+        entityStore = new EntityStore(group);
+    }
+
+    @Test
+    void newInstanceIsEmpty() {
+        // Verify
+        Assertions.assertEquals(0, entityStore.size());
+        Assertions.assertFalse(entityStore.isAlive(0));
+    }
+
+    @Test
+    void createdEntityCanBeFoundById() {
+        // Test
+        var id = entityStore.create(10, 20, 5, 6, null);
+
+        // Verify
+        var index = entityStore.indexOf(id);
+        Assertions.assertEquals(1, entityStore.size());
+        Assertions.assertEquals(10, entityStore.getX(index));
+        Assertions.assertEquals(20, entityStore.getY(index));
+        Assertions.assertEquals(5, entityStore.getWidth(index));
+        Assertions.assertEquals(6, entityStore.getHeight(index));
+    }
+
+    @Test
+    void destroyKeepsTheRemainingEntitiesDense() {
+        // Setup
+        var first = entityStore.create(1, 0, 1, 1, null);
+        var second = entityStore.create(2, 0, 1, 1, null);
+        var third = entityStore.create(3, 0, 1, 1, null);
+
+        // Test
+        entityStore.destroy(first);
+
+        // Verify
+        Assertions.assertEquals(2, entityStore.size());
+        Assertions.assertFalse(entityStore.isAlive(first));
+        Assertions.assertEquals(2, entityStore.getX(entityStore.indexOf(second)));
+        Assertions.assertEquals(3, entityStore.getX(entityStore.indexOf(third)));
+        Assertions.assertEquals(third, entityStore.getId(entityStore.indexOf(third)));
+    }
+
+    @Test
+    void idOfADestroyedEntityDoesNotReferToTheEntityThatReusesItsSlot() {
+        // Setup
+        var id = entityStore.create(0, 0, 1, 1, null);
+        entityStore.destroy(id);
+
+        // Test
+        var reused = entityStore.create(0, 0, 1, 1, null);
+
+        // Verify
+        Assertions.assertNotEquals(id, reused);
+        Assertions.assertFalse(entityStore.isAlive(id));
+        Assertions.assertTrue(entityStore.isAlive(reused));
+    }
+
+    @Test
+    void idsAreNotReusedAfterClear() {
+        // Setup
+        var id = entityStore.create(0, 0, 1, 1, null);
+        entityStore.clear();
+
+        // Test
+        var created = entityStore.create(0, 0, 1, 1, null);
+
+        // Verify
+        Assertions.assertNotEquals(id, created);
+        Assertions.assertFalse(entityStore.isAlive(id));
+        Assertions.assertEquals(0, entityStore.indexOf(created));
+    }
+
+    @Test
+    void destroyingAnUnknownIdIsRejected() {
+        // Test & Verify
+        Assertions.assertThrows(IllegalArgumentException.class, () -> entityStore.destroy(42));
+    }
+
+    @Test
+    void updateCallsUpdatersAndAppliesVelocity() {
+        // Setup
+        var id = entityStore.create(10, 10, 1, 1, null);
+        entityStore.addUpdater((store, timestamp) -> store.setVelocity(store.indexOf(id), 2, -3));
+
+        // Test
+        entityStore.update(0);
+
+        // Verify
+        var index = entityStore.indexOf(id);
+        Assertions.assertEquals(12, entityStore.getX(index));
+        Assertions.assertEquals(7, entityStore.getY(index));
+    }
+
+    @Test
+    void storeGrowsBeyondItsInitialCapacity() {
+        // Setup
+        List<Integer> ids = new ArrayList<>();
+
+        // Test
+        for (var i = 0; i < 1000; i++) {
+            ids.add(entityStore.create(i, 0, 1, 1, null));
+        }
+
+        // Verify
+        Assertions.assertEquals(1000, entityStore.size());
+        Assertions.assertEquals(999, entityStore.getX(entityStore.indexOf(ids.get(999))));
+    }
+
+    @Test
+    void queryReturnsIntersectingEntities() {
+        // Setup
+        var near = entityStore.create(10, 10, 5, 5, null);
+        entityStore.create(100, 100, 5, 5, null);
+        List<Integer> result = new ArrayList<>();
+
+        // Test
+        entityStore.query(12, 12, 20, 20, result::add);
+
+        // Verify
+        Assertions.assertEquals(List.of(entityStore.indexOf(near)), result);
+    }
+
+    @Test
+    void queryReturnsAnEntityThatSpansMultipleCellsOnce() {
+        // Setup
+        var large = entityStore.create(0, 0, 100, 100, null);
+        List<Integer> result = new ArrayList<>();
+
+        // Test
+        entityStore.query(0, 0, 100, 100, result::add);
+
+        // Verify
+        Assertions.assertEquals(List.of(entityStore.indexOf(large)), result);
+    }
+
+    @Test
+    void queryFindsAnEntityAtItsNewPosition() {
+        // Setup
+        var id = entityStore.create(10, 10, 5, 5, null);
+        entityStore.query(0, 0, 20, 20, index -> {
+        });
+        entityStore.setPosition(entityStore.indexOf(id), 200, 200);
+        List<Integer> before = new ArrayList<>();
+        List<Integer> after = new ArrayList<>();
+
+        // Test
+        entityStore.query(0, 0, 20, 20, before::add);
+        entityStore.query(195, 195, 210, 210, after::add);
+
+        // Verify
+        Assertions.assertTrue(before.isEmpty());
+        Assertions.assertEquals(List.of(entityStore.indexOf(id)), after);
+    }
+
+    @Test
+    void forEachCollisionReportsEachIntersectingPairOnce() {
+        // Setup
+        entityStore.setCellSize(10);
+        var first = entityStore.create(0, 0, 30, 30, null);
+        var second = entityStore.create(25, 25, 30, 30, null);
+        entityStore.create(100, 100, 5, 5, null);
+        List<List<Integer>> pairs = new ArrayList<>();
+
+        // Test
+        entityStore.forEachCollision((store, index, otherIndex) ->
+                pairs.add(List.of(store.getId(index), store.getId(otherIndex))));
+
+        // Verify
+        Assertions.assertEquals(List.of(List.of(first, second)), pairs);
+    }
+
+    @Test
+    void nonPositiveCellSizeIsRejected() {
+        // Test & Verify
+        Assertions.assertThrows(IllegalArgumentException.class, () -> entityStore.setCellSize(0));
+    }
+
+    @Test
+    void syncAddsNodesInBulkAndRelocatesMovedNodes() {
+        // Setup
+        Node node = mock(Node.class);
+        List<List<Node>> added = new ArrayList<>();
+        doAnswer(invocation -> added.add(new ArrayList<>(invocation.getArgument(0))))
+                .when(children).addAll(anyCollection());
+        entityStore.create(10, 20, 5, 5, node);
+
+        // Test
+        entityStore.sync();
+        entityStore.sync();
+
+        // Verify
+        Assertions.assertEquals(List.of(List.of(node)), added);
+        verify(node, times(1)).setLayoutX(10);
+        verify(node, times(1)).setLayoutY(20);
+    }
+
+    @Test
+    void relocateInterpolatesBetweenThePreviousAndTheCurrentPosition() {
+        // Setup
+        Node node = mock(Node.class);
+        var id = entityStore.create(10, 20, 5, 5, node);
+        entityStore.setVelocity(entityStore.indexOf(id), 4, 0);
+        entityStore.sync();
+        entityStore.update(0);
+
+        // Test
+        entityStore.relocate(0.25);
+        entityStore.relocate(0.75);
+
+        // Verify
+        verify(node).setLayoutX(11);
+        verify(node).setLayoutX(13);
+    }
+
+    @Test
+    void entityThatStopsIsRelocatedToItsFinalPosition() {
+        // Setup
+        Node node = mock(Node.class);
+        var id = entityStore.create(10, 20, 5, 5, node);
+        entityStore.setVelocity(entityStore.indexOf(id), 4, 0);
+        entityStore.sync();
+        entityStore.update(0);
+        entityStore.relocate(0.5);
+        entityStore.setVelocity(entityStore.indexOf(id), 0, 0);
+        entityStore.update(1);
+
+        // Test
+        entityStore.relocate(0.5);
+        entityStore.relocate(0.5);
+
+        // Verify
+        verify(node).setLayoutX(12);
+        verify(node, times(1)).setLayoutX(14);
+    }
+
+    @Test
+    void syncRemovesNodesOfDestroyedEntities() {
+        // Setup
+        Node node = mock(Node.class);
+        List<List<Node>> removed = new ArrayList<>();
+        doAnswer(invocation -> removed.add(new ArrayList<>(invocation.getArgument(0))))
+                .when(children).removeAll(anyCollection());
+        var id = entityStore.create(10, 20, 5, 5, node);
+        entityStore.sync();
+
+        // Test
+        entityStore.destroy(id);
+        entityStore.sync();
+
+        // Verify
+        Assertions.assertEquals(List.of(List.of(node)), removed);
+    }
+
+    @Test
+    void nodesOfEntitiesDestroyedBeforeSyncAreNeverAdded() {
+        // Setup
+        Node first = mock(Node.class);
+        Node second = mock(Node.class);
+        Node third = mock(Node.class);
+        List<List<Node>> added = new ArrayList<>();
+        doAnswer(invocation -> added.add(new ArrayList<>(invocation.getArgument(0))))
+                .when(children).addAll(anyCollection());
+        entityStore.create(0, 0, 1, 1, first);
+        var id = entityStore.create(0, 0, 1, 1, second);
+        entityStore.create(0, 0, 1, 1, third);
+
+        // Test
+        entityStore.destroy(id);
+        entityStore.sync();
+
+        // Verify
+        Assertions.assertEquals(List.of(List.of(first, third)), added);
+        verify(children, never()).removeAll(anyCollection());
+    }
+
+    @Test
+    void submittedCommandIsPerformedImmediatelyWithoutOwner() {
+        // Setup
+        List<Integer> ids = new ArrayList<>();
+
+        // Test
+        entityStore.submit(store -> ids.add(store.create(0, 0, 1, 1, null)));
+
+        // Verify
+        Assertions.assertEquals(1, entityStore.size());
+        Assertions.assertEquals(1, ids.size());
+    }
+
+    @Test
+    void submittedCommandIsQueuedUntilTheOwnerRunsTheCommands() {
+        // Setup
+        entityStore.setOwner(new Thread(() -> {
+        }));
+
+        // Test
+        entityStore.submit(store -> store.create(0, 0, 1, 1, null));
+        var sizeBeforeRun = entityStore.size();
+        entityStore.setOwner(null);
+        entityStore.runCommands();
+
+        // Verify
+        Assertions.assertEquals(0, sizeBeforeRun);
+        Assertions.assertEquals(1, entityStore.size());
+    }
+
+    @Test
+    void changesFromAnotherThreadThanTheOwnerAreRejected() {
+        // Setup
+        var id = entityStore.create(0, 0, 1, 1, null);
+        entityStore.setOwner(new Thread(() -> {
+        }));
+
+        // Test & Verify
+        Assertions.assertThrows(IllegalStateException.class, () -> entityStore.create(0, 0, 1, 1, null));
+        Assertions.assertThrows(IllegalStateException.class, () -> entityStore.destroy(id));
+        Assertions.assertThrows(IllegalStateException.class, () -> entityStore.addUpdater((store, now) -> {
+        }));
+    }
+}
@@ -0,0 +1,131 @@
+package nl.han.ica.yaeger.engine.entities;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SpawnerSchedulerTest {
+
+    private static final long MILLI = 1_000_000L;
+
+    private SpawnerScheduler sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new SpawnerScheduler();
+    }
+
+    @Test
+    void spawnerIsTickedOnTheFirstRunAndOnceEveryInterval() {
+        // Setup
+        var spawner = new CountingSpawner(100);
+        sut.add(spawner);
+
+        // Test
+        sut.run(0);
+        var afterFirstRun = spawner.ticks;
+        sut.run(99 * MILLI);
+        var beforeInterval = spawner.ticks;
+        sut.run(100 * MILLI);
+        sut.run(150 * MILLI);
+        sut.run(200 * MILLI);
+
+        // Verify
+        Assertions.assertEquals(1, afterFirstRun);
+        Assertions.assertEquals(1, beforeInterval);
+        Assertions.assertEquals(3, spawner.ticks);
+    }
+
+    @Test
+    void spawnersAreTickedAtTheirOwnInterval() {
+        // Setup
+        var fast = new CountingSpawner(10);
+        var slow = new CountingSpawner(100);
+        sut.add(fast);
+        sut.add(slow);
+        sut.run(0);
+        fast.ticks = 0;
+        slow.ticks = 0;
+
+        // Test
+        for (var now = 10 * MILLI; now <= 100 * MILLI; now += 10 * MILLI) {
+            sut.run(now);
+        }
+
+        // Verify
+        Assertions.assertEquals(10, fast.ticks);
+        Assertions.assertEquals(1, slow.ticks);
+    }
+
+    @Test
+    void spawnerThatFellBehindIsTickedOnlyOnce() {
+        // Setup
+        var spawner = new CountingSpawner(10);
+        sut.add(spawner);
+        sut.run(0);
+        spawner.ticks = 0;
+
+        // Test
+        sut.run(1000 * MILLI);
+        sut.run(1005 * MILLI);
+
+        // Verify
+        Assertions.assertEquals(1, spawner.ticks);
+    }
+
+    @Test
+    void destroyedSpawnerIsRemoved() {
+        // Setup
+        var spawner = new CountingSpawner(10);
+        sut.add(spawner);
+
+        // Test
+        spawner.destroy();
+        sut.run(0);
+
+        // Verify
+        Assertions.assertEquals(0, spawner.ticks);
+        Assertions.assertEquals(0, sut.size());
+    }
+
+    @Test
+    void spawnerThatIsAddedTwiceIsScheduledOnce() {
+        // Setup
+        var spawner = new CountingSpawner(10);
+
+        // Test
+        sut.add(spawner);
+        sut.add(spawner);
+        sut.run(0);
+
+        // Verify
+        Assertions.assertEquals(1, spawner.ticks);
+        Assertions.assertEquals(1, sut.size());
+    }
+
+    @Test
+    void clearRemovesAllSpawners() {
+        // Setup
+        sut.add(new CountingSpawner(10));
+
+        // Test
+        sut.clear();
+
+        // Verify
+        Assertions.assertEquals(0, sut.size());
+    }
+
+    private static class CountingSpawner extends EntitySpawner {
+
+        private int ticks;
+
+        CountingSpawner(long interval) {
+            super(interval);
+        }
+
+        @Override
+        public void tick() {
+            ticks++;
+        }
+    }
+}
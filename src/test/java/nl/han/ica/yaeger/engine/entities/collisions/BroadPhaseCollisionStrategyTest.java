@@ -0,0 +1,537 @@
+package nl.han.ica.yaeger.engine.entities.collisions;
+
+import javafx.geometry.BoundingBox;
+import javafx.scene.Group;
+import javafx.scene.shape.Rectangle;
+import nl.han.ica.yaeger.engine.entities.entity.Entity;
+import nl.han.ica.yaeger.engine.entities.entity.Updatable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class BroadPhaseCollisionStrategyTest {
+
+    private BroadPhaseCollisionStrategy collisionStrategy;
+
+    @BeforeEach
+    void setup() {
+        collisionStrategy = new AllPairsCollisionStrategy();
+    }
+
+    @Test
+    void boundsAreRequestedOncePerCheck() {
+        // Setup
+        Collidable collidable = mock(Collidable.class, CALLS_REAL_METHODS);
+        when(collidable.getBounds()).thenReturn(new BoundingBox(10, 10, 20, 20));
+        Collider collider = mock(Collider.class, CALLS_REAL_METHODS);
+        when(collider.getBounds()).thenReturn(new BoundingBox(15, 15, 20, 20));
+
+        collisionStrategy.register((Collider) collidable);
+        collisionStrategy.register((Collided) collidable);
+        collisionStrategy.register(collider);
+
+        // Test
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        verify(collidable, times(1)).getBounds();
+        verify(collider, times(1)).getBounds();
+    }
+
+    @Test
+    void onlyTheFirstRegisteredIntersectingColliderIsReported() {
+        // Setup
+        Collided collided = mock(Collided.class, CALLS_REAL_METHODS);
+        when(collided.getBounds()).thenReturn(new BoundingBox(50, 50, 25, 25));
+        Collider bottomCollider = () -> new BoundingBox(55, 49, 10, 2);
+        Collider leftCollider = () -> new BoundingBox(49, 55, 2, 10);
+
+        collisionStrategy.register(bottomCollider);
+        collisionStrategy.register(collided);
+        collisionStrategy.register(leftCollider);
+
+        // Test
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        verify(collided, times(1)).onCollision(any(), any());
+        verify(collided).onCollision(bottomCollider, CollisionSide.BOTTOM);
+    }
+
+    @Test
+    void collisionSideIsResolvedFromCachedBounds() {
+        // Setup
+        Collided collided = mock(Collided.class, CALLS_REAL_METHODS);
+        when(collided.getBounds()).thenReturn(new BoundingBox(50, 50, 25, 25));
+        Collider rightCollider = () -> new BoundingBox(74, 55, 2, 10);
+
+        collisionStrategy.register(collided);
+        collisionStrategy.register(rightCollider);
+
+        // Test
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        verify(collided).onCollision(rightCollider, CollisionSide.RIGHT);
+    }
+
+    @Test
+    void pairsOutsideTheCollisionMaskAreCulled() {
+        // Setup
+        Collided collided = mock(Collided.class, CALLS_REAL_METHODS);
+        when(collided.getBounds()).thenReturn(new BoundingBox(50, 50, 25, 25));
+        when(collided.getCollisionMask()).thenReturn(0b10);
+        Collider maskedCollider = mock(Collider.class, CALLS_REAL_METHODS);
+        when(maskedCollider.getCollisionCategory()).thenReturn(0b01);
+        when(maskedCollider.getBounds()).thenReturn(new BoundingBox(55, 49, 10, 2));
+        Collider acceptedCollider = mock(Collider.class, CALLS_REAL_METHODS);
+        when(acceptedCollider.getCollisionCategory()).thenReturn(0b11);
+        when(acceptedCollider.getBounds()).thenReturn(new BoundingBox(49, 55, 2, 10));
+
+        collisionStrategy.register(maskedCollider);
+        collisionStrategy.register(acceptedCollider);
+        collisionStrategy.register(collided);
+
+        // Test
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        verify(collided, times(1)).onCollision(any(), any());
+        verify(collided).onCollision(acceptedCollider, CollisionSide.LEFT);
+    }
+
+    @Test
+    void emptyBoundsNeverCollide() {
+        // Setup
+        Collided collided = mock(Collided.class, CALLS_REAL_METHODS);
+        when(collided.getBounds()).thenReturn(new BoundingBox(50, 50, 25, 25));
+        Collider emptyCollider = () -> new BoundingBox(55, 55, -1, -1);
+
+        collisionStrategy.register(collided);
+        collisionStrategy.register(emptyCollider);
+
+        // Test
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        verify(collided, never()).onCollision(any(), any());
+    }
+
+    @Test
+    void remainingBodiesAreStillCheckedAfterARemoval() {
+        // Setup
+        Collider removedCollider = () -> new BoundingBox(0, 0, 5, 5);
+        Collided collided = mock(Collided.class, CALLS_REAL_METHODS);
+        when(collided.getBounds()).thenReturn(new BoundingBox(50, 50, 25, 25));
+        Collider collider = () -> new BoundingBox(55, 49, 10, 2);
+
+        collisionStrategy.register(removedCollider);
+        collisionStrategy.register(collided);
+        collisionStrategy.register(collider);
+
+        // Test
+        collisionStrategy.remove(removedCollider);
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        verify(collided).onCollision(collider, CollisionSide.BOTTOM);
+    }
+
+    @Test
+    void batchedCollidedReceivesAllContactsInRegistrationOrder() {
+        // Setup
+        BatchedCollided collided = mock(BatchedCollided.class, CALLS_REAL_METHODS);
+        when(collided.getBounds()).thenReturn(new BoundingBox(50, 50, 25, 25));
+        Collider leftCollider = () -> new BoundingBox(49, 55, 2, 10);
+        Collider farCollider = () -> new BoundingBox(500, 500, 2, 10);
+        Collider bottomCollider = () -> new BoundingBox(55, 49, 10, 2);
+        List<List<String>> contacts = recordContacts(collided);
+
+        collisionStrategy.register(leftCollider);
+        collisionStrategy.register(farCollider);
+        collisionStrategy.register(collided);
+        collisionStrategy.register(bottomCollider);
+
+        // Test
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        Assertions.assertEquals(List.of(List.of(leftCollider + ":LEFT", bottomCollider + ":BOTTOM")), contacts);
+        verify(collided, never()).onCollision(any(), any());
+    }
+
+    @Test
+    void batchedCollidedIsNotNotifiedWithoutContacts() {
+        // Setup
+        BatchedCollided collided = mock(BatchedCollided.class, CALLS_REAL_METHODS);
+        when(collided.getBounds()).thenReturn(new BoundingBox(50, 50, 25, 25));
+        Collider farCollider = () -> new BoundingBox(500, 500, 2, 10);
+
+        collisionStrategy.register(collided);
+        collisionStrategy.register(farCollider);
+
+        // Test
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        verify(collided, never()).onCollisions(any());
+    }
+
+    @Test
+    void parallelIntersectionTestsGiveTheSameResultAsSequentialTests() {
+        // Setup
+        var forkJoinPool = new ForkJoinPool(4);
+        collisionStrategy.setForkJoinPool(forkJoinPool);
+        collisionStrategy.setParallelThreshold(1);
+
+        BatchedCollided batchedCollided = mock(BatchedCollided.class, CALLS_REAL_METHODS);
+        when(batchedCollided.getBounds()).thenReturn(new BoundingBox(0, 0, 100, 100));
+        Collided collided = mock(Collided.class, CALLS_REAL_METHODS);
+        when(collided.getBounds()).thenReturn(new BoundingBox(50, 50, 25, 25));
+        List<Collider> colliders = new ArrayList<>();
+        List<String> expectedContacts = new ArrayList<>();
+        for (var i = 0; i < 20; i++) {
+            var x = i * 10;
+            Collider collider = () -> new BoundingBox(x, 97, 5, 5);
+            colliders.add(collider);
+            collisionStrategy.register(collider);
+            if (x <= 100) {
+                expectedContacts.add(collider + ":TOP");
+            }
+        }
+        collisionStrategy.register(batchedCollided);
+        collisionStrategy.register(collided);
+        List<List<String>> contacts = recordContacts(batchedCollided);
+
+        // Test
+        collisionStrategy.checkCollisions();
+        forkJoinPool.shutdown();
+
+        // Verify
+        Assertions.assertEquals(List.of(expectedContacts), contacts);
+        verify(collided, never()).onCollision(any(), any());
+    }
+
+    @Test
+    void invalidParallelThresholdIsRejected() {
+        // Test & Verify
+        Assertions.assertThrows(IllegalArgumentException.class, () -> collisionStrategy.setParallelThreshold(0));
+    }
+
+    @Test
+    void staticBoundsAreOnlyRequestedAgainAfterInvalidation() {
+        // Setup
+        var testedStaticPairs = new int[1];
+        collisionStrategy = new AllPairsCollisionStrategy() {
+            @Override
+            protected void findStaticCandidatePairs(CollisionPairs pairs) {
+                testedStaticPairs[0]++;
+                super.findStaticCandidatePairs(pairs);
+            }
+        };
+        Collided collided = mockMovingCollided();
+        when(collided.getBounds()).thenReturn(new BoundingBox(50, 50, 25, 25));
+        Collider staticCollider = mock(Collider.class, CALLS_REAL_METHODS);
+        when(staticCollider.getBounds()).thenReturn(new BoundingBox(55, 49, 10, 2));
+
+        collisionStrategy.register(collided);
+        collisionStrategy.register(staticCollider);
+
+        // Test
+        collisionStrategy.checkCollisions();
+        collisionStrategy.checkCollisions();
+        collisionStrategy.invalidateStaticBodies();
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        Assertions.assertEquals(2, testedStaticPairs[0]);
+        verify(staticCollider, times(2)).getBounds();
+        verify(collided, times(3)).getBounds();
+        verify(collided, times(3)).onCollision(staticCollider, CollisionSide.BOTTOM);
+    }
+
+    @Test
+    void staticBodyThatIsMarkedAsMovedIsRefreshed() {
+        // Setup
+        Collided staticCollided = mock(Collided.class, CALLS_REAL_METHODS);
+        when(staticCollided.getBounds()).thenReturn(new BoundingBox(50, 50, 25, 25));
+        Collider staticCollider = mock(Collider.class, CALLS_REAL_METHODS);
+        when(staticCollider.getBounds()).thenReturn(new BoundingBox(0, 0, 10, 10));
+
+        collisionStrategy.register(staticCollided);
+        collisionStrategy.register(staticCollider);
+        collisionStrategy.checkCollisions();
+
+        // Test
+        when(staticCollider.getBounds()).thenReturn(new BoundingBox(55, 49, 10, 2));
+        collisionStrategy.markMoved(staticCollider);
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        verify(staticCollided, times(1)).onCollision(staticCollider, CollisionSide.BOTTOM);
+    }
+
+    @Test
+    void staticHitsAreDroppedWhenAStaticBodyMovesAway() {
+        // Setup
+        Collided staticCollided = mock(Collided.class, CALLS_REAL_METHODS);
+        when(staticCollided.getBounds()).thenReturn(new BoundingBox(50, 50, 25, 25));
+        Collider staticCollider = mock(Collider.class, CALLS_REAL_METHODS);
+        when(staticCollider.getBounds()).thenReturn(new BoundingBox(55, 49, 10, 2));
+
+        collisionStrategy.register(staticCollided);
+        collisionStrategy.register(staticCollider);
+        collisionStrategy.checkCollisions();
+
+        // Test
+        when(staticCollider.getBounds()).thenReturn(new BoundingBox(0, 0, 10, 10));
+        collisionStrategy.markMoved(staticCollider);
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        verify(staticCollided, times(1)).onCollision(any(), any());
+    }
+
+    @Test
+    void onlyThePairsOfAMovedStaticBodyAreRecomputed() {
+        // Setup
+        var testedStaticPairs = new int[1];
+        List<CollisionBody> refreshed = new ArrayList<>();
+        collisionStrategy = new AllPairsCollisionStrategy() {
+            @Override
+            protected void findStaticCandidatePairs(CollisionPairs pairs) {
+                testedStaticPairs[0]++;
+                super.findStaticCandidatePairs(pairs);
+            }
+
+            @Override
+            protected void findMovedStaticCandidatePairs(List<CollisionBody> movedBodies, CollisionPairs pairs) {
+                refreshed.addAll(movedBodies);
+                super.findMovedStaticCandidatePairs(movedBodies, pairs);
+            }
+        };
+        Collided staticCollided = mock(Collided.class, CALLS_REAL_METHODS);
+        when(staticCollided.getBounds()).thenReturn(new BoundingBox(50, 50, 25, 25));
+        Collider movedCollider = mock(Collider.class, CALLS_REAL_METHODS);
+        when(movedCollider.getBounds()).thenReturn(new BoundingBox(0, 0, 10, 10));
+        Collider otherCollider = mock(Collider.class, CALLS_REAL_METHODS);
+        when(otherCollider.getBounds()).thenReturn(new BoundingBox(74, 55, 2, 10));
+
+        collisionStrategy.register(staticCollided);
+        collisionStrategy.register(movedCollider);
+        collisionStrategy.register(otherCollider);
+        collisionStrategy.checkCollisions();
+
+        // Test
+        when(movedCollider.getBounds()).thenReturn(new BoundingBox(55, 49, 10, 2));
+        collisionStrategy.markMoved(movedCollider);
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        Assertions.assertEquals(1, testedStaticPairs[0]);
+        Assertions.assertEquals(1, refreshed.size());
+        Assertions.assertSame(movedCollider, refreshed.get(0).getBounded());
+        verify(staticCollided, times(1)).getBounds();
+        verify(otherCollider, times(1)).getBounds();
+        verify(staticCollided, times(2)).onCollision(any(), any());
+        verify(staticCollided).onCollision(movedCollider, CollisionSide.BOTTOM);
+    }
+
+    @Test
+    void entityIsMarkedAsMovedWhenItsNodeIsMoved() {
+        // Setup
+        var node = new Group(new Rectangle(10, 10));
+        var entity = mock(ColliderEntity.class, CALLS_REAL_METHODS);
+        when(entity.getGameNode()).thenReturn(node);
+        Collided staticCollided = mock(Collided.class, CALLS_REAL_METHODS);
+        when(staticCollided.getBounds()).thenReturn(new BoundingBox(50, 50, 25, 25));
+
+        collisionStrategy.register(staticCollided);
+        collisionStrategy.register(entity);
+        collisionStrategy.checkCollisions();
+        collisionStrategy.checkCollisions();
+        var requestedBeforeMove = mockingDetails(entity).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("getBounds")).count();
+
+        // Test
+        node.relocate(55, 55);
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        Assertions.assertEquals(1, requestedBeforeMove);
+        verify(entity, times(2)).getBounds();
+        verify(staticCollided, times(1)).onCollision(eq(entity), any());
+    }
+
+    @Test
+    void staticPairsAreReportedEveryFrameWithoutBeingTestedAgain() {
+        // Setup
+        var testedStaticPairs = new int[1];
+        collisionStrategy = new AllPairsCollisionStrategy() {
+            @Override
+            protected void findStaticCandidatePairs(CollisionPairs pairs) {
+                testedStaticPairs[0]++;
+                super.findStaticCandidatePairs(pairs);
+            }
+        };
+        Collided staticCollided = mock(Collided.class, CALLS_REAL_METHODS);
+        when(staticCollided.getBounds()).thenReturn(new BoundingBox(50, 50, 25, 25));
+        Collider staticCollider = () -> new BoundingBox(55, 49, 10, 2);
+
+        collisionStrategy.register(staticCollided);
+        collisionStrategy.register(staticCollider);
+
+        // Test
+        collisionStrategy.checkCollisions();
+        collisionStrategy.checkCollisions();
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        Assertions.assertEquals(1, testedStaticPairs[0]);
+        verify(staticCollided, times(3)).onCollision(staticCollider, CollisionSide.BOTTOM);
+    }
+
+    @Test
+    void removingAStaticBodyRefreshesTheStaticPairs() {
+        // Setup
+        Collided staticCollided = mock(Collided.class, CALLS_REAL_METHODS);
+        when(staticCollided.getBounds()).thenReturn(new BoundingBox(50, 50, 25, 25));
+        Collider staticCollider = () -> new BoundingBox(55, 49, 10, 2);
+
+        collisionStrategy.register(staticCollided);
+        collisionStrategy.register(staticCollider);
+        collisionStrategy.checkCollisions();
+
+        // Test
+        collisionStrategy.remove(staticCollider);
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        verify(staticCollided, times(1)).onCollision(any(), any());
+    }
+
+    @Test
+    void fastColliderPassingThroughIsMissedWithoutContinuousCollisionDetection() {
+        // Setup
+        Collided wall = mock(Collided.class, CALLS_REAL_METHODS);
+        when(wall.getBounds()).thenReturn(new BoundingBox(100, 0, 2, 100));
+        Collider bullet = mockMovingCollider();
+        when(bullet.getBounds())
+                .thenReturn(new BoundingBox(0, 40, 10, 10))
+                .thenReturn(new BoundingBox(200, 40, 10, 10));
+
+        collisionStrategy.register(wall);
+        collisionStrategy.register(bullet);
+
+        // Test
+        collisionStrategy.checkCollisions();
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        verify(wall, never()).onCollision(any(), any());
+    }
+
+    @Test
+    void fastColliderPassingThroughIsDetectedWithContinuousCollisionDetection() {
+        // Setup
+        collisionStrategy.setContinuousCollisionDetection(true);
+        Collided wall = mock(Collided.class, CALLS_REAL_METHODS);
+        when(wall.getBounds()).thenReturn(new BoundingBox(100, 0, 2, 100));
+        Collider bullet = mockMovingCollider();
+        when(bullet.getBounds())
+                .thenReturn(new BoundingBox(0, 40, 10, 10))
+                .thenReturn(new BoundingBox(200, 40, 10, 10));
+
+        collisionStrategy.register(wall);
+        collisionStrategy.register(bullet);
+
+        // Test
+        collisionStrategy.checkCollisions();
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        verify(wall).onCollision(bullet, CollisionSide.LEFT, 0.45);
+        verify(wall, times(1)).onCollision(any(), any());
+    }
+
+    @Test
+    void earliestImpactIsReportedWithContinuousCollisionDetection() {
+        // Setup
+        collisionStrategy.setContinuousCollisionDetection(true);
+        Collided target = mockMovingCollided();
+        when(target.getBounds()).thenReturn(new BoundingBox(100, 0, 10, 100));
+        Collider slowCollider = mockMovingCollider();
+        when(slowCollider.getBounds())
+                .thenReturn(new BoundingBox(80, 40, 10, 10))
+                .thenReturn(new BoundingBox(95, 40, 10, 10));
+        Collider fastCollider = mockMovingCollider();
+        when(fastCollider.getBounds())
+                .thenReturn(new BoundingBox(0, 40, 10, 10))
+                .thenReturn(new BoundingBox(200, 40, 10, 10));
+
+        collisionStrategy.register(target);
+        collisionStrategy.register(slowCollider);
+        collisionStrategy.register(fastCollider);
+
+        // Test
+        collisionStrategy.checkCollisions();
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        verify(target).onCollision(fastCollider, CollisionSide.LEFT, 0.45);
+        verify(target, never()).onCollision(eq(slowCollider), any(), anyDouble());
+    }
+
+    static Collider mockMovingCollider() {
+        return mock(Collider.class, withSettings().extraInterfaces(Updatable.class).defaultAnswer(CALLS_REAL_METHODS));
+    }
+
+    static Collided mockMovingCollided() {
+        return mock(Collided.class, withSettings().extraInterfaces(Updatable.class).defaultAnswer(CALLS_REAL_METHODS));
+    }
+
+    static List<List<String>> recordContacts(BatchedCollided collided) {
+        List<List<String>> contacts = new ArrayList<>();
+        doAnswer(invocation -> {
+            ContactBuffer buffer = invocation.getArgument(0);
+            List<String> frame = new ArrayList<>();
+            for (var i = 0; i < buffer.size(); i++) {
+                frame.add(buffer.get(i).getCollider() + ":" + buffer.get(i).getCollisionSide());
+            }
+            return contacts.add(frame);
+        }).when(collided).onCollisions(any());
+        return contacts;
+    }
+
+    private static class AllPairsCollisionStrategy extends BroadPhaseCollisionStrategy {
+
+        @Override
+        protected void findCandidatePairs(CollisionPairs pairs) {
+            for (var i = 0; i < getBodyCount(); i++) {
+                for (var j = 0; j < getBodyCount(); j++) {
+                    pairs.add(getBody(i), getBody(j));
+                }
+            }
+        }
+    }
+
+    private interface ColliderEntity extends Entity, Collider {
+    }
+}
@@ -0,0 +1,66 @@
+package nl.han.ica.yaeger.engine.entities.collisions;
+
+import javafx.geometry.BoundingBox;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static nl.han.ica.yaeger.engine.entities.collisions.BroadPhaseCollisionStrategyTest.recordContacts;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BruteForceCollisionStrategyTest {
+
+    private BruteForceCollisionStrategy collisionStrategy;
+
+    @BeforeEach
+    void setup() {
+        collisionStrategy = new BruteForceCollisionStrategy();
+    }
+
+    @Test
+    void collidedIsAskedToCheckForCollisions() {
+        // Setup
+        Collided collided = mock(Collided.class);
+        Collider collider = mock(Collider.class);
+
+        collisionStrategy.register(collided);
+        collisionStrategy.register(collider);
+
+        // Test
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        verify(collided).checkForCollisions(Set.of(collider));
+    }
+
+    @Test
+    void batchedCollidedReceivesAllContactsInRegistrationOrder() {
+        // Setup
+        BatchedCollided collided = mock(BatchedCollided.class, CALLS_REAL_METHODS);
+        when(collided.getBounds()).thenReturn(new BoundingBox(50, 50, 25, 25));
+        Collider rightCollider = () -> new BoundingBox(74, 55, 2, 10);
+        Collider farCollider = () -> new BoundingBox(500, 500, 2, 10);
+        Collider topCollider = () -> new BoundingBox(55, 74, 10, 2);
+        List<List<String>> contacts = recordContacts(collided);
+
+        collisionStrategy.register(rightCollider);
+        collisionStrategy.register(farCollider);
+        collisionStrategy.register(topCollider);
+        collisionStrategy.register(collided);
+
+        // Test
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        Assertions.assertEquals(List.of(List.of(rightCollider + ":RIGHT", topCollider + ":TOP")), contacts);
+        verify(collided, never()).checkForCollisions(any());
+    }
+}
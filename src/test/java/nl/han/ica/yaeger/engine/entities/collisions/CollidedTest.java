@@ -157,6 +157,34 @@ public class CollidedTest {
         assertEquals(collided.getSide(), CollisionSide.RIGHT);
     }
 
+    @Test
+    void testColliderOutsideCollisionMaskIsIgnored() {
+        // Setup
+        Collider maskedCollider = new Collider() {
+            @Override
+            public int getCollisionCategory() {
+                return 1 << 3;
+            }
+
+            @Override
+            public Bounds getBounds() {
+                return TEST_COLLIDED_BOUNDINGBOX;
+            }
+        };
+        var maskedCollided = new TestCollided() {
+            @Override
+            public int getCollisionMask() {
+                return Collider.DEFAULT_COLLISION_CATEGORY;
+            }
+        };
+
+        // Test
+        maskedCollided.checkForCollisions(Set.of(maskedCollider));
+
+        // Verify
+        assertNull(maskedCollided.getLastCollider());
+    }
+
     private class TestCollided implements Collided {
 
         private Collider lastCollided;
@@ -116,6 +116,60 @@ class CollisionDelegateTest {
         Assertions.assertEquals(0, argument.getValue().size());
     }
 
+    @Test
+    void checkCollisionsDelegatesToTheCollisionStrategy() {
+        // Setup
+        CollisionStrategy collisionStrategy = mock(CollisionStrategy.class);
+        collisionDelegate = new CollisionDelegate(collisionStrategy);
+
+        // Test
+        collisionDelegate.checkCollisions();
+
+        // Verify
+        Mockito.verify(collisionStrategy).checkCollisions();
+    }
+
+    @Test
+    void registeringACollidableTwiceRegistersItOnce() {
+        // Setup
+        CollisionStrategy collisionStrategy = mock(CollisionStrategy.class);
+        collisionDelegate = new CollisionDelegate(collisionStrategy);
+        Collidable collidable = mock(Collidable.class);
+
+        // Test
+        collisionDelegate.register(collidable);
+        collisionDelegate.register(collidable);
+
+        // Verify
+        Mockito.verify(collisionStrategy).register((Collider) collidable);
+        Mockito.verify(collisionStrategy).register((Collided) collidable);
+    }
+
+    @Test
+    void settingACollisionStrategyTransfersRegisteredEntities() {
+        // Setup
+        CollisionStrategy oldStrategy = mock(CollisionStrategy.class);
+        CollisionStrategy newStrategy = mock(CollisionStrategy.class);
+        collisionDelegate = new CollisionDelegate(oldStrategy);
+
+        Collided collided = mock(Collided.class);
+        Collider collider = mock(Collider.class);
+        collisionDelegate.register(collided);
+        collisionDelegate.register(collider);
+
+        // Test
+        collisionDelegate.setCollisionStrategy(newStrategy);
+        collisionDelegate.checkCollisions();
+
+        // Verify
+        Mockito.verify(oldStrategy).remove(collided);
+        Mockito.verify(oldStrategy).remove(collider);
+        Mockito.verify(newStrategy).register(collided);
+        Mockito.verify(newStrategy).register(collider);
+        Mockito.verify(newStrategy).checkCollisions();
+        Mockito.verify(oldStrategy, Mockito.never()).checkCollisions();
+    }
+
     private class CollidedTestEntity implements Entity, Collided {
 
         @Override
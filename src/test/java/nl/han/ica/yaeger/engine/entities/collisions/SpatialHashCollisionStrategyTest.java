@@ -0,0 +1,150 @@
+package nl.han.ica.yaeger.engine.entities.collisions;
+
+import javafx.geometry.BoundingBox;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static nl.han.ica.yaeger.engine.entities.collisions.BroadPhaseCollisionStrategyTest.mockMovingCollider;
+import static nl.han.ica.yaeger.engine.entities.collisions.BroadPhaseCollisionStrategyTest.recordContacts;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SpatialHashCollisionStrategyTest {
+
+    private SpatialHashCollisionStrategy collisionStrategy;
+
+    @BeforeEach
+    void setup() {
+        collisionStrategy = new SpatialHashCollisionStrategy(50);
+    }
+
+    @Test
+    void onlyCollidersThatShareACellAreChecked() {
+        // Setup
+        Collided collided = mock(Collided.class, CALLS_REAL_METHODS);
+        when(collided.getBounds()).thenReturn(new BoundingBox(10, 10, 20, 20));
+        Collider nearCollider = () -> new BoundingBox(25, 25, 20, 20);
+        Collider farCollider = mock(Collider.class, CALLS_REAL_METHODS);
+        when(farCollider.getBounds()).thenReturn(new BoundingBox(400, 400, 20, 20));
+
+        collisionStrategy.register(collided);
+        collisionStrategy.register(farCollider);
+        collisionStrategy.register(nearCollider);
+
+        // Test
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        verify(collided).onCollision(nearCollider, CollisionSide.TOP);
+        verify(collided, never()).onCollision(farCollider, CollisionSide.TOP);
+    }
+
+    @Test
+    void movementBetweenChecksIsTakenIntoAccount() {
+        // Setup
+        Collided collided = mock(Collided.class, CALLS_REAL_METHODS);
+        when(collided.getBounds()).thenReturn(new BoundingBox(10, 10, 20, 20));
+        Collider movingCollider = mockMovingCollider();
+        when(movingCollider.getBounds())
+                .thenReturn(new BoundingBox(400, 400, 20, 20))
+                .thenReturn(new BoundingBox(15, 15, 20, 20));
+
+        collisionStrategy.register(collided);
+        collisionStrategy.register(movingCollider);
+
+        // Test
+        collisionStrategy.checkCollisions();
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        verify(collided, times(1)).onCollision(movingCollider, CollisionSide.TOP);
+    }
+
+    @Test
+    void colliderSpanningMultipleCellsIsReportedOnceToABatchedCollided() {
+        // Setup
+        BatchedCollided collided = mock(BatchedCollided.class, CALLS_REAL_METHODS);
+        when(collided.getBounds()).thenReturn(new BoundingBox(10, 10, 100, 100));
+        Collider collider = () -> new BoundingBox(20, 20, 100, 100);
+        List<List<String>> contacts = recordContacts(collided);
+
+        collisionStrategy.register(collided);
+        collisionStrategy.register(collider);
+
+        // Test
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        Assertions.assertEquals(List.of(List.of(collider + ":TOP")), contacts);
+    }
+
+    @Test
+    void sweptBoundsAreUsedWithContinuousCollisionDetection() {
+        // Setup
+        collisionStrategy.setContinuousCollisionDetection(true);
+        Collided wall = mock(Collided.class, CALLS_REAL_METHODS);
+        when(wall.getBounds()).thenReturn(new BoundingBox(100, 0, 2, 100));
+        Collider bullet = mockMovingCollider();
+        when(bullet.getBounds())
+                .thenReturn(new BoundingBox(0, 40, 10, 10))
+                .thenReturn(new BoundingBox(400, 40, 10, 10));
+
+        collisionStrategy.register(wall);
+        collisionStrategy.register(bullet);
+
+        // Test
+        collisionStrategy.checkCollisions();
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        verify(wall).onCollision(bullet, CollisionSide.LEFT);
+    }
+
+    @Test
+    void movedStaticColliderIsFoundInItsNewCell() {
+        // Setup
+        Collided movingCollided = BroadPhaseCollisionStrategyTest.mockMovingCollided();
+        when(movingCollided.getBounds()).thenReturn(new BoundingBox(10, 10, 20, 20));
+        Collider staticCollider = mock(Collider.class, CALLS_REAL_METHODS);
+        when(staticCollider.getBounds()).thenReturn(new BoundingBox(400, 400, 20, 20));
+
+        collisionStrategy.register(movingCollided);
+        collisionStrategy.register(staticCollider);
+        collisionStrategy.checkCollisions();
+
+        // Test
+        when(staticCollider.getBounds()).thenReturn(new BoundingBox(15, 15, 20, 20));
+        collisionStrategy.markMoved(staticCollider);
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        verify(movingCollided, times(1)).onCollision(staticCollider, CollisionSide.TOP);
+    }
+
+    @Test
+    void removedColliderIsNoLongerChecked() {
+        // Setup
+        Collided collided = mock(Collided.class, CALLS_REAL_METHODS);
+        when(collided.getBounds()).thenReturn(new BoundingBox(10, 10, 20, 20));
+        Collider collider = () -> new BoundingBox(15, 15, 20, 20);
+
+        collisionStrategy.register(collided);
+        collisionStrategy.register(collider);
+
+        // Test
+        collisionStrategy.remove(collider);
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        verify(collided, never()).onCollision(any(), any());
+    }
+}
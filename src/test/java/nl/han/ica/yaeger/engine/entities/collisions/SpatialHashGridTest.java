@@ -0,0 +1,139 @@
+package nl.han.ica.yaeger.engine.entities.collisions;
+
+import javafx.geometry.BoundingBox;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+
+class SpatialHashGridTest {
+
+    private static final double CELL_SIZE = 10;
+
+    private SpatialHashGrid<String> grid;
+
+    @BeforeEach
+    void setup() {
+        grid = new SpatialHashGrid<>(CELL_SIZE);
+    }
+
+    @Test
+    void newInstanceIsEmpty() {
+        // Setup
+        var result = new ArrayList<String>();
+
+        // Test
+        grid.query(-100, -100, 100, 100, result);
+
+        // Verify
+        Assertions.assertTrue(grid.isEmpty());
+        Assertions.assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void invalidCellSizeIsRejected() {
+        // Test & Verify
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SpatialHashGrid<String>(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SpatialHashGrid<String>(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SpatialHashGrid<String>(Double.NaN));
+    }
+
+    @Test
+    void queryReturnsItemsThatShareACell() {
+        // Setup
+        grid.insert("near", new BoundingBox(12, 12, 2, 2));
+        grid.insert("far", new BoundingBox(95, 95, 2, 2));
+        var result = new HashSet<String>();
+
+        // Test
+        grid.query(new BoundingBox(15, 15, 1, 1), result);
+
+        // Verify
+        Assertions.assertEquals(Set.of("near"), result);
+    }
+
+    @Test
+    void itemSpanningMultipleCellsIsFoundFromEachCell() {
+        // Setup
+        grid.insert("wide", 0, 0, 35, 5);
+        var fromFirstCell = new HashSet<String>();
+        var fromLastCell = new HashSet<String>();
+
+        // Test
+        grid.query(1, 1, 2, 2, fromFirstCell);
+        grid.query(33, 1, 34, 2, fromLastCell);
+
+        // Verify
+        Assertions.assertEquals(Set.of("wide"), fromFirstCell);
+        Assertions.assertEquals(Set.of("wide"), fromLastCell);
+    }
+
+    @Test
+    void touchingItemsShareACell() {
+        // Setup
+        grid.insert("left", 0, 0, 10, 5);
+        var result = new HashSet<String>();
+
+        // Test
+        grid.query(10, 0, 15, 5, result);
+
+        // Verify
+        Assertions.assertEquals(Set.of("left"), result);
+    }
+
+    @Test
+    void negativeCoordinatesAreSupported() {
+        // Setup
+        grid.insert("negative", -25, -25, -21, -21);
+        grid.insert("positive", 21, 21, 25, 25);
+        var result = new HashSet<String>();
+
+        // Test
+        grid.query(-24, -24, -22, -22, result);
+
+        // Verify
+        Assertions.assertEquals(Set.of("negative"), result);
+    }
+
+    @Test
+    void emptyBoundsAreIgnored() {
+        // Setup
+        grid.insert("empty", 5, 5, 4, 4);
+
+        // Test & Verify
+        Assertions.assertTrue(grid.isEmpty());
+    }
+
+    @Test
+    void clearRemovesAllItems() {
+        // Setup
+        grid.insert("item", 0, 0, 5, 5);
+        var result = new ArrayList<String>();
+
+        // Test
+        grid.clear();
+        grid.query(0, 0, 5, 5, result);
+
+        // Verify
+        Assertions.assertTrue(grid.isEmpty());
+        Assertions.assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void gridGrowsToFitManyCells() {
+        // Setup
+        for (var i = 0; i < 1000; i++) {
+            grid.insert("item-" + i, i * CELL_SIZE, 0, i * CELL_SIZE + 1, 1);
+        }
+        var result = new HashSet<String>();
+
+        // Test
+        grid.query(500 * CELL_SIZE, 0, 500 * CELL_SIZE + 1, 1, result);
+
+        // Verify
+        Assertions.assertEquals(Set.of("item-500"), result);
+    }
+}
@@ -0,0 +1,107 @@
+package nl.han.ica.yaeger.engine.entities.collisions;
+
+import javafx.geometry.BoundingBox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static nl.han.ica.yaeger.engine.entities.collisions.BroadPhaseCollisionStrategyTest.mockMovingCollider;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SweepAndPruneCollisionStrategyTest {
+
+    private SweepAndPruneCollisionStrategy collisionStrategy;
+
+    @BeforeEach
+    void setup() {
+        collisionStrategy = new SweepAndPruneCollisionStrategy();
+    }
+
+    @Test
+    void onlyOverlappingCollidersAreChecked() {
+        // Setup
+        Collided collided = mock(Collided.class, CALLS_REAL_METHODS);
+        when(collided.getBounds()).thenReturn(new BoundingBox(10, 10, 20, 20));
+        Collider sameColumnCollider = mock(Collider.class, CALLS_REAL_METHODS);
+        when(sameColumnCollider.getBounds()).thenReturn(new BoundingBox(10, 100, 20, 20));
+        Collider sameRowCollider = mock(Collider.class, CALLS_REAL_METHODS);
+        when(sameRowCollider.getBounds()).thenReturn(new BoundingBox(100, 10, 20, 20));
+        Collider overlappingCollider = () -> new BoundingBox(25, 25, 20, 20);
+
+        collisionStrategy.register(sameRowCollider);
+        collisionStrategy.register(sameColumnCollider);
+        collisionStrategy.register(collided);
+        collisionStrategy.register(overlappingCollider);
+
+        // Test
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        verify(collided).onCollision(overlappingCollider, CollisionSide.TOP);
+        verify(collided, never()).onCollision(eq(sameRowCollider), any());
+        verify(collided, never()).onCollision(eq(sameColumnCollider), any());
+    }
+
+    @Test
+    void collidableIsNotCheckedAgainstItself() {
+        // Setup
+        Collidable collidable = mock(Collidable.class, CALLS_REAL_METHODS);
+        when(collidable.getBounds()).thenReturn(new BoundingBox(10, 10, 20, 20));
+
+        collisionStrategy.register((Collider) collidable);
+        collisionStrategy.register((Collided) collidable);
+
+        // Test
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        verify(collidable, never()).onCollision(any(), any());
+    }
+
+    @Test
+    void axisIsResortedWhenEntitiesMove() {
+        // Setup
+        Collided collided = mock(Collided.class, CALLS_REAL_METHODS);
+        when(collided.getBounds()).thenReturn(new BoundingBox(500, 10, 20, 20));
+        Collider movingCollider = mockMovingCollider();
+        when(movingCollider.getBounds())
+                .thenReturn(new BoundingBox(0, 10, 20, 20))
+                .thenReturn(new BoundingBox(505, 15, 20, 20))
+                .thenReturn(new BoundingBox(1000, 15, 20, 20));
+
+        collisionStrategy.register(movingCollider);
+        collisionStrategy.register(collided);
+
+        // Test
+        collisionStrategy.checkCollisions();
+        collisionStrategy.checkCollisions();
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        verify(collided, times(1)).onCollision(movingCollider, CollisionSide.TOP);
+    }
+
+    @Test
+    void removedCollidedIsNoLongerChecked() {
+        // Setup
+        Collided collided = mock(Collided.class, CALLS_REAL_METHODS);
+        when(collided.getBounds()).thenReturn(new BoundingBox(10, 10, 20, 20));
+        Collider collider = () -> new BoundingBox(15, 15, 20, 20);
+
+        collisionStrategy.register(collided);
+        collisionStrategy.register(collider);
+
+        // Test
+        collisionStrategy.remove(collided);
+        collisionStrategy.checkCollisions();
+
+        // Verify
+        verify(collided, never()).onCollision(any(), any());
+    }
+}
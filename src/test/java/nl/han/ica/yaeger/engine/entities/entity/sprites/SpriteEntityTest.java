@@ -178,6 +178,29 @@ class SpriteEntityTest {
         verify(imageView).fireEvent(any(RemoveEntityEvent.class));
     }
 
+    @Test
+    void restoreImageSetsTheImageAfterRemoval() {
+        // Setup
+        var spriteEntity = new TestSpriteEntityWithDefaultFrames(DEFAULT_RESOURCE, DEFAULT_POSITION, DEFAULT_SIZE);
+        spriteEntity.setSpriteAnimationDelegateFactory(spriteAnimationDelegateFactory);
+        spriteEntity.setImageRepository(imageRepository);
+        spriteEntity.setImageViewFactory(imageViewFactory);
+
+        var image = mock(Image.class);
+        when(imageRepository.get(DEFAULT_RESOURCE, WIDTH, HEIGHT, true)).thenReturn(image);
+
+        var imageView = mock(ImageView.class);
+        when(imageViewFactory.create(image)).thenReturn(imageView);
+        spriteEntity.init(injector);
+        spriteEntity.remove();
+
+        // Test
+        spriteEntity.restoreImage();
+
+        // Verify
+        verify(imageView).setImage(image);
+    }
+
     @Test
     void getPositionReturnsCorrectPosition() {
         // Setup
@@ -0,0 +1,73 @@
+package nl.han.ica.yaeger.engine.entities.events;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+import nl.han.ica.yaeger.engine.entities.entity.Removeable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RemovalQueueTest {
+
+    private RemovalQueue sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new RemovalQueue();
+    }
+
+    @Test
+    void offerAddsToTheAttachedQueue() {
+        // Setup
+        var removeable = createRemoveable(new Group());
+        sut.attach(removeable);
+        List<Removeable> drained = new ArrayList<>();
+
+        // Test
+        var offered = RemovalQueue.offer(removeable);
+        sut.drainTo(drained);
+
+        // Verify
+        Assertions.assertTrue(offered);
+        Assertions.assertEquals(List.of(removeable), drained);
+        Assertions.assertTrue(sut.isEmpty());
+    }
+
+    @Test
+    void offerFailsWithoutAnAttachedQueue() {
+        // Setup
+        var removeable = createRemoveable(new Group());
+
+        // Test
+        var offered = RemovalQueue.offer(removeable);
+
+        // Verify
+        Assertions.assertFalse(offered);
+    }
+
+    @Test
+    void notifyRemoveUsesTheAttachedQueue() {
+        // Setup
+        var removeable = createRemoveable(new Group());
+        sut.attach(removeable);
+
+        // Test
+        removeable.notifyRemove();
+
+        // Verify
+        Assertions.assertFalse(sut.isEmpty());
+    }
+
+    private Removeable createRemoveable(Node node) {
+        var removeable = mock(Removeable.class, CALLS_REAL_METHODS);
+        when(removeable.getGameNode()).thenReturn(node);
+        return removeable;
+    }
+}
@@ -0,0 +1,112 @@
+package nl.han.ica.yaeger.engine.gameloop;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class FixedTimestepTest {
+
+    private static final long STEP = 10_000_000L;
+
+    private FixedTimestep fixedTimestep;
+    private List<Long> steps;
+
+    @BeforeEach
+    void setup() {
+        fixedTimestep = new FixedTimestep(100, 3);
+        steps = new ArrayList<>();
+    }
+
+    @Test
+    void firstAdvancePerformsAStepAtTheGivenTime() {
+        // Test
+        var performed = fixedTimestep.advance(1000, steps::add);
+
+        // Verify
+        Assertions.assertEquals(1, performed);
+        Assertions.assertEquals(List.of(1000L), steps);
+    }
+
+    @Test
+    void oneStepIsPerformedPerElapsedStep() {
+        // Setup
+        fixedTimestep.advance(0, steps::add);
+
+        // Test
+        var performed = fixedTimestep.advance(2 * STEP, steps::add);
+
+        // Verify
+        Assertions.assertEquals(2, performed);
+        Assertions.assertEquals(List.of(0L, STEP, 2 * STEP), steps);
+    }
+
+    @Test
+    void shortFramesAccumulateIntoAStep() {
+        // Setup
+        fixedTimestep.advance(0, steps::add);
+
+        // Test
+        fixedTimestep.advance(STEP / 2, steps::add);
+        var alpha = fixedTimestep.getInterpolationAlpha();
+        fixedTimestep.advance(STEP, steps::add);
+
+        // Verify
+        Assertions.assertEquals(0.5, alpha, 0.0001);
+        Assertions.assertEquals(List.of(0L, STEP), steps);
+        Assertions.assertEquals(0, fixedTimestep.getInterpolationAlpha(), 0.0001);
+    }
+
+    @Test
+    void catchUpIsCappedAndTheRestIsDropped() {
+        // Setup
+        fixedTimestep.advance(0, steps::add);
+
+        // Test
+        var performed = fixedTimestep.advance(10 * STEP + STEP / 4, steps::add);
+
+        // Verify
+        Assertions.assertEquals(3, performed);
+        Assertions.assertEquals(7 * STEP, fixedTimestep.getDroppedNanos());
+        Assertions.assertEquals(0.25, fixedTimestep.getInterpolationAlpha(), 0.0001);
+    }
+
+    @Test
+    void resetStartsANewSimulation() {
+        // Setup
+        fixedTimestep.advance(0, steps::add);
+        fixedTimestep.advance(STEP / 2, steps::add);
+
+        // Test
+        fixedTimestep.reset();
+        var performed = fixedTimestep.advance(100 * STEP, steps::add);
+
+        // Verify
+        Assertions.assertEquals(1, performed);
+        Assertions.assertEquals(0, fixedTimestep.getInterpolationAlpha(), 0.0001);
+    }
+
+    @Test
+    void invalidSettingsAreRejected() {
+        // Test & Verify
+        Assertions.assertThrows(IllegalArgumentException.class, () -> fixedTimestep.setTicksPerSecond(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> fixedTimestep.setMaxStepsPerFrame(0));
+    }
+
+    @Test
+    void copyHasTheSameConfigurationButItsOwnState() {
+        // Setup
+        fixedTimestep.advance(0, steps::add);
+        fixedTimestep.advance(STEP / 2, steps::add);
+
+        // Test
+        var copy = new FixedTimestep(fixedTimestep);
+
+        // Verify
+        Assertions.assertEquals(STEP, copy.getStepNanos());
+        Assertions.assertEquals(3, copy.getMaxStepsPerFrame());
+        Assertions.assertEquals(0, copy.getInterpolationAlpha());
+    }
+}
@@ -0,0 +1,178 @@
+package nl.han.ica.yaeger.engine.gameloop;
+
+import javafx.collections.ObservableList;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import nl.han.ica.yaeger.engine.entities.EntityStore;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class SimulationThreadTest {
+
+    private static final long STEP = 10_000_000L;
+
+    private ObservableList<Node> children;
+    private EntityStore entityStore;
+    private SimulationThread simulationThread;
+
+    @BeforeEach
+    void setup() {
+        Group group = mock(Group.class);
+        children = mock(ObservableList.class);
+        when(group.getChildren()).thenReturn(children);
+
+        entityStore = new EntityStore(group);
+        simulationThread = new SimulationThread(entityStore, group, new FixedTimestep(100, 5));
+    }
+
+    @Test
+    void simulateUpdatesTheEntityStore() {
+        // Setup
+        var id = entityStore.create(0, 0, 1, 1, null);
+        entityStore.setVelocity(entityStore.indexOf(id), 1, 2);
+
+        // Test
+        simulationThread.simulate(0);
+        var steps = simulationThread.simulate(3 * STEP);
+
+        // Verify
+        Assertions.assertEquals(3, steps);
+        Assertions.assertEquals(4, entityStore.getX(entityStore.indexOf(id)));
+        Assertions.assertEquals(8, entityStore.getY(entityStore.indexOf(id)));
+    }
+
+    @Test
+    void renderAddsNodesAndAppliesTheLatestPositions() {
+        // Setup
+        Node node = mock(Node.class);
+        List<List<Node>> added = new ArrayList<>();
+        doAnswer(invocation -> added.add(new ArrayList<>(invocation.getArgument(0))))
+                .when(children).addAll(anyCollection());
+        var id = entityStore.create(10, 20, 1, 1, node);
+        entityStore.setVelocity(entityStore.indexOf(id), 1, 0);
+        simulationThread.simulate(0);
+        simulationThread.simulate(STEP);
+
+        // Test
+        simulationThread.render();
+
+        // Verify
+        Assertions.assertEquals(List.of(List.of(node)), added);
+        verify(node).setLayoutX(12);
+        verify(node).setLayoutY(20);
+    }
+
+    @Test
+    void renderWithoutANewSnapshotDoesNotRelocate() {
+        // Setup
+        Node node = mock(Node.class);
+        entityStore.create(10, 20, 1, 1, node);
+        simulationThread.simulate(0);
+        simulationThread.render();
+
+        // Test
+        simulationThread.render();
+
+        // Verify
+        verify(node, times(1)).setLayoutX(10);
+    }
+
+    @Test
+    void removedNodesAreNotLostWhenSnapshotsAreSkipped() {
+        // Setup
+        Node node = mock(Node.class);
+        List<List<Node>> removed = new ArrayList<>();
+        doAnswer(invocation -> removed.add(new ArrayList<>(invocation.getArgument(0))))
+                .when(children).removeAll(anyCollection());
+        var id = entityStore.create(0, 0, 1, 1, node);
+        simulationThread.simulate(0);
+        simulationThread.render();
+
+        // Test
+        entityStore.destroy(id);
+        simulationThread.simulate(STEP);
+        simulationThread.simulate(2 * STEP);
+        simulationThread.render();
+
+        // Verify
+        Assertions.assertEquals(List.of(List.of(node)), removed);
+    }
+
+    @Test
+    void nodesThatArePublishedAfterTheAcquiredSnapshotAreAddedOnTheNextRender() {
+        // Setup
+        Node first = mock(Node.class);
+        Node second = mock(Node.class);
+        List<List<Node>> added = new ArrayList<>();
+        doAnswer(invocation -> {
+            added.add(new ArrayList<>(invocation.getArgument(0)));
+            if (added.size() == 1) {
+                entityStore.create(30, 40, 1, 1, second);
+                simulationThread.simulate(STEP);
+            }
+            return true;
+        }).when(children).addAll(anyCollection());
+        entityStore.create(10, 20, 1, 1, first);
+        simulationThread.simulate(0);
+
+        // Test
+        simulationThread.render();
+        var addedByFirstRender = new ArrayList<>(added);
+        simulationThread.render();
+
+        // Verify
+        Assertions.assertEquals(List.of(List.of(first)), addedByFirstRender);
+        Assertions.assertEquals(List.of(List.of(first), List.of(second)), added);
+        verify(second).setLayoutX(30);
+    }
+
+    @Test
+    void startAndStopControlTheThread() {
+        // Test
+        simulationThread.start();
+        var runningAfterStart = simulationThread.isRunning();
+        simulationThread.stop();
+
+        // Verify
+        Assertions.assertTrue(runningAfterStart);
+        Assertions.assertFalse(simulationThread.isRunning());
+    }
+
+    @Test
+    void simulateRunsTheSubmittedCommandsFirst() {
+        // Setup
+        entityStore.setOwner(new Thread(() -> {
+        }));
+        entityStore.submit(store -> store.create(0, 0, 1, 1, null));
+        entityStore.setOwner(null);
+
+        // Test
+        simulationThread.simulate(0);
+
+        // Verify
+        Assertions.assertEquals(1, entityStore.size());
+        Assertions.assertEquals(1, simulationThread.getEntityCount());
+    }
+
+    @Test
+    void theEntityStoreIsOwnedWhileTheThreadRuns() {
+        // Test
+        simulationThread.start();
+        var rejected = Assertions.assertThrows(IllegalStateException.class,
+                () -> entityStore.create(0, 0, 1, 1, null));
+        entityStore.submit(store -> store.create(0, 0, 1, 1, null));
+        simulationThread.stop();
+
+        // Verify
+        Assertions.assertNotNull(rejected);
+        Assertions.assertEquals(1, entityStore.size());
+        Assertions.assertEquals(1, simulationThread.getEntityCount());
+    }
+}
@@ -0,0 +1,65 @@
+package nl.han.ica.yaeger.engine.gameloop;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TripleBufferTest {
+
+    private TripleBuffer<int[]> tripleBuffer;
+
+    @BeforeEach
+    void setup() {
+        tripleBuffer = new TripleBuffer<>(() -> new int[1]);
+    }
+
+    @Test
+    void nothingCanBeAcquiredBeforeAPublication() {
+        // Test & Verify
+        Assertions.assertFalse(tripleBuffer.acquireLatest());
+    }
+
+    @Test
+    void publishedDataCanBeAcquiredOnce() {
+        // Setup
+        tripleBuffer.getWriteBuffer()[0] = 42;
+
+        // Test
+        tripleBuffer.publish();
+        var first = tripleBuffer.acquireLatest();
+        var second = tripleBuffer.acquireLatest();
+
+        // Verify
+        Assertions.assertTrue(first);
+        Assertions.assertFalse(second);
+        Assertions.assertEquals(42, tripleBuffer.getReadBuffer()[0]);
+    }
+
+    @Test
+    void onlyTheLatestPublicationIsAcquired() {
+        // Setup
+        tripleBuffer.getWriteBuffer()[0] = 1;
+        tripleBuffer.publish();
+        tripleBuffer.getWriteBuffer()[0] = 2;
+        tripleBuffer.publish();
+
+        // Test
+        tripleBuffer.acquireLatest();
+
+        // Verify
+        Assertions.assertEquals(2, tripleBuffer.getReadBuffer()[0]);
+    }
+
+    @Test
+    void writerNeverWritesToTheReadBuffer() {
+        // Setup
+        tripleBuffer.publish();
+        tripleBuffer.acquireLatest();
+
+        // Test & Verify
+        for (var i = 0; i < 5; i++) {
+            Assertions.assertNotSame(tripleBuffer.getReadBuffer(), tripleBuffer.getWriteBuffer());
+            tripleBuffer.publish();
+        }
+    }
+}
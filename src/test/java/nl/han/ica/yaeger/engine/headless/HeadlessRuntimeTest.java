@@ -0,0 +1,127 @@
+package nl.han.ica.yaeger.engine.headless;
+
+import com.google.inject.Injector;
+import javafx.scene.Node;
+import javafx.scene.shape.Rectangle;
+import nl.han.ica.yaeger.engine.entities.entity.Entity;
+import nl.han.ica.yaeger.engine.entities.entity.Position;
+import nl.han.ica.yaeger.engine.entities.entity.Updatable;
+import nl.han.ica.yaeger.engine.scenes.impl.DynamicScene;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HeadlessRuntimeTest {
+
+    private HeadlessRuntime headlessRuntime;
+    private CountingEntity countingEntity;
+
+    @BeforeEach
+    void setup() {
+        headlessRuntime = new HeadlessRuntime();
+        countingEntity = new CountingEntity();
+    }
+
+    @AfterEach
+    void tearDown() {
+        headlessRuntime.destroy();
+    }
+
+    @Test
+    void activatedSceneIsUpdatedOncePerFrame() {
+        // Setup
+        headlessRuntime.activate(new TestDynamicScene(countingEntity));
+
+        // Test
+        var frames = headlessRuntime.runFrames(100);
+
+        // Verify
+        Assertions.assertEquals(100, frames);
+        Assertions.assertEquals(100, countingEntity.updates);
+    }
+
+    @Test
+    void timestampsFollowTheVirtualClock() {
+        // Setup
+        headlessRuntime.activate(new TestDynamicScene(countingEntity));
+
+        // Test
+        headlessRuntime.runFrames(60);
+
+        // Verify
+        Assertions.assertEquals(60 * HeadlessRuntime.DEFAULT_FRAME_NANOS, headlessRuntime.getClock().now());
+        Assertions.assertEquals(headlessRuntime.getClock().now(), countingEntity.lastTimestamp, 60);
+    }
+
+    @Test
+    void destroyStopsTheSimulation() {
+        // Setup
+        headlessRuntime.activate(new TestDynamicScene(countingEntity));
+
+        // Test
+        headlessRuntime.destroy();
+        var frames = headlessRuntime.runFrames(10);
+
+        // Verify
+        Assertions.assertEquals(0, frames);
+        Assertions.assertNull(headlessRuntime.getActiveScene());
+    }
+
+    private static class TestDynamicScene extends DynamicScene {
+
+        private final Entity entity;
+
+        TestDynamicScene(Entity entity) {
+            this.entity = entity;
+        }
+
+        @Override
+        protected void setupSpawners() {
+            // Not required here.
+        }
+
+        @Override
+        public void setupScene() {
+            // Not required here.
+        }
+
+        @Override
+        public void setupEntities() {
+            addEntity(entity);
+        }
+    }
+
+    private static class CountingEntity implements Entity, Updatable {
+
+        private final Rectangle rectangle = new Rectangle(10, 10);
+        private int updates;
+        private long lastTimestamp;
+
+        @Override
+        public void update(long timestamp) {
+            updates++;
+            lastTimestamp = timestamp;
+        }
+
+        @Override
+        public void remove() {
+            // Not required here.
+        }
+
+        @Override
+        public Node getGameNode() {
+            return rectangle;
+        }
+
+        @Override
+        public Position getPosition() {
+            return new Position(rectangle.getX(), rectangle.getY());
+        }
+
+        @Override
+        public void init(Injector injector) {
+            // Not required here.
+        }
+    }
+}
@@ -6,6 +6,10 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import static org.mockito.Mockito.*;
 
 class ImageRepositoryTest {
@@ -18,6 +22,7 @@ class ImageRepositoryTest {
         imageRepository = new ImageRepository();
         imageFactory = mock(ImageFactory.class);
         imageRepository.setFactory(imageFactory);
+        imageRepository.setExecutor(Runnable::run);
     }
 
     @Test
@@ -109,5 +114,232 @@ class ImageRepositoryTest {
         Assertions.assertSame(firstImage, secondImage);
         Assertions.assertEquals(1, imageRepository.size());
     }
-}
 
+    @Test
+    void getAsyncReturnsACompletedFutureForALoadedImage() {
+        // Setup
+        Image image = mock(Image.class);
+        when(imageFactory.create(anyString())).thenReturn(image);
+        imageRepository.get("images/bubble.png");
+
+        // Test
+        var future = imageRepository.getAsync("images/bubble.png");
+
+        // Verify
+        Assertions.assertTrue(future.isDone());
+        Assertions.assertSame(image, future.join());
+        verify(imageFactory, times(1)).create(anyString());
+    }
+
+    @Test
+    void getAsyncDecodesTheImageOnTheExecutor() {
+        // Setup
+        List<Runnable> tasks = new ArrayList<>();
+        imageRepository.setExecutor(tasks::add);
+        Image image = mock(Image.class);
+        when(imageFactory.create(anyString(), anyDouble(), anyDouble(), anyBoolean())).thenReturn(image);
+
+        // Test
+        var future = imageRepository.getAsync("images/bubble.png", 20, 20, true);
+
+        // Verify
+        Assertions.assertFalse(future.isDone());
+        tasks.forEach(Runnable::run);
+        Assertions.assertSame(image, future.join());
+        Assertions.assertEquals(1, imageRepository.size());
+    }
+
+    @Test
+    void getAsyncForAnImageThatIsBeingDecodedDecodesOnlyOnce() {
+        // Setup
+        List<Runnable> tasks = new ArrayList<>();
+        imageRepository.setExecutor(tasks::add);
+        Image image = mock(Image.class);
+        when(imageFactory.create(anyString())).thenReturn(image);
+
+        // Test
+        var first = imageRepository.getAsync("images/bubble.png");
+        var second = imageRepository.getAsync("images/bubble.png");
+
+        // Verify
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, tasks.size());
+    }
+
+    @Test
+    void getReturnsAnImageThatWasLoadedAsynchronously() {
+        // Setup
+        List<Runnable> tasks = new ArrayList<>();
+        imageRepository.setExecutor(tasks::add);
+        Image image = mock(Image.class);
+        when(imageFactory.create(anyString())).thenReturn(image);
+        imageRepository.getAsync("images/bubble.png");
+        tasks.forEach(Runnable::run);
+
+        // Test
+        Image loadedImage = imageRepository.get("images/bubble.png");
+
+        // Verify
+        Assertions.assertSame(image, loadedImage);
+        verify(imageFactory, times(1)).create(anyString());
+    }
+
+    @Test
+    void getAsyncForAnImageThatIsBeingDecodedByGetDecodesOnlyOnce() {
+        // Setup
+        List<Runnable> tasks = new ArrayList<>();
+        imageRepository.setExecutor(tasks::add);
+        Image image = mock(Image.class);
+        List<CompletableFuture<Image>> futures = new ArrayList<>();
+        when(imageFactory.create(anyString())).thenAnswer(invocation -> {
+            futures.add(imageRepository.getAsync("images/bubble.png"));
+            return image;
+        });
+
+        // Test
+        Image loadedImage = imageRepository.get("images/bubble.png");
+
+        // Verify
+        Assertions.assertSame(image, loadedImage);
+        Assertions.assertTrue(tasks.isEmpty());
+        Assertions.assertSame(image, futures.get(0).join());
+        verify(imageFactory, times(1)).create(anyString());
+    }
+
+    @Test
+    void requestForAnImageThatIsBeingDecodedIsNotCountedAsAMiss() {
+        // Setup
+        List<Runnable> tasks = new ArrayList<>();
+        imageRepository.setExecutor(tasks::add);
+        when(imageFactory.create(anyString())).thenReturn(mock(Image.class));
+
+        // Test
+        imageRepository.getAsync("images/bubble.png");
+        imageRepository.getAsync("images/bubble.png");
+
+        // Verify
+        Assertions.assertEquals(1, imageRepository.getMisses());
+        Assertions.assertEquals(0, imageRepository.getHits());
+    }
+
+    @Test
+    void imageThatIsDecodedAfterDestroyIsNotCached() {
+        // Setup
+        List<Runnable> tasks = new ArrayList<>();
+        imageRepository.setExecutor(tasks::add);
+        Image image = mock(Image.class);
+        when(imageFactory.create(anyString())).thenReturn(image);
+        var future = imageRepository.getAsync("images/bubble.png");
+
+        // Test
+        imageRepository.destroy();
+        tasks.forEach(Runnable::run);
+
+        // Verify
+        Assertions.assertSame(image, future.join());
+        Assertions.assertEquals(0, imageRepository.size());
+    }
+
+    @Test
+    void preloadLoadsAllImagesAndReportsProgress() {
+        // Setup
+        when(imageFactory.create(anyString())).thenReturn(mock(Image.class));
+        when(imageFactory.create(anyString(), anyDouble(), anyDouble(), anyBoolean())).thenReturn(mock(Image.class));
+        var manifest = new PreloadManifest()
+                .add("images/bubble.png")
+                .add("images/poison.png", 20, 20);
+        List<String> progress = new ArrayList<>();
+
+        // Test
+        var future = imageRepository.preload(manifest, (loaded, total) -> progress.add(loaded + "/" + total));
+
+        // Verify
+        Assertions.assertTrue(future.isDone());
+        Assertions.assertEquals(List.of("1/2", "2/2"), progress);
+        Assertions.assertEquals(2, imageRepository.size());
+    }
+
+    @Test
+    void imagesOfAPreviousSceneAreEvictedWhenTheBudgetIsExceeded() {
+        // Setup
+        Image bubble = mock(Image.class);
+        when(bubble.getWidth()).thenReturn(10d);
+        when(bubble.getHeight()).thenReturn(10d);
+        Image poison = mock(Image.class);
+        when(poison.getWidth()).thenReturn(10d);
+        when(poison.getHeight()).thenReturn(10d);
+        when(imageFactory.create(anyString())).thenReturn(bubble, poison);
+        imageRepository.setMaxBytes(500);
+        imageRepository.get("images/bubble.png");
+        imageRepository.unpinAll();
+
+        // Test
+        imageRepository.get("images/poison.png");
+
+        // Verify
+        Assertions.assertEquals(1, imageRepository.size());
+        Assertions.assertEquals(400, imageRepository.getBytes());
+        Assertions.assertEquals(1, imageRepository.getEvictions());
+        Assertions.assertEquals(2, imageRepository.getMisses());
+    }
+
+    @Test
+    void preloadedImagesAreNotEvicted() {
+        // Setup
+        Image bubble = mock(Image.class);
+        when(bubble.getWidth()).thenReturn(10d);
+        when(bubble.getHeight()).thenReturn(10d);
+        Image poison = mock(Image.class);
+        when(poison.getWidth()).thenReturn(10d);
+        when(poison.getHeight()).thenReturn(10d);
+        when(imageFactory.create(anyString())).thenReturn(bubble, poison);
+        imageRepository.setMaxBytes(500);
+        imageRepository.preload(new PreloadManifest().add("images/bubble.png"), (loaded, total) -> {
+        });
+
+        // Test
+        imageRepository.get("images/poison.png");
+
+        // Verify
+        Assertions.assertEquals(1, imageRepository.size());
+        Assertions.assertEquals(1, imageRepository.getEvictions());
+        Assertions.assertSame(bubble, imageRepository.get("images/bubble.png"));
+    }
+
+    @Test
+    void imagesThatAreLoadedAtRunTimeAreNotPinned() {
+        // Setup
+        Image bubble = mock(Image.class);
+        when(bubble.getWidth()).thenReturn(10d);
+        when(bubble.getHeight()).thenReturn(10d);
+        Image poison = mock(Image.class);
+        when(poison.getWidth()).thenReturn(10d);
+        when(poison.getHeight()).thenReturn(10d);
+        when(imageFactory.create(anyString())).thenReturn(bubble, poison);
+        imageRepository.setMaxBytes(500);
+        imageRepository.get("images/bubble.png");
+        imageRepository.get("images/bubble.png");
+
+        // Test
+        imageRepository.get("images/poison.png");
+
+        // Verify
+        Assertions.assertEquals(1, imageRepository.size());
+        Assertions.assertEquals(400, imageRepository.getBytes());
+        Assertions.assertEquals(1, imageRepository.getEvictions());
+    }
+
+    @Test
+    void callingGetTwiceCountsAHit() {
+        // Setup
+        when(imageFactory.create(anyString())).thenReturn(mock(Image.class));
+
+        // Test
+        imageRepository.get("images/bubble.png");
+        imageRepository.get("images/bubble.png");
+
+        // Verify
+        Assertions.assertEquals(1, imageRepository.getHits());
+        Assertions.assertEquals(1, imageRepository.getMisses());
+    }
+}
@@ -0,0 +1,149 @@
+package nl.han.ica.yaeger.engine.media.repositories;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ResourceCacheTest {
+
+    private ResourceCache<String> cache;
+
+    @BeforeEach
+    void setup() {
+        cache = new ResourceCache<>(String::length, 10);
+    }
+
+    @Test
+    void getCountsHitsAndMisses() {
+        // Setup
+        cache.put("a", "aaa");
+
+        // Test
+        var hit = cache.get("a");
+        var miss = cache.get("b");
+
+        // Verify
+        Assertions.assertEquals("aaa", hit);
+        Assertions.assertNull(miss);
+        Assertions.assertEquals(1, cache.getHits());
+        Assertions.assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void putAddsTheWeightOfTheResource() {
+        // Test
+        cache.put("a", "aaa");
+        cache.put("b", "bb");
+
+        // Verify
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(5, cache.getWeight());
+    }
+
+    @Test
+    void unpinnedResourcesAreEvictedWhenTheBudgetIsExceeded() {
+        // Setup
+        cache.put("a", "aaaaaa");
+        cache.get("a");
+
+        // Test
+        cache.put("b", "bbbbbb");
+
+        // Verify
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertEquals(6, cache.getWeight());
+        Assertions.assertEquals(1, cache.getEvictions());
+        Assertions.assertNull(cache.get("a"));
+    }
+
+    @Test
+    void pinnedResourcesAreNotEvicted() {
+        // Setup
+        cache.pin("a");
+        cache.pin("b");
+
+        // Test
+        cache.put("a", "aaaaaa");
+        cache.put("b", "bbbbbb");
+
+        // Verify
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(12, cache.getWeight());
+        Assertions.assertEquals(0, cache.getEvictions());
+    }
+
+    @Test
+    void unpinAllEvictsTheLeastRecentlyUsedResources() {
+        // Setup
+        cache.pin("a");
+        cache.pin("b");
+        cache.pin("c");
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        cache.put("c", "cccc");
+        cache.get("a");
+
+        // Test
+        cache.unpinAll();
+
+        // Verify
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(8, cache.getWeight());
+        Assertions.assertEquals(1, cache.getEvictions());
+        Assertions.assertNull(cache.get("b"));
+        Assertions.assertEquals("aaaa", cache.get("a"));
+    }
+
+    @Test
+    void resourcesThatArePinnedAgainAfterUnpinningAreNotEvicted() {
+        // Setup
+        cache.pin("a");
+        cache.pin("b");
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        cache.unpinAll();
+        cache.pin("a");
+
+        // Test
+        cache.put("c", "cccc");
+
+        // Verify
+        Assertions.assertEquals("aaaa", cache.get("a"));
+        Assertions.assertNull(cache.get("b"));
+        Assertions.assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    void loweringTheBudgetEvictsUnpinnedResources() {
+        // Setup
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+
+        // Test
+        cache.setBudget(0);
+
+        // Verify
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(0, cache.getWeight());
+        Assertions.assertEquals(2, cache.getEvictions());
+    }
+
+    @Test
+    void negativeBudgetIsRejected() {
+        // Test & Verify
+        Assertions.assertThrows(IllegalArgumentException.class, () -> cache.setBudget(-1));
+    }
+
+    @Test
+    void clearRemovesAllResources() {
+        // Setup
+        cache.put("a", "aaaa");
+
+        // Test
+        cache.clear();
+
+        // Verify
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(0, cache.getWeight());
+    }
+}
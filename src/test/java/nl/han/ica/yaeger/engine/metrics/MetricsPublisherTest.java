@@ -0,0 +1,80 @@
+package nl.han.ica.yaeger.engine.metrics;
+
+import nl.han.ica.yaeger.engine.debug.StatisticsObservable;
+import nl.han.ica.yaeger.engine.media.repositories.AudioRepository;
+import nl.han.ica.yaeger.engine.media.repositories.ImageRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class MetricsPublisherTest {
+
+    private static final String SCENE_NAME = "TestScene";
+
+    private MBeanServer mBeanServer;
+    private StatisticsObservable observable;
+    private ObjectName objectName;
+    private MetricsPublisher sut;
+
+    @BeforeEach
+    void setup() throws Exception {
+        mBeanServer = MBeanServerFactory.newMBeanServer();
+        observable = mock(StatisticsObservable.class);
+        objectName = new ObjectName(MetricsPublisher.DOMAIN + ":type=Scene,name=" + ObjectName.quote(SCENE_NAME));
+
+        sut = new MetricsPublisher(mBeanServer);
+        sut.setAudioRepository(mock(AudioRepository.class));
+        sut.setImageRepository(mock(ImageRepository.class));
+    }
+
+    @Test
+    void publishRegistersTheMBeanAndObservesTheStatistics() throws Exception {
+        // Test
+        sut.publish(SCENE_NAME, observable);
+
+        // Verify
+        Assertions.assertTrue(mBeanServer.isRegistered(objectName));
+        Assertions.assertEquals(0, mBeanServer.getAttribute(objectName, "Updatables"));
+        verify(observable).addStatisticsObserver(any(SceneMetrics.class));
+    }
+
+    @Test
+    void unpublishUnregistersTheMBean() {
+        // Setup
+        sut.publish(SCENE_NAME, observable);
+
+        // Test
+        sut.unpublish();
+
+        // Verify
+        Assertions.assertFalse(mBeanServer.isRegistered(objectName));
+        verify(observable).removeStatisticsObserver(any(SceneMetrics.class));
+    }
+
+    @Test
+    void publishingTwiceReplacesThePreviousMBean() {
+        // Setup
+        var other = new MetricsPublisher(mBeanServer);
+        other.publish(SCENE_NAME, mock(StatisticsObservable.class));
+
+        // Test
+        sut.publish(SCENE_NAME, observable);
+
+        // Verify
+        Assertions.assertTrue(mBeanServer.isRegistered(objectName));
+    }
+
+    @Test
+    void unpublishWithoutPublishDoesNothing() {
+        // Test & Verify
+        Assertions.assertDoesNotThrow(sut::unpublish);
+    }
+}
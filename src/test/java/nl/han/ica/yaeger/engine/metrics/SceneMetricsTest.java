@@ -0,0 +1,67 @@
+package nl.han.ica.yaeger.engine.metrics;
+
+import nl.han.ica.yaeger.engine.entities.EntityCollectionStatistics;
+import nl.han.ica.yaeger.engine.entities.UpdatePhase;
+import nl.han.ica.yaeger.engine.media.repositories.AudioRepository;
+import nl.han.ica.yaeger.engine.media.repositories.ImageRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SceneMetricsTest {
+
+    private EntityCollectionStatistics statistics;
+    private SceneMetrics sut;
+
+    @BeforeEach
+    void setup() {
+        var audioRepository = mock(AudioRepository.class);
+        var imageRepository = mock(ImageRepository.class);
+        when(audioRepository.size()).thenReturn(2);
+        when(imageRepository.size()).thenReturn(3);
+        when(imageRepository.getHits()).thenReturn(11L);
+        when(imageRepository.getEvictions()).thenReturn(4L);
+
+        statistics = new EntityCollectionStatistics();
+        sut = new SceneMetrics(audioRepository, imageRepository);
+    }
+
+    @Test
+    void updateCopiesTheStatistics() {
+        // Setup
+        statistics.setUpdatables(5);
+        statistics.recordSpawned(7);
+        statistics.recordTiming(UpdatePhase.CHECK_COLLISIONS, 4_000);
+
+        // Test
+        sut.update(statistics, 0);
+
+        // Verify
+        Assertions.assertEquals(5, sut.getUpdatables());
+        Assertions.assertEquals(7, sut.getSpawnedEntities());
+        Assertions.assertEquals(2, sut.getAudioFiles());
+        Assertions.assertEquals(3, sut.getImageFiles());
+        Assertions.assertEquals(11, sut.getImageCacheHits());
+        Assertions.assertEquals(4, sut.getImageCacheEvictions());
+        Assertions.assertEquals(4, sut.getPhaseAverageMicros().get(UpdatePhase.CHECK_COLLISIONS.name()), 0.5);
+    }
+
+    @Test
+    void updateIsThrottledToTheSampleInterval() {
+        // Setup
+        sut.update(statistics, 0);
+        statistics.setUpdatables(5);
+
+        // Test
+        sut.update(statistics, SceneMetrics.SAMPLE_INTERVAL_NANOS - 1);
+        var throttled = sut.getUpdatables();
+        sut.update(statistics, SceneMetrics.SAMPLE_INTERVAL_NANOS);
+
+        // Verify
+        Assertions.assertEquals(0, throttled);
+        Assertions.assertEquals(5, sut.getUpdatables());
+    }
+}
@@ -8,9 +8,14 @@ import nl.han.ica.yaeger.engine.debug.Debugger;
 import nl.han.ica.yaeger.engine.entities.EntityCollection;
 import nl.han.ica.yaeger.engine.entities.EntitySpawner;
 import nl.han.ica.yaeger.engine.entities.EntitySupplier;
+import nl.han.ica.yaeger.engine.gameloop.FixedTimestep;
+import nl.han.ica.yaeger.engine.gameloop.GameLoop;
+import nl.han.ica.yaeger.engine.media.repositories.ImageRepository;
+import nl.han.ica.yaeger.engine.metrics.MetricsPublisher;
 import nl.han.ica.yaeger.engine.scenes.delegates.BackgroundDelegate;
 import nl.han.ica.yaeger.engine.scenes.delegates.KeyListenerDelegate;
 import nl.han.ica.yaeger.module.factories.EntityCollectionFactory;
+import nl.han.ica.yaeger.module.factories.GameLoopFactory;
 import nl.han.ica.yaeger.module.factories.SceneFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,7 +30,11 @@ class DynamicSceneTest {
     private TestDynamicScene testScene;
     private SceneFactory sceneFactory;
     private Debugger debugger;
+    private MetricsPublisher metricsPublisher;
+    private ImageRepository imageRepository;
     private EntityCollectionFactory entityCollectionFactory;
+    private GameLoopFactory gameLoopFactory;
+    private GameLoop gameLoop;
 
     private KeyListenerDelegate keyListenerDelegate;
     private BackgroundDelegate backgroundDelegate;
@@ -45,15 +54,23 @@ class DynamicSceneTest {
         entitySupplier = mock(EntitySupplier.class);
         sceneFactory = mock(SceneFactory.class);
         debugger = mock(Debugger.class);
+        metricsPublisher = mock(MetricsPublisher.class);
+        imageRepository = mock(ImageRepository.class);
         entityCollectionFactory = mock(EntityCollectionFactory.class);
+        gameLoopFactory = mock(GameLoopFactory.class);
+        gameLoop = mock(GameLoop.class);
+        when(gameLoopFactory.create()).thenReturn(gameLoop);
 
         testScene.setDebugger(debugger);
+        testScene.setMetricsPublisher(metricsPublisher);
+        testScene.setImageRepository(imageRepository);
         testScene.setSceneFactory(sceneFactory);
         testScene.setEntityCollectionFactory(entityCollectionFactory);
         testScene.setRoot(root);
         testScene.setBackgroundDelegate(backgroundDelegate);
         testScene.setKeyListenerDelegate(keyListenerDelegate);
         testScene.setEntitySupplier(entitySupplier);
+        testScene.setGameLoopFactory(gameLoopFactory);
 
         scene = mock(Scene.class);
         entityCollection = mock(EntityCollection.class);
@@ -114,6 +131,76 @@ class DynamicSceneTest {
         verify(entityCollection).notifyGameObjectsOfPressedKeys(input);
     }
 
+    @Test
+    void configureStartsTheGameLoop() {
+        // Test
+        testScene.configure();
+
+        // Verify
+        verify(gameLoop).start(any());
+    }
+
+    @Test
+    void destroyStopsTheGameLoop() {
+        // Setup
+        var children = mock(ObservableList.class);
+        when(root.getChildren()).thenReturn(children);
+        testScene.configure();
+
+        // Test
+        testScene.destroy();
+
+        // Verify
+        verify(gameLoop).stop();
+    }
+
+    @Test
+    void pulsesUpdateTheEntityCollectionAtTheTickRate() {
+        // Setup
+        testScene.configure();
+        testScene.setTicksPerSecond(100);
+
+        // Test
+        testScene.handlePulse(0);
+        testScene.handlePulse(25_000_000L);
+
+        // Verify
+        verify(entityCollection).update(0);
+        verify(entityCollection).update(10_000_000L);
+        verify(entityCollection).update(20_000_000L);
+        verify(entityCollection, times(3)).update(anyLong());
+        Assertions.assertEquals(0.5, testScene.getInterpolationAlpha(), 0.0001);
+    }
+
+    @Test
+    void pulsesRenderWithTheirTimestampAndTheInterpolationAlpha() {
+        // Setup
+        testScene.configure();
+        testScene.setTicksPerSecond(100);
+
+        // Test
+        testScene.handlePulse(0);
+        testScene.handlePulse(25_000_000L);
+
+        // Verify
+        verify(entityCollection).render(0, 0);
+        verify(entityCollection).render(25_000_000L, 0.5);
+    }
+
+    @Test
+    void simulationThreadIsOnlyEnabledAfterActivation() {
+        // Setup
+        testScene.configure();
+        testScene.setSimulationThreadEnabled(true);
+        verify(entityCollection, never()).setSimulationThreadEnabled(anyBoolean(), any(FixedTimestep.class));
+
+        // Test
+        testScene.postActivation();
+
+        // Verify
+        verify(entityCollection).setSimulationThreadEnabled(eq(true), any(FixedTimestep.class));
+    }
+
     private class TestDynamicScene extends DynamicScene {
 
         private boolean setupSpawnersCalled;
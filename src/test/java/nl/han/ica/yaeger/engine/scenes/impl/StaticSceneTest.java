@@ -7,16 +7,26 @@ import javafx.scene.input.KeyCode;
 import nl.han.ica.yaeger.engine.debug.Debugger;
 import nl.han.ica.yaeger.engine.entities.EntityCollection;
 import nl.han.ica.yaeger.engine.entities.EntitySupplier;
+import nl.han.ica.yaeger.engine.entities.collisions.CollisionStrategy;
 import nl.han.ica.yaeger.engine.entities.entity.Entity;
+import nl.han.ica.yaeger.engine.media.repositories.ImageRepository;
+import nl.han.ica.yaeger.engine.media.repositories.PreloadListener;
+import nl.han.ica.yaeger.engine.media.repositories.PreloadManifest;
+import nl.han.ica.yaeger.engine.metrics.MetricsPublisher;
+import nl.han.ica.yaeger.engine.scenes.delegates.ApplicationThreadDelegate;
 import nl.han.ica.yaeger.engine.scenes.delegates.BackgroundDelegate;
 import nl.han.ica.yaeger.engine.scenes.delegates.KeyListenerDelegate;
 import nl.han.ica.yaeger.engine.userinput.KeyListener;
 import nl.han.ica.yaeger.module.factories.EntityCollectionFactory;
 import nl.han.ica.yaeger.module.factories.SceneFactory;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static org.mockito.Mockito.*;
@@ -29,6 +39,8 @@ class StaticSceneTest {
     private KeyListenerDelegate keyListenerDelegate;
     private BackgroundDelegate backgroundDelegate;
     private Debugger debugger;
+    private MetricsPublisher metricsPublisher;
+    private ImageRepository imageRepository;
 
     private EntityCollection entityCollection;
     private EntitySupplier entitySupplier;
@@ -43,11 +55,15 @@ class StaticSceneTest {
         backgroundDelegate = mock(BackgroundDelegate.class);
         keyListenerDelegate = mock(KeyListenerDelegate.class);
         debugger = mock(Debugger.class);
+        metricsPublisher = mock(MetricsPublisher.class);
+        imageRepository = mock(ImageRepository.class);
         entitySupplier = mock(EntitySupplier.class);
         sceneFactory = mock(SceneFactory.class);
         entityCollectionFactory = mock(EntityCollectionFactory.class);
 
         testStaticScene.setDebugger(debugger);
+        testStaticScene.setMetricsPublisher(metricsPublisher);
+        testStaticScene.setImageRepository(imageRepository);
         testStaticScene.setSceneFactory(sceneFactory);
         testStaticScene.setEntityCollectionFactory(entityCollectionFactory);
         testStaticScene.setRoot(root);
@@ -110,7 +126,7 @@ class StaticSceneTest {
 
 
     @Test
-    void configureAddsTheDebuggerAsAStatisticsObserverToTheEntityCollection() {
+    void configureLetsTheDebuggerObserveTheEntityCollection() {
         // Setup
         var entityCollection = mock(EntityCollection.class);
         when(entityCollectionFactory.create(root)).thenReturn(entityCollection);
@@ -119,7 +135,56 @@ class StaticSceneTest {
         testStaticScene.configure();
 
         // Verify
-        verify(entityCollection).addStatisticsObserver(debugger);
+        verify(debugger).observe(entityCollection);
+    }
+
+    @Test
+    void configurePublishesTheMetricsOfTheEntityCollection() {
+        // Test
+        testStaticScene.configure();
+
+        // Verify
+        verify(metricsPublisher).publish(TestStaticScene.class.getName(), entityCollection);
+    }
+
+    @Test
+    void destroyUnpublishesTheMetrics() {
+        // Setup
+        var children = mock(ObservableList.class);
+        when(root.getChildren()).thenReturn(children);
+        testStaticScene.configure();
+
+        // Test
+        testStaticScene.destroy();
+
+        // Verify
+        verify(metricsPublisher).unpublish();
+    }
+
+    @Test
+    void configurePassesTheInjectedCollisionStrategyToTheEntityCollection() {
+        // Setup
+        var collisionStrategy = mock(CollisionStrategy.class);
+        testStaticScene.setCollisionStrategy(collisionStrategy);
+
+        // Test
+        testStaticScene.configure();
+
+        // Verify
+        verify(entityCollection).setCollisionStrategy(collisionStrategy);
+    }
+
+    @Test
+    void collisionStrategySetAfterConfigureIsPassedToTheEntityCollection() {
+        // Setup
+        var collisionStrategy = mock(CollisionStrategy.class);
+        testStaticScene.configure();
+
+        // Test
+        testStaticScene.setCollisionStrategy(collisionStrategy);
+
+        // Verify
+        verify(entityCollection).setCollisionStrategy(collisionStrategy);
     }
 
     @Test
@@ -139,6 +204,21 @@ class StaticSceneTest {
         verify(children).clear();
     }
 
+    @Test
+    void destroyUnpinsTheResourcesOfTheScene() {
+        // Setup
+        var children = mock(ObservableList.class);
+        when(root.getChildren()).thenReturn(children);
+
+        testStaticScene.configure();
+
+        // Test
+        testStaticScene.destroy();
+
+        // Verify
+        verify(imageRepository).unpinAll();
+    }
+
     @Test
     void addEntityAddsTheEntitySupplier() {
         // Setup
@@ -168,6 +248,87 @@ class StaticSceneTest {
         verify(debugger).toggle();
     }
 
+    @Test
+    void configureWithoutAPreloadManifestDoesNotPreload() {
+        // Setup
+
+        // Test
+        testStaticScene.configure();
+
+        // Verify
+        verifyNoMoreInteractions(imageRepository);
+    }
+
+    @Test
+    void configurePreloadsTheImagesOfThePreloadManifest() {
+        // Setup
+        var preloadingScene = new PreloadingStaticScene();
+        preloadingScene.setDebugger(debugger);
+        preloadingScene.setMetricsPublisher(metricsPublisher);
+        preloadingScene.setImageRepository(imageRepository);
+        preloadingScene.setSceneFactory(sceneFactory);
+        preloadingScene.setEntityCollectionFactory(entityCollectionFactory);
+        preloadingScene.setRoot(root);
+        preloadingScene.setBackgroundDelegate(backgroundDelegate);
+        preloadingScene.setKeyListenerDelegate(keyListenerDelegate);
+        preloadingScene.setEntitySupplier(entitySupplier);
+
+        // Test
+        preloadingScene.configure();
+
+        // Verify
+        verify(imageRepository).preload(any(PreloadManifest.class), any(PreloadListener.class));
+    }
+
+    @Test
+    void preloadProgressIsReportedOnTheApplicationThread() {
+        // Setup
+        var preloadingScene = new PreloadingStaticScene();
+        var applicationThreadDelegate = mock(ApplicationThreadDelegate.class);
+        preloadingScene.setDebugger(debugger);
+        preloadingScene.setMetricsPublisher(metricsPublisher);
+        preloadingScene.setImageRepository(imageRepository);
+        preloadingScene.setApplicationThreadDelegate(applicationThreadDelegate);
+        preloadingScene.setSceneFactory(sceneFactory);
+        preloadingScene.setEntityCollectionFactory(entityCollectionFactory);
+        preloadingScene.setRoot(root);
+        preloadingScene.setBackgroundDelegate(backgroundDelegate);
+        preloadingScene.setKeyListenerDelegate(keyListenerDelegate);
+        preloadingScene.setEntitySupplier(entitySupplier);
+        List<PreloadListener> listeners = new ArrayList<>();
+        when(imageRepository.preload(any(PreloadManifest.class), any(PreloadListener.class))).thenAnswer(invocation -> {
+            listeners.add(invocation.getArgument(1));
+            return null;
+        });
+        preloadingScene.configure();
+
+        // Test
+        listeners.get(0).onProgress(1, 1);
+        var reportedBeforeRunLater = new ArrayList<>(preloadingScene.progress);
+        var runnable = ArgumentCaptor.forClass(Runnable.class);
+        verify(applicationThreadDelegate).runLater(runnable.capture());
+        runnable.getValue().run();
+
+        // Verify
+        Assertions.assertTrue(reportedBeforeRunLater.isEmpty());
+        Assertions.assertEquals(List.of("1/1"), preloadingScene.progress);
+    }
+
+    private class PreloadingStaticScene extends TestStaticScene {
+
+        private final List<String> progress = new ArrayList<>();
+
+        @Override
+        protected void setupPreloadManifest(PreloadManifest manifest) {
+            manifest.add("images/bubble.png", 20, 20);
+        }
+
+        @Override
+        protected void onPreloadProgress(int loaded, int total) {
+            progress.add(loaded + "/" + total);
+        }
+    }
+
     private class TestStaticScene extends StaticScene {
 
         @Override
@@ -0,0 +1,88 @@
+package nl.han.ica.yaeger.benchmarks;
+
+import com.google.inject.Injector;
+import javafx.scene.Node;
+import javafx.scene.shape.Rectangle;
+import nl.han.ica.yaeger.engine.entities.collisions.Collidable;
+import nl.han.ica.yaeger.engine.entities.collisions.Collider;
+import nl.han.ica.yaeger.engine.entities.collisions.CollisionSide;
+import nl.han.ica.yaeger.engine.entities.entity.Entity;
+import nl.han.ica.yaeger.engine.entities.entity.Position;
+import nl.han.ica.yaeger.engine.entities.entity.Updatable;
+
+/**
+ * A {@code BenchmarkEntity} is a small square that moves back and forth within a world and collides with other
+ * instances of {@code BenchmarkEntity}. It is backed by a plain {@link Rectangle}, so it does not need any images.
+ */
+class BenchmarkEntity implements Entity, Updatable, Collidable {
+
+    static final double SIZE = 8;
+
+    private final Rectangle rectangle;
+    private final double worldSize;
+    private double speed;
+    private int collisions;
+
+    /**
+     * Create a new {@code BenchmarkEntity}.
+     *
+     * @param x         the initial x-coordinate
+     * @param y         the initial y-coordinate
+     * @param speed     the horizontal speed in pixels per update
+     * @param worldSize the width of the world, at which the {@code BenchmarkEntity} turns around
+     */
+    BenchmarkEntity(double x, double y, double speed, double worldSize) {
+        this.rectangle = new Rectangle(x, y, SIZE, SIZE);
+        this.speed = speed;
+        this.worldSize = worldSize;
+    }
+
+    /**
+     * Move this {@code BenchmarkEntity} one step.
+     */
+    void move() {
+        var x = rectangle.getX() + speed;
+        if (x < 0 || x + SIZE > worldSize) {
+            speed = -speed;
+            x = rectangle.getX() + speed;
+        }
+        rectangle.setX(x);
+    }
+
+    /**
+     * @return the number of collisions this {@code BenchmarkEntity} has been notified of
+     */
+    int getCollisions() {
+        return collisions;
+    }
+
+    @Override
+    public void update(long timestamp) {
+        move();
+    }
+
+    @Override
+    public void onCollision(Collider collidingObject, CollisionSide collisionSide) {
+        collisions++;
+    }
+
+    @Override
+    public Node getGameNode() {
+        return rectangle;
+    }
+
+    @Override
+    public Position getPosition() {
+        return new Position(rectangle.getX(), rectangle.getY());
+    }
+
+    @Override
+    public void remove() {
+        notifyRemove();
+    }
+
+    @Override
+    public void init(Injector injector) {
+        // Not required here.
+    }
+}
@@ -0,0 +1,34 @@
+package nl.han.ica.yaeger.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The entry point of the benchmark jar. It accepts the same arguments as the JMH command line, but always adds the
+ * {@link GCProfiler}, so every run also reports the allocation rate per operation.
+ */
+public final class Benchmarks {
+
+    private Benchmarks() {
+    }
+
+    /**
+     * Run the benchmarks.
+     *
+     * @param args the JMH command line arguments, for example a regular expression that selects the benchmarks
+     * @throws CommandLineOptionException if the arguments are invalid
+     * @throws RunnerException           if a benchmark fails
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        var options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(options).run();
+    }
+}
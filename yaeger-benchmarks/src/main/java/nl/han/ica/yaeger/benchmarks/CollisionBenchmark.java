@@ -0,0 +1,81 @@
+package nl.han.ica.yaeger.benchmarks;
+
+import nl.han.ica.yaeger.engine.entities.collisions.BruteForceCollisionStrategy;
+import nl.han.ica.yaeger.engine.entities.collisions.CollisionDelegate;
+import nl.han.ica.yaeger.engine.entities.collisions.CollisionStrategy;
+import nl.han.ica.yaeger.engine.entities.collisions.SpatialHashCollisionStrategy;
+import nl.han.ica.yaeger.engine.entities.collisions.SweepAndPruneCollisionStrategy;
+import nl.han.ica.yaeger.engine.entities.entity.Entity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of {@link CollisionDelegate#checkCollisions()} for a frame in which all entities have moved.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang=ALL-UNNAMED")
+public class CollisionBenchmark {
+
+    private static final long SEED = 42;
+
+    @Param({"100", "1000", "10000"})
+    private int entityCount;
+
+    @Param({"brute-force", "spatial-hash", "sweep-and-prune"})
+    private String strategy;
+
+    private final List<BenchmarkEntity> entities = new ArrayList<>();
+    private CollisionDelegate collisionDelegate;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        collisionDelegate = new CollisionDelegate(createStrategy());
+
+        var random = new Random(SEED);
+        var worldSize = Math.sqrt(entityCount) * BenchmarkEntity.SIZE * 4;
+        for (var i = 0; i < entityCount; i++) {
+            var entity = new BenchmarkEntity(random.nextDouble() * (worldSize - BenchmarkEntity.SIZE),
+                    random.nextDouble() * (worldSize - BenchmarkEntity.SIZE), random.nextDouble() * 4 - 2, worldSize);
+            entities.add(entity);
+            collisionDelegate.register((Entity) entity);
+        }
+    }
+
+    @Benchmark
+    public void checkCollisions() {
+        for (var i = 0; i < entities.size(); i++) {
+            entities.get(i).move();
+        }
+        collisionDelegate.checkCollisions();
+    }
+
+    private CollisionStrategy createStrategy() {
+        switch (strategy) {
+            case "spatial-hash":
+                return new SpatialHashCollisionStrategy();
+            case "sweep-and-prune":
+                return new SweepAndPruneCollisionStrategy();
+            default:
+                return new BruteForceCollisionStrategy();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package nl.han.ica.yaeger.benchmarks;
+
+import javafx.scene.Group;
+import nl.han.ica.yaeger.engine.entities.EntityCollection;
+import nl.han.ica.yaeger.engine.entities.EntitySupplier;
+import nl.han.ica.yaeger.engine.entities.collisions.SpatialHashCollisionStrategy;
+import nl.han.ica.yaeger.engine.headless.HeadlessRuntime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of a single {@link EntityCollection#update(long)}, which updates, collides and synchronizes all
+ * entities of a scene. The {@link EntityCollection} is set up with the injector of a {@link HeadlessRuntime}, so no
+ * display is needed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang=ALL-UNNAMED")
+public class EntityCollectionBenchmark {
+
+    private static final long SEED = 42;
+
+    @Param({"100", "1000", "10000"})
+    private int entityCount;
+
+    private EntityCollection entityCollection;
+    private long timestamp;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        entityCollection = new EntityCollection(new Group());
+        entityCollection.init(new HeadlessRuntime().getInjector());
+        entityCollection.setCollisionStrategy(new SpatialHashCollisionStrategy());
+
+        var supplier = new EntitySupplier();
+        var random = new Random(SEED);
+        var worldSize = Math.sqrt(entityCount) * BenchmarkEntity.SIZE * 4;
+        for (var i = 0; i < entityCount; i++) {
+            supplier.add(new BenchmarkEntity(random.nextDouble() * (worldSize - BenchmarkEntity.SIZE),
+                    random.nextDouble() * (worldSize - BenchmarkEntity.SIZE), random.nextDouble() * 4 - 2, worldSize));
+        }
+        entityCollection.registerSupplier(supplier);
+        entityCollection.initialUpdate();
+    }
+
+    @Benchmark
+    public void update() {
+        entityCollection.update(timestamp++);
+    }
+}
@@ -0,0 +1,56 @@
+package nl.han.ica.yaeger.benchmarks;
+
+import nl.han.ica.yaeger.engine.entities.EntitySupplier;
+import nl.han.ica.yaeger.engine.entities.entity.Entity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of filling an {@link EntitySupplier} and draining it with {@link EntitySupplier#get()}, which is
+ * what happens every frame for each registered spawner.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang=ALL-UNNAMED")
+public class EntitySupplierBenchmark {
+
+    @Param({"0", "1", "100"})
+    private int entityCount;
+
+    private final List<Entity> entities = new ArrayList<>();
+    private EntitySupplier entitySupplier;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        entitySupplier = new EntitySupplier();
+        for (var i = 0; i < entityCount; i++) {
+            entities.add(new BenchmarkEntity(i, i, 1, 1000));
+        }
+    }
+
+    @Benchmark
+    public Set<Entity> get() {
+        for (var i = 0; i < entities.size(); i++) {
+            entitySupplier.add(entities.get(i));
+        }
+        return entitySupplier.get();
+    }
+}
@@ -0,0 +1,68 @@
+package nl.han.ica.yaeger.benchmarks;
+
+import javafx.scene.image.Image;
+import nl.han.ica.yaeger.engine.headless.HeadlessImageFactory;
+import nl.han.ica.yaeger.engine.media.repositories.ImageRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of {@link ImageRepository#get(String, int, int, boolean)} for a cache hit and a cache miss. The
+ * {@link HeadlessImageFactory} is used, so a miss measures the bookkeeping of the repository and the creation of a
+ * blank in-memory image, not the decoding of a file.
+ *
+ * <p>
+ * The misses are measured on a separate {@link ImageRepository} with a budget of zero bytes, of which the images
+ * are unpinned after every call. Each image is therefore evicted before its key is requested again, so every call
+ * is a miss, regardless of how many keys are used.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang=ALL-UNNAMED")
+public class ImageRepositoryBenchmark {
+
+    private static final String URL = "images/bubble.png";
+    private static final int SIZE = 16;
+
+    private ImageRepository imageRepository;
+    private ImageRepository missRepository;
+    private int miss;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        imageRepository = new ImageRepository();
+        imageRepository.setFactory(new HeadlessImageFactory());
+        imageRepository.get(URL, SIZE, SIZE, true);
+
+        missRepository = new ImageRepository();
+        missRepository.setFactory(new HeadlessImageFactory());
+        missRepository.setMaxBytes(0);
+    }
+
+    @Benchmark
+    public Image hit() {
+        return imageRepository.get(URL, SIZE, SIZE, true);
+    }
+
+    @Benchmark
+    public Image miss() {
+        var image = missRepository.get(URL, SIZE, SIZE + (miss++ & 1023), true);
+        missRepository.unpinAll();
+        return image;
+    }
+}
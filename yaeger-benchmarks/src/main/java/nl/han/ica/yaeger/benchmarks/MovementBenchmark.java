@@ -0,0 +1,34 @@
+package nl.han.ica.yaeger.benchmarks;
+
+import javafx.geometry.Point2D;
+import nl.han.ica.yaeger.engine.entities.entity.sprites.Movement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of {@link Movement#getVector()}, which is called for every moving sprite on every frame.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang=ALL-UNNAMED")
+public class MovementBenchmark {
+
+    private final Movement movement = new Movement(37, 3);
+
+    @Benchmark
+    public Point2D getVector() {
+        return movement.getVector();
+    }
+}